@@ -0,0 +1,360 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.BuffType;
+import com.pgall.battle.enums.EquipmentEffect;
+import com.pgall.battle.enums.WeaponCategory;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import static com.pgall.battle.engine.BattleEvent.*;
+import static com.pgall.battle.engine.BattleEventType.*;
+
+/**
+ * 전투 규칙 엔진 (영속성 없음).
+ * 두 Combatant 스냅샷과 난수 생성기만으로 한 판을 진행하고 결과를 돌려준다.
+ * 실제 전투(BattleService)와 시뮬레이션(BattleSimulator)이 같은 규칙을 사용한다.
+ * 진행 과정은 BattleEvent로 sink에 발생 순서대로 흘려보내며, sink가 null이거나 LogVerbosity에서 빠진 이벤트는 만들지 않는다.
+ * 장비 효과는 EffectHandlers에 시점별로 등록되어 있고, EffectPlan으로 보유한 효과만 배열로 골라 실행한다.
+ */
+public final class BattleEngine {
+
+    public static final int MAX_ROUNDS = 20;
+
+    private final RandomGenerator random;
+    private final Consumer<BattleEvent> sink;
+    private final LogVerbosity verbosity;
+    /** 현재 라운드 */
+    private int round = 1;
+
+    /** 진행 중인 공격 한 번의 상태 (효과 핸들러와 공유) */
+    static final class Strike {
+        int attackCount;
+        boolean crit;
+        boolean avoided;
+        int elemental;
+        int damage;
+    }
+
+    final Strike strike = new Strike();
+    /** side 인덱스 → 전투 상태 */
+    private final Fighter[] fighters = new Fighter[2];
+
+    private BattleEngine(RandomGenerator random, Consumer<BattleEvent> sink, LogVerbosity verbosity) {
+        this.random = random;
+        this.sink = verbosity == LogVerbosity.NONE ? null : sink;
+        this.verbosity = verbosity;
+    }
+
+    /** 한 판 진행 (sink가 null이면 이벤트 기록 생략) */
+    public static BattleOutcome fight(Combatant attacker, Combatant defender, RandomGenerator random, Consumer<BattleEvent> sink) {
+        return fight(attacker, defender, random, sink, LogVerbosity.FULL);
+    }
+
+    /** 한 판 진행 (verbosity에 해당하는 이벤트만 만들어 sink로 보낸다) */
+    public static BattleOutcome fight(Combatant attacker, Combatant defender, RandomGenerator random,
+                                      Consumer<BattleEvent> sink, LogVerbosity verbosity) {
+        return new BattleEngine(random, sink, verbosity).run(EffectPlan.of(attacker, defender));
+    }
+
+    /** 미리 골라 둔 핸들러 표로 한 판 진행 (같은 대진 반복용, 이벤트 없음) */
+    static BattleOutcome fight(EffectPlan plan, RandomGenerator random) {
+        return new BattleEngine(random, null, LogVerbosity.NONE).run(plan);
+    }
+
+    /** 전투 시 최대 HP (기본 HP + CON 장비보너스*2 + ENDURANCE) - 난수와 무관하므로 전투 전에 알 수 있다 */
+    public static int effectiveMaxHp(CombatProfile profile) {
+        int hp = profile.getMaxHp();
+        if (profile.getBonusConstitution() > 0) hp += profile.getBonusConstitution() * 2;
+        int endurance = profile.value(EquipmentEffect.ENDURANCE);
+        if (endurance > 0) hp += endurance;
+        return hp;
+    }
+
+    private BattleOutcome run(EffectPlan plan) {
+        // CON 장비보너스와 ENDURANCE까지 반영한 최대 HP로 시작
+        Fighter atk = new Fighter(ATTACKER, plan.attacker);
+        Fighter def = new Fighter(DEFENDER, plan.defender);
+        atk.foe = def;
+        def.foe = atk;
+        fighters[ATTACKER] = atk;
+        fighters[DEFENDER] = def;
+
+        // === 전투 시작 ===
+        emit(START, NONE);
+        emit(INTRO, ATTACKER, DEFENDER, 0, NONE, atk.profile.getMaxHp(), def.profile.getMaxHp(), NONE, null);
+        if (atk.weapon != null) emit(WEAPON, ATTACKER);
+        if (def.weapon != null) emit(WEAPON, DEFENDER);
+
+        // 보유 물약 표시 (장착된 물약만) - 사용량은 결과로 돌려주고 스냅샷은 변경하지 않는다
+        if (hasPotions(atk.potions)) emit(POTIONS, ATTACKER);
+        if (hasPotions(def.potions)) emit(POTIONS, DEFENDER);
+
+        // 전투 시작 전 효과 적용
+        invoke(plan.preBattle);
+
+        // 이니셔티브
+        atk.initiative = roll(20) + mod(atk.profile.getDexterity());
+        def.initiative = roll(20) + mod(def.profile.getDexterity());
+        invoke(plan.initiative);
+        boolean attackerFirst = atk.initiative >= def.initiative;
+        emit(INITIATIVE, ATTACKER, DEFENDER, 0, NONE, atk.initiative, def.initiative, NONE, null);
+        emit(FIRST_STRIKE, attackerFirst ? ATTACKER : DEFENDER);
+
+        atk.bind(plan, attackerFirst);
+        def.bind(plan, attackerFirst);
+        Fighter first = attackerFirst ? atk : def;
+        Fighter second = first.foe;
+
+        while (atk.hp > 0 && def.hp > 0 && round <= MAX_ROUNDS) {
+            emit(ROUND, NONE, NONE, round);
+
+            // 물약 자동 사용 (치유: HP 25% 이하, 버프: 1라운드)
+            usePotions(atk);
+            usePotions(def);
+
+            takeTurn(first);
+            if (!survives(second)) break;
+            invoke(first.status);
+
+            takeTurn(second);
+            if (!survives(first)) break;
+            invoke(second.status);
+
+            // 라운드 종료 효과
+            // 출혈 데미지
+            bleed(atk);
+            bleed(def);
+            invoke(plan.endOfRound);
+
+            // 상태이상 해제 (1턴 후)
+            atk.clearStatus();
+            def.clearStatus();
+
+            round++;
+        }
+
+        // 결과
+        boolean attackerWon;
+        boolean timeout = false;
+        if (def.hp <= 0) attackerWon = true;
+        else if (atk.hp <= 0) attackerWon = false;
+        else {
+            timeout = true;
+            attackerWon = atk.hp >= def.hp;
+            emit(TIMEOUT, attackerWon ? ATTACKER : DEFENDER, attackerWon ? DEFENDER : ATTACKER, 0, NONE,
+                    Math.max(0, atk.hp), Math.max(0, def.hp), NONE, null);
+        }
+        invoke(plan.victory[attackerWon ? ATTACKER : DEFENDER]);
+
+        return new BattleOutcome(attackerWon, timeout, Math.min(round, MAX_ROUNDS),
+                atk.hp, def.hp, atk.maxHp, def.maxHp, atk.potionsUsed, def.potionsUsed);
+    }
+
+    /** 쓰러졌으면 부활 효과를 한 번 시도한다 (부활 효과는 전투당 한 번) */
+    private boolean survives(Fighter f) {
+        if (f.hp <= 0) {
+            invoke(f.onDeath);
+            f.onDeath = EffectHandlers.NONE_BOUND;
+        }
+        return f.hp > 0;
+    }
+
+    private void bleed(Fighter f) {
+        if (f.bleeding) { int bleed = 2; f.hp -= bleed; emit(BLEED_DAMAGE, f.side, NONE, bleed, Math.max(0, f.hp)); }
+    }
+
+    /** 한 캐릭터의 턴 처리 */
+    private void takeTurn(Fighter self) {
+        Fighter foe = self.foe;
+        if (self.stunned) {
+            emit(STUNNED, self.side);
+            return;
+        }
+        if (self.slowed && random.nextBoolean()) {
+            emit(DELAYED, self.side);
+            return;
+        }
+
+        strike.attackCount = 1;
+        invoke(self.turnStart);
+
+        int atkMod = self.disarmed ? 0 : self.attackMod;
+        int weaponHitBonus = self.disarmed ? 0 : self.hitBonus;
+        boolean shieldActive = self.buffsUsed.contains(BuffType.SHIELD);
+        boolean critDouble = self.buffsUsed.contains(BuffType.CRIT_DOUBLE);
+        // 흡수 보호막은 턴마다 처음 값으로 시작
+        int absorb = foe.absorb;
+
+        // 관통
+        int effectiveAC = Math.max(5, foe.ac - self.penetration);
+
+        for (int i = 0; i < strike.attackCount; i++) {
+            int attackRoll = roll(20);
+            boolean isNat20 = attackRoll == 20;
+            // CRITICAL_BOOST / LUCK은 critThreshold에 반영
+            strike.crit = isNat20 || (critDouble && attackRoll >= 19) || attackRoll >= self.critThreshold;
+
+            int totalAttack = attackRoll + atkMod + weaponHitBonus - self.debuff + self.accuracy;
+
+            if (isNat20 || totalAttack >= effectiveAC) {
+                // 방패
+                if (shieldActive) { emit(SHIELD_BLOCK, self.side, foe.side); shieldActive = false; continue; }
+                // BLOCK_CHANCE / EVASION / MANA_SHIELD
+                strike.avoided = false;
+                for (EffectHandlers.Bound b : self.onDefend) {
+                    b.handler().apply(this, fighters[b.owner()]);
+                    if (strike.avoided) break;
+                }
+                if (strike.avoided) continue;
+
+                // 데미지 계산
+                int damage = self.disarmed ? 1 : (rollWeaponDamage(self.weapon) + atkMod + self.profile.getWeaponAttack() - self.debuff);
+                damage += getClassDamageBonus(self.profile, self.weapon);
+                if (damage < 1) damage = 1;
+                if (strike.crit) { damage = (int)(damage * 1.5); emit(CRITICAL, self.side, foe.side); }
+                if (self.cursed) damage = (int)(damage * 0.7); // 허약 저주
+
+                // 원소 추가 데미지
+                strike.elemental = 0;
+                invoke(self.element);
+                damage += strike.elemental;
+
+                // IRON_SKIN (%), DAMAGE_REDUCTION + HEAVY_ARMOR
+                if (foe.ironSkin) damage = (int)(damage * 0.85);
+                damage = Math.max(1, damage - foe.damageReduction);
+
+                // 흡수 보호막
+                if (absorb > 0) {
+                    int absorbed = Math.min(absorb, damage);
+                    damage -= absorbed;
+                    absorb -= absorbed;
+                    if (absorbed > 0) emit(ABSORB, self.side, foe.side, absorbed);
+                }
+
+                foe.hp -= damage;
+                emit(HIT, self.side, foe.side, damage, Math.max(0, foe.hp), totalAttack, effectiveAC, NONE, null);
+
+                // EXECUTE, VORPAL, 흡혈, 반사/반격, CHAOS_STRIKE
+                strike.damage = damage;
+                invoke(self.onHit);
+
+                if (foe.hp <= 0) break;
+            } else {
+                emit(MISS, self.side, foe.side, 0, NONE, totalAttack, effectiveAC, NONE, null);
+            }
+        }
+    }
+
+    /** 물약 자동 사용 (potionsUsed[i]: i번째 물약 사용 횟수) */
+    private void usePotions(Fighter f) {
+        for (int i = 0; i < f.potions.size(); i++) {
+            Combatant.Potion potion = f.potions.get(i);
+            if (potion.quantity() - f.potionsUsed[i] <= 0) continue;
+            BuffType buff = potion.buffType();
+
+            if (buff.isHealType()) {
+                // 치유 물약: HP 25% 이하일 때 자동 사용
+                if (f.hp <= f.maxHp * 0.25 && f.hp > 0) {
+                    int heal = 5 + mod(f.profile.getConstitution());
+                    if (buff == BuffType.GREATER_HEAL) heal = 10 + mod(f.profile.getConstitution()) * 2;
+                    f.hp = Math.min(f.hp + heal, f.maxHp);
+                    f.potionsUsed[i]++;
+                    emit(POTION_HEAL, f.side, NONE, heal, f.hp, 0, 0, i, null);
+                }
+            } else {
+                // 버프 물약: 1라운드에 1회 사용
+                if (round == 1 && !f.buffsUsed.contains(buff)) {
+                    f.buffsUsed.add(buff);
+                    f.potionsUsed[i]++;
+                    emit(POTION_BUFF, f.side, NONE, 0, NONE, 0, 0, i, null);
+                }
+            }
+        }
+    }
+
+    private boolean hasPotions(List<Combatant.Potion> potions) {
+        for (Combatant.Potion potion : potions) {
+            if (potion.quantity() > 0) return true;
+        }
+        return false;
+    }
+
+    private void invoke(EffectHandlers.Bound[] handlers) {
+        for (EffectHandlers.Bound b : handlers) b.handler().apply(this, fighters[b.owner()]);
+    }
+
+    // ===== 이벤트 기록 (EffectHandlers에서도 사용) =====
+
+    void emit(BattleEventType type, int actor) {
+        emit(type, actor, NONE, 0, NONE);
+    }
+
+    void emit(BattleEventType type, int actor, int target) {
+        emit(type, actor, target, 0, NONE);
+    }
+
+    void emit(BattleEventType type, int actor, int target, int amount) {
+        emit(type, actor, target, amount, NONE);
+    }
+
+    void emit(BattleEventType type, int actor, int target, int amount, int hp) {
+        if (sink != null && verbosity.keeps(type)) sink.accept(BattleEvent.of(type, actor, target, amount, hp));
+    }
+
+    void emit(BattleEventType type, int actor, int target, int amount, int hp,
+              int value, int versus, int ref, EquipmentEffect effect) {
+        if (sink != null && verbosity.keeps(type)) sink.accept(new BattleEvent(type, actor, target, amount, hp, value, versus, ref, effect));
+    }
+
+    void emitElement(int side, EquipmentEffect element, int amount) {
+        emit(ELEMENT, side, 1 - side, amount, NONE, 0, 0, NONE, element);
+    }
+
+    // ===== 유틸리티 =====
+
+    /** 효과 확률 발동 체크 */
+    boolean proc(Fighter f, EquipmentEffect effect) {
+        return f.profile.has(effect) && random.nextInt(100) < f.profile.chance(effect);
+    }
+
+    int nextInt(int bound) { return random.nextInt(bound); }
+    int nextInt(int origin, int bound) { return random.nextInt(origin, bound); }
+
+    static int attackModifier(CombatProfile character, CombatProfile.Weapon weapon) {
+        if (weapon == null || weapon.scalingStat() == null) return mod(character.getStrength());
+        return switch (weapon.scalingStat()) {
+            case STR -> mod(character.getStrength()) + mod(character.getDexterity()); // 힘 + 민첩 보정
+            case DEX -> mod(character.getDexterity()) + 2;   // 민첩 무기 명중 보정
+            case INT -> mod(character.getIntelligence()) + 2; // 마법 무기 명중 보정
+            case WIS -> mod(character.getWisdom()) + 2;       // 신성 무기 명중 보정
+        };
+    }
+
+    private int rollWeaponDamage(CombatProfile.Weapon weapon) {
+        if (weapon == null || weapon.damageMax() == 0) return 1;
+        return random.nextInt(weapon.damageMin(), weapon.damageMax() + 1);
+    }
+
+    private int getClassDamageBonus(CombatProfile atk, CombatProfile.Weapon weapon) {
+        if (atk.getCharacterClass() == null) return 0;
+        return switch (atk.getCharacterClass()) {
+            case WARRIOR -> (weapon != null && weapon.category() != null
+                    && !weapon.category().isMagical()
+                    && weapon.category() != WeaponCategory.BOW) ? 2 : 0;
+            case ROGUE -> round == 1 ? random.nextInt(1, 7) : 0;
+            case MAGE -> (weapon != null && weapon.category() != null
+                    && weapon.category().isMagical()) ? 3 : 0;
+            case RANGER -> (weapon != null && weapon.category() == WeaponCategory.BOW) ? 2 : 0;
+            case CLERIC -> (weapon != null && weapon.category() != null
+                    && (weapon.category() == WeaponCategory.MACE
+                    || weapon.category() == WeaponCategory.FLAIL
+                    || weapon.category() == WeaponCategory.WAND))
+                    ? 1 + mod(atk.getWisdom()) : 0;
+        };
+    }
+
+    static int mod(int stat) { return (stat - 10) / 2; }
+    private int roll(int sides) { return random.nextInt(1, sides + 1); }
+}
@@ -0,0 +1,21 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.EquipmentEffect;
+
+/**
+ * 전투 이벤트 (렌더링 전).
+ * 엔진은 문자열 대신 이 값만 만들고, 한국어 로그는 BattleLogRenderer가 필요할 때 만든다.
+ * 필드 의미는 BattleEventType 참고.
+ */
+public record BattleEvent(BattleEventType type, int actor, int target,
+                          int amount, int hp, int value, int versus, int ref,
+                          EquipmentEffect effect) {
+
+    public static final int NONE = -1;
+    public static final int ATTACKER = 0;
+    public static final int DEFENDER = 1;
+
+    public static BattleEvent of(BattleEventType type, int actor, int target, int amount, int hp) {
+        return new BattleEvent(type, actor, target, amount, hp, 0, 0, NONE, null);
+    }
+}
@@ -0,0 +1,92 @@
+package com.pgall.battle.engine;
+
+/**
+ * 전투 이벤트 종류.
+ * 필드 사용: actor/target = 진영(0 공격자, 1 방어자, -1 없음), amount = 수치, hp = 변화 후 남은 HP,
+ * value/versus = 비교 값 쌍, ref = 물약 슬롯, effect = 관련 장비 효과.
+ */
+public enum BattleEventType {
+    // === 전투 시작 전 ===
+    START,
+    /** value/versus = 공격자/방어자 HP */
+    INTRO,
+    WEAPON,
+    POTIONS,
+    ENDURANCE,
+    ABSORB_SHIELD,
+    DEF_DOWN,
+    ATK_DOWN,
+    CURSE,
+    INTIMIDATE,
+    BLESS,
+    HASTE,
+    /** value/versus = 공격자/방어자 이니셔티브 */
+    INITIATIVE,
+    FIRST_STRIKE,
+
+    // === 라운드 ===
+    /** amount = 라운드 번호 */
+    ROUND,
+    /** ref = 물약 슬롯 */
+    POTION_HEAL,
+    POTION_BUFF,
+    STUNNED,
+    DELAYED,
+    DOUBLE_ATTACK,
+    HASTE_ATTACK,
+    RAPID_SHOT,
+
+    // === 공격 판정 (actor = 공격자, target = 피격자) ===
+    /** value/versus = 명중 굴림 합/AC */
+    HIT,
+    MISS,
+    CRITICAL,
+    SHIELD_BLOCK,
+    BLOCK,
+    EVADE,
+    MANA_SHIELD,
+    ABSORB,
+    /** effect = 원소 데미지 효과 */
+    ELEMENT,
+    RESIST,
+    ELEMENTAL_BOOST,
+    DIVINE_FAVOR,
+    EXECUTE,
+    VORPAL,
+    LIFE_STEAL,
+    VAMPIRIC_AURA,
+    MANA_DRAIN,
+    THORNS,
+    REFLECT_MAGIC,
+    COUNTER_ATTACK,
+    CHAOS_STRIKE,
+
+    // === 상태이상 ===
+    STUN,
+    STUN_RESIST,
+    BLEED_APPLY,
+    SLOW_APPLY,
+    SILENCE_APPLY,
+    DISARM_APPLY,
+    KNOCKBACK,
+
+    // === 라운드 종료 ===
+    BLEED_DAMAGE,
+    POISON_DAMAGE,
+    HP_REGEN,
+    HEALING_AURA,
+    CLASS_HEAL,
+    SPIRIT_LINK,
+    SECOND_WIND,
+    DEATH_WARD,
+
+    // === 결과 ===
+    /** value/versus = 공격자/방어자 남은 HP */
+    TIMEOUT,
+    SOUL_HARVEST,
+    BATTLE_END,
+    REWARD,
+    CONSOLATION,
+    /** actor/target = 승자/패자, amount/ref = 승자/패자 변동량, value/versus = 승자/패자 변동 후 ELO (로그 한 줄) */
+    RATING
+}
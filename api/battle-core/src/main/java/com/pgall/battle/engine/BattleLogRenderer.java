@@ -0,0 +1,147 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.EquipmentEffect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BattleEvent → 한국어 전투 로그 변환.
+ * 이벤트 하나가 정확히 한 줄이 되므로 로그 줄 번호와 이벤트 인덱스가 같다.
+ */
+public final class BattleLogRenderer {
+
+    private final Combatant[] sides;
+
+    public BattleLogRenderer(Combatant attacker, Combatant defender) {
+        this.sides = new Combatant[]{attacker, defender};
+    }
+
+    public static List<String> render(Combatant attacker, Combatant defender, List<BattleEvent> events) {
+        BattleLogRenderer renderer = new BattleLogRenderer(attacker, defender);
+        List<String> lines = new ArrayList<>(events.size());
+        for (BattleEvent e : events) lines.add(renderer.render(e));
+        return lines;
+    }
+
+    public String render(BattleEvent e) {
+        String a = name(e.actor());
+        String t = name(e.target());
+        return switch (e.type()) {
+            case START -> "=== 전투 시작 ===";
+            case INTRO -> a + classTag(e.actor()) + " [HP:" + e.value() + "] vs " + t + classTag(e.target()) + " [HP:" + e.versus() + "]";
+            case WEAPON -> {
+                CombatProfile.Weapon w = sides[e.actor()].profile().getWeapon();
+                String info = w.category() != null ? w.category().getKoreanName() : "무기";
+                yield a + "의 무기: " + w.name() + " (" + info + ")";
+            }
+            case POTIONS -> {
+                List<String> items = new ArrayList<>();
+                for (Combatant.Potion p : sides[e.actor()].potions()) {
+                    if (p.quantity() > 0) items.add(p.name() + " x" + p.quantity());
+                }
+                yield a + "의 보유 아이템: " + String.join(", ", items);
+            }
+            case ENDURANCE -> a + "의 인내! 최대HP +" + e.amount();
+            case ABSORB_SHIELD -> a + "의 흡수 보호막! 데미지 " + e.amount() + " 흡수";
+            case DEF_DOWN -> a + "의 장비! " + t + " 방어력 -" + e.amount();
+            case ATK_DOWN -> a + "의 장비! " + t + " 공격력 -" + e.amount();
+            case CURSE -> a + "의 허약 저주! " + t + " 데미지 30% 감소";
+            case INTIMIDATE -> a + "의 위협! " + t + " 위축!";
+            case BLESS -> a + "의 축복! 모든 능력 강화!";
+            case HASTE -> a + "의 가속!";
+            case INITIATIVE -> "이니셔티브: " + a + "(" + e.value() + ") vs " + t + "(" + e.versus() + ")";
+            case FIRST_STRIKE -> a + " 선공!";
+
+            case ROUND -> "--- 라운드 " + e.amount() + " ---";
+            case POTION_HEAL -> a + "의 " + potion(e).name() + " 사용! HP +" + e.amount() + " (HP:" + e.hp() + ")";
+            case POTION_BUFF -> a + "의 " + potion(e).name() + " 사용! (" + potion(e).buffType().getKoreanName() + ")";
+            case STUNNED -> a + "은(는) 기절 상태! 턴을 넘깁니다.";
+            case DELAYED -> a + "은(는) 속도 감소로 행동 지연!";
+            case DOUBLE_ATTACK -> a + " 더블 어택!";
+            case HASTE_ATTACK -> a + " 가속 추가 공격!";
+            case RAPID_SHOT -> a + " 속사!";
+
+            case HIT -> a + " -> " + t + " (" + e.value() + " vs AC" + e.versus() + ") 명중! "
+                    + e.amount() + " 데미지 (남은HP:" + e.hp() + ")";
+            case MISS -> a + " -> " + t + " (" + e.value() + " vs AC" + e.versus() + ") 빗나감!";
+            case CRITICAL -> "크리티컬 히트!";
+            case SHIELD_BLOCK -> t + "의 방패 발동! 차단!";
+            case BLOCK -> t + " 공격 차단!";
+            case EVADE -> t + " 완전 회피!";
+            case MANA_SHIELD -> t + "의 마나 보호막! " + e.amount() + " 데미지 흡수";
+            case ABSORB -> t + "의 보호막이 " + e.amount() + " 흡수!";
+            case ELEMENT -> a + " " + elementName(e.effect()) + " +" + e.amount();
+            case RESIST -> a + " " + elementName(e.effect()) + " 저항!";
+            case ELEMENTAL_BOOST -> a + " 원소 강화 +" + e.amount();
+            case DIVINE_FAVOR -> a + " 신의 은총!";
+            case EXECUTE -> a + "의 처형! " + t + " 즉사!";
+            case VORPAL -> a + "의 참수! 추가 " + e.amount() + " 데미지!";
+            case LIFE_STEAL -> a + " 흡혈! +" + e.amount() + " HP";
+            case VAMPIRIC_AURA -> a + " 흡혈 오라! +" + e.amount() + " HP";
+            case MANA_DRAIN -> a + "의 마나 흡수! " + t + " 약화!";
+            case THORNS -> a + "의 가시! " + t + "에게 반사 " + e.amount() + " 데미지";
+            case REFLECT_MAGIC -> a + "의 마법 반사! " + e.amount() + " 데미지 반사";
+            case COUNTER_ATTACK -> a + "의 반격! " + e.amount() + " 데미지!";
+            case CHAOS_STRIKE -> a + "의 혼돈 일격! 추가 " + e.amount() + " 데미지!";
+
+            case STUN -> a + "의 효과! " + t + " 기절!";
+            case STUN_RESIST -> a + " 기절 저항!";
+            case BLEED_APPLY -> t + "에게 출혈!";
+            case SLOW_APPLY -> t + " 속도 감소!";
+            case SILENCE_APPLY -> t + " 침묵!";
+            case DISARM_APPLY -> t + " 무장 해제!";
+            case KNOCKBACK -> t + " 넉백! 다음 공격 명중률 감소";
+
+            case BLEED_DAMAGE -> a + " 출혈 데미지 " + e.amount() + "! (남은HP:" + e.hp() + ")";
+            case POISON_DAMAGE -> t + " 독 데미지 " + e.amount() + "! (남은HP:" + e.hp() + ")";
+            case HP_REGEN -> a + " HP 재생 +" + e.amount() + " (HP:" + e.hp() + ")";
+            case HEALING_AURA -> a + " 치유 오라 +" + e.amount() + " (HP:" + e.hp() + ")";
+            case CLASS_HEAL -> a + "의 신성한 힘! HP +" + e.amount() + " 회복 (HP:" + e.hp() + ")";
+            case SPIRIT_LINK -> a + " 영혼 연결 +" + e.amount() + " (HP:" + e.hp() + ")";
+            case SECOND_WIND -> a + "의 재기! HP 1로 부활!";
+            case DEATH_WARD -> a + "의 죽음의 보호! 즉사 방지!";
+
+            case TIMEOUT -> BattleEngine.MAX_ROUNDS + "라운드 경과! HP가 더 많은 " + a + " 판정승! ("
+                    + name(BattleEvent.ATTACKER) + " HP:" + e.value() + "/" + maxHp(BattleEvent.ATTACKER)
+                    + " vs " + name(BattleEvent.DEFENDER) + " HP:" + e.versus() + "/" + maxHp(BattleEvent.DEFENDER) + ")";
+            case SOUL_HARVEST -> a + "의 영혼 수확! HP +" + e.amount();
+            case BATTLE_END -> "=== 전투 종료 ===";
+            case REWARD -> a + " 승리! +" + e.amount() + " 골드";
+            case CONSOLATION -> a + " 패배 위로금 +" + e.amount() + " 골드";
+            case RATING -> "ELO: " + a + " +" + e.amount() + " (" + e.value() + ") | "
+                    + t + " " + e.ref() + " (" + e.versus() + ")";
+        };
+    }
+
+    private String name(int side) {
+        return side >= 0 ? sides[side].profile().getName() : "";
+    }
+
+    /** 전투 시 최대 HP (CON 장비보너스/ENDURANCE 포함, 엔진과 같은 값) */
+    private int maxHp(int side) {
+        return BattleEngine.effectiveMaxHp(sides[side].profile());
+    }
+
+    private String classTag(int side) {
+        var c = sides[side].profile().getCharacterClass();
+        return c != null ? " [" + c.getKoreanName() + "]" : "";
+    }
+
+    private Combatant.Potion potion(BattleEvent e) {
+        return sides[e.actor()].potions().get(e.ref());
+    }
+
+    private static String elementName(EquipmentEffect effect) {
+        if (effect == null) return "";
+        return switch (effect) {
+            case FIRE_DAMAGE -> "화염";
+            case ICE_DAMAGE -> "빙결";
+            case LIGHTNING_DAMAGE -> "번개";
+            case HOLY_DAMAGE -> "신성";
+            case DARK_DAMAGE -> "암흑";
+            case ACID_DAMAGE -> "산성";
+            default -> effect.name();
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.pgall.battle.engine;
+
+/**
+ * 한 판의 전투 결과 (영속성 반영 전).
+ * HP는 음수일 수 있으며, 물약 사용량은 Combatant.potions() 순서와 같은 인덱스다.
+ */
+public record BattleOutcome(boolean attackerWon, boolean timeout, int rounds,
+                            int attackerHp, int defenderHp,
+                            int attackerMaxHp, int defenderMaxHp,
+                            int[] attackerPotionsUsed, int[] defenderPotionsUsed) {
+}
@@ -0,0 +1,65 @@
+package com.pgall.battle.engine;
+
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import static com.pgall.battle.engine.BattleEvent.NONE;
+
+/**
+ * 전투 정산 (골드 보상 + ELO 변동).
+ * 엔진과 같은 난수열을 이어서 쓰므로 seed가 같으면 정산 결과도 같다.
+ */
+public record BattleSettlement(int goldReward, int loserGoldReward,
+                               int winnerDelta, int loserDelta,
+                               int winnerElo, int loserElo) {
+
+    public static BattleSettlement settle(BattleOutcome outcome, int attackerElo, int defenderElo, RandomGenerator random) {
+        int winnerElo = outcome.attackerWon() ? attackerElo : defenderElo;
+        int loserElo = outcome.attackerWon() ? defenderElo : attackerElo;
+
+        int goldReward = calcGoldReward(winnerElo, loserElo, random);
+        int loserGoldReward = calcLoserGoldReward(loserElo, winnerElo);
+
+        // ELO 레이팅 (K=32)
+        double expectedW = 1.0 / (1 + Math.pow(10, (loserElo - winnerElo) / 400.0));
+        int winnerDelta = (int) Math.round(32 * (1 - expectedW));
+        int loserDelta = (int) Math.round(32 * (0 - (1 - expectedW)));
+
+        return new BattleSettlement(goldReward, loserGoldReward, winnerDelta, loserDelta,
+                winnerElo + winnerDelta, Math.max(0, loserElo + loserDelta));
+    }
+
+    /** 정산 이벤트 추가 (전투 종료 / 보상 / 위로금 / ELO) */
+    public void appendEvents(Consumer<BattleEvent> sink, boolean attackerWon) {
+        int winner = attackerWon ? BattleEvent.ATTACKER : BattleEvent.DEFENDER;
+        int loser = 1 - winner;
+        sink.accept(BattleEvent.of(BattleEventType.BATTLE_END, NONE, NONE, 0, NONE));
+        sink.accept(BattleEvent.of(BattleEventType.REWARD, winner, loser, goldReward, NONE));
+        if (loserGoldReward > 0) {
+            sink.accept(BattleEvent.of(BattleEventType.CONSOLATION, loser, winner, loserGoldReward, NONE));
+        }
+        sink.accept(new BattleEvent(BattleEventType.RATING, winner, loser, winnerDelta, NONE, winnerElo, loserElo, loserDelta, null));
+    }
+
+    /** ELO 기반 골드 보상: 높은 ELO일수록 보상 증가, 상대 ELO가 높을수록 보너스 */
+    private static int calcGoldReward(int winnerElo, int loserElo, RandomGenerator random) {
+        // 기본 보상: ELO 구간별
+        int base;
+        if (winnerElo >= 1500) base = 160;
+        else if (winnerElo >= 1200) base = 100;
+        else base = 60;
+
+        // 상대가 나보다 강할수록 보너스 (최대 +100)
+        int eloDiff = loserElo - winnerElo;
+        int bonus = Math.max(0, Math.min(100, eloDiff / 10));
+
+        return base + bonus + random.nextInt(40);
+    }
+
+    /** 패배 시 위로 골드: ELO 차이 30 이상일 때 (차이-30)*3 골드 */
+    private static int calcLoserGoldReward(int loserElo, int winnerElo) {
+        int eloDiff = winnerElo - loserElo;
+        if (eloDiff < 30) return 0;
+        return (eloDiff - 30) * 3;
+    }
+}
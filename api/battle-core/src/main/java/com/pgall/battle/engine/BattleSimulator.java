@@ -0,0 +1,120 @@
+package com.pgall.battle.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 헤드리스 전투 시뮬레이터.
+ * BattleEngine과 같은 규칙으로 두 스냅샷을 N번 싸움 붙이고 통계만 모은다 (DB 저장/로그 없음).
+ * 작업은 ForkJoinPool에서 분할 실행되며, 각 작업은 SplittableRandom.split()으로 독립 난수열을 쓰므로
+ * 같은 seed면 스레드 수와 무관하게 같은 결과가 나온다.
+ */
+public final class BattleSimulator {
+
+    /** 한 작업이 직접 돌리는 최대 전투 수 */
+    private static final int LEAF_SIZE = 256;
+
+    private final ForkJoinPool pool;
+
+    public BattleSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BattleSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public SimulationResult simulate(Combatant attacker, Combatant defender, int iterations) {
+        return simulate(attacker, defender, iterations, new SplittableRandom().nextLong());
+    }
+
+    public SimulationResult simulate(Combatant attacker, Combatant defender, int iterations, long seed) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("시뮬레이션 횟수는 1 이상이어야 합니다.");
+        }
+        // 보유 효과 핸들러는 대진마다 한 번만 골라 모든 판에 재사용
+        EffectPlan plan = EffectPlan.of(attacker, defender);
+        Tally t = pool.invoke(new SimulateTask(plan, iterations, new SplittableRandom(seed)));
+        return new SimulationResult(iterations, t.attackerWins, t.timeouts,
+                (double) t.attackerWins / iterations,
+                (double) t.totalRounds / iterations,
+                (double) t.timeouts / iterations,
+                t.attackerHp, t.defenderHp,
+                t.attackerHpRatio / iterations,
+                t.defenderHpRatio / iterations);
+    }
+
+    private static final class SimulateTask extends RecursiveTask<Tally> {
+        private final EffectPlan plan;
+        private final int count;
+        private final SplittableRandom random;
+
+        SimulateTask(EffectPlan plan, int count, SplittableRandom random) {
+            this.plan = plan;
+            this.count = count;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (count <= LEAF_SIZE) {
+                Tally tally = new Tally();
+                for (int i = 0; i < count; i++) {
+                    tally.add(BattleEngine.fight(plan, random));
+                }
+                return tally;
+            }
+            int half = count / 2;
+            // 분할 순서가 고정이므로 seed가 같으면 결과도 같다
+            SimulateTask left = new SimulateTask(plan, half, random.split());
+            SimulateTask right = new SimulateTask(plan, count - half, random);
+            left.fork();
+            Tally r = right.compute();
+            return left.join().merge(r);
+        }
+    }
+
+    /** 작업별 누적 통계 (작업 안에서만 변경되므로 동기화 불필요) */
+    private static final class Tally {
+        long attackerWins;
+        long timeouts;
+        long totalRounds;
+        double attackerHpRatio;
+        double defenderHpRatio;
+        final long[] attackerHp = new long[SimulationResult.HP_BUCKETS];
+        final long[] defenderHp = new long[SimulationResult.HP_BUCKETS];
+
+        void add(BattleOutcome o) {
+            if (o.attackerWon()) attackerWins++;
+            if (o.timeout()) timeouts++;
+            totalRounds += o.rounds();
+            attackerHp[bucket(o.attackerHp(), o.attackerMaxHp())]++;
+            defenderHp[bucket(o.defenderHp(), o.defenderMaxHp())]++;
+            attackerHpRatio += ratio(o.attackerHp(), o.attackerMaxHp());
+            defenderHpRatio += ratio(o.defenderHp(), o.defenderMaxHp());
+        }
+
+        Tally merge(Tally other) {
+            attackerWins += other.attackerWins;
+            timeouts += other.timeouts;
+            totalRounds += other.totalRounds;
+            attackerHpRatio += other.attackerHpRatio;
+            defenderHpRatio += other.defenderHpRatio;
+            for (int i = 0; i < attackerHp.length; i++) {
+                attackerHp[i] += other.attackerHp[i];
+                defenderHp[i] += other.defenderHp[i];
+            }
+            return this;
+        }
+
+        private static int bucket(int hp, int maxHp) {
+            if (hp <= 0 || maxHp <= 0) return 0;
+            return Math.min(SimulationResult.HP_BUCKETS - 1, (hp * 10 + maxHp - 1) / maxHp);
+        }
+
+        private static double ratio(int hp, int maxHp) {
+            return maxHp > 0 ? Math.max(0, hp) / (double) maxHp : 0;
+        }
+    }
+}
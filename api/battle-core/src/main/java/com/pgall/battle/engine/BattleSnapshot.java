@@ -0,0 +1,72 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.BuffType;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전투 재현용 스냅샷 (양측 전투 프로필 + 물약 + 전투 전 ELO).
+ * seed와 함께 저장하면 SeededBattle로 같은 전투를 다시 만들 수 있다.
+ */
+public record BattleSnapshot(Combatant attacker, Combatant defender, int attackerElo, int defenderElo) {
+
+    private static final int FORMAT = 1;
+    private static final int MAX_POTIONS = 255;
+
+    public byte[] encode() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT);
+            write(out, attacker, attackerElo);
+            write(out, defender, defenderElo);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static BattleSnapshot decode(byte[] data) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            int format = in.readUnsignedByte();
+            if (format != FORMAT) {
+                throw new IllegalStateException("지원하지 않는 스냅샷 형식입니다: " + format);
+            }
+            int atkElo = in.readInt();
+            Combatant atk = read(in);
+            int defElo = in.readInt();
+            Combatant def = read(in);
+            return new BattleSnapshot(atk, def, atkElo, defElo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(DataOutputStream out, Combatant c, int elo) throws IOException {
+        out.writeInt(elo);
+        if (c.potions().size() > MAX_POTIONS) {
+            throw new IllegalArgumentException("스냅샷에 담을 수 있는 물약은 " + MAX_POTIONS + "종류까지입니다.");
+        }
+        c.profile().writeTo(out);
+        out.writeByte(c.potions().size());
+        for (Combatant.Potion p : c.potions()) {
+            out.writeUTF(p.name());
+            out.writeUTF(p.buffType().name());
+            out.writeInt(p.quantity());
+        }
+    }
+
+    private static Combatant read(DataInputStream in) throws IOException {
+        CombatProfile profile = CombatProfile.readFrom(in);
+        int count = in.readUnsignedByte();
+        List<Combatant.Potion> potions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            potions.add(new Combatant.Potion(in.readUTF(), BuffType.valueOf(in.readUTF()), in.readInt()));
+        }
+        return new Combatant(profile, potions);
+    }
+}
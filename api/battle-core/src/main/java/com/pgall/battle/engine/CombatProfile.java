@@ -0,0 +1,225 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 전투용 캐릭터 프로필 (불변).
+ * 장착 장비의 효과/스탯을 한 번만 합산해 두고, 전투 중에는 이 값만 읽는다.
+ * 엔티티에 의존하지 않으며, api 모듈이 DB에서 읽은 값을 Base/Gear로 넘겨 만든다 (CombatProfileMapper).
+ * 효과는 EquipmentEffect.ordinal() 인덱스의 배열 + 보유 비트셋으로 저장.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CombatProfile {
+
+    private static final EquipmentEffect[] EFFECTS = EquipmentEffect.values();
+    private static final int EFFECT_COUNT = EFFECTS.length;
+
+    private final Long characterId;
+    private final int loadoutVersion;
+    private final String name;
+    private final CharacterClass characterClass;
+
+    private final int strength;
+    private final int dexterity;
+    private final int constitution;
+    private final int intelligence;
+    private final int wisdom;
+    private final int charisma;
+    private final int maxHp;
+
+    // 장착 장비 합계
+    private final Weapon weapon;
+    private final int totalAttack;
+    private final int weaponAttack;
+    private final int totalDefense;
+    private final int armorClass;
+
+    private final int bonusStrength;
+    private final int bonusDexterity;
+    private final int bonusConstitution;
+    private final int bonusIntelligence;
+    private final int bonusWisdom;
+    private final int bonusCharisma;
+
+    // 효과 테이블 (ordinal 인덱스)
+    @Getter(AccessLevel.NONE)
+    private final long[] effectMask;
+    @Getter(AccessLevel.NONE)
+    private final int[] effectChance;
+    @Getter(AccessLevel.NONE)
+    private final int[] effectValue;
+
+    /** 전투에 사용되는 무기 정보 (첫 번째 장착 무기) */
+    public record Weapon(String name, WeaponCategory category, ScalingStat scalingStat,
+                         int damageMin, int damageMax) {}
+
+    /** 캐릭터 기본 능력치 (장비 제외) */
+    public record Base(Long characterId, int loadoutVersion, String name, CharacterClass characterClass,
+                       int strength, int dexterity, int constitution,
+                       int intelligence, int wisdom, int charisma, int maxHp) {}
+
+    /** 장착 장비 한 개. effects는 레거시 단일 효과 → 기본 효과 → 강화 효과 순서로 넘긴다. */
+    public record Gear(EquipmentType type, String name, int attackBonus, int defenseBonus,
+                       WeaponCategory weaponCategory, ScalingStat scalingStat, int damageMin, int damageMax,
+                       int bonusStrength, int bonusDexterity, int bonusConstitution,
+                       int bonusIntelligence, int bonusWisdom, int bonusCharisma,
+                       List<Effect> effects) {
+        public Gear {
+            effects = effects != null ? List.copyOf(effects) : List.of();
+        }
+    }
+
+    /** 장비 효과 한 줄 */
+    public record Effect(EquipmentEffect effect, int chance, int value) {}
+
+    /** 주어진 장비 목록(장착 순서)을 장착한 프로필 생성 */
+    public static CombatProfile of(Base c, List<Gear> equipped) {
+        long[] mask = new long[(EFFECT_COUNT + 63) >>> 6];
+        int[] chance = new int[EFFECT_COUNT];
+        int[] value = new int[EFFECT_COUNT];
+
+        Weapon weapon = null;
+        int totalAttack = 0, weaponAttack = 0, totalDefense = 0;
+        int bStr = 0, bDex = 0, bCon = 0, bInt = 0, bWis = 0, bCha = 0;
+
+        for (Gear eq : equipped) {
+            totalAttack += eq.attackBonus();
+            totalDefense += eq.defenseBonus();
+            if (eq.type() == EquipmentType.WEAPON) {
+                weaponAttack += eq.attackBonus();
+                if (weapon == null) {
+                    weapon = new Weapon(eq.name(), eq.weaponCategory(), eq.scalingStat(),
+                            eq.damageMin(), eq.damageMax());
+                }
+            }
+            bStr += eq.bonusStrength();
+            bDex += eq.bonusDexterity();
+            bCon += eq.bonusConstitution();
+            bInt += eq.bonusIntelligence();
+            bWis += eq.bonusWisdom();
+            bCha += eq.bonusCharisma();
+
+            // 확률은 최대값, 수치는 합산
+            for (Effect e : eq.effects()) merge(mask, chance, value, e.effect(), e.chance(), e.value());
+        }
+
+        // AC 계산 (방어력 캡 8, DEX 장비보너스는 AC에 미반영)
+        int armorClass = 10 + BattleEngine.mod(c.dexterity()) + Math.min(totalDefense, 8);
+
+        return new CombatProfile(c.characterId(), c.loadoutVersion(), c.name(), c.characterClass(),
+                c.strength(), c.dexterity(), c.constitution(),
+                c.intelligence(), c.wisdom(), c.charisma(), c.maxHp(),
+                weapon, totalAttack, weaponAttack, totalDefense, armorClass,
+                bStr, bDex, bCon, bInt, bWis, bCha,
+                mask, chance, value);
+    }
+
+    private static void merge(long[] mask, int[] chance, int[] value, EquipmentEffect effect, int c, int v) {
+        int i = effect.ordinal();
+        long bit = 1L << (i & 63);
+        if ((mask[i >>> 6] & bit) != 0) {
+            chance[i] = Math.max(chance[i], c);
+            value[i] += v;
+        } else {
+            mask[i >>> 6] |= bit;
+            chance[i] = c;
+            value[i] = v;
+        }
+    }
+
+    /**
+     * 바이너리 직렬화 (BattleSnapshot용). 효과는 ordinal 대신 이름으로 저장해 enum 순서 변경에 안전하다.
+     * 수치는 int로 쓴다 (short면 32767을 넘는 값이 잘린다).
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeBoolean(characterId != null);
+        if (characterId != null) out.writeLong(characterId);
+        out.writeInt(loadoutVersion);
+        out.writeUTF(name != null ? name : "");
+        out.writeUTF(characterClass != null ? characterClass.name() : "");
+        for (int v : new int[]{strength, dexterity, constitution, intelligence, wisdom, charisma, maxHp,
+                totalAttack, weaponAttack, totalDefense, armorClass,
+                bonusStrength, bonusDexterity, bonusConstitution, bonusIntelligence, bonusWisdom, bonusCharisma}) {
+            out.writeInt(v);
+        }
+        out.writeBoolean(weapon != null);
+        if (weapon != null) {
+            out.writeUTF(weapon.name() != null ? weapon.name() : "");
+            out.writeUTF(weapon.category() != null ? weapon.category().name() : "");
+            out.writeUTF(weapon.scalingStat() != null ? weapon.scalingStat().name() : "");
+            out.writeInt(weapon.damageMin());
+            out.writeInt(weapon.damageMax());
+        }
+        out.writeByte(effectCount());
+        for (EquipmentEffect e : EFFECTS) {
+            if (!has(e)) continue;
+            out.writeUTF(e.name());
+            out.writeInt(chance(e));
+            out.writeInt(value(e));
+        }
+    }
+
+    static CombatProfile readFrom(DataInput in) throws IOException {
+        Long id = in.readBoolean() ? in.readLong() : null;
+        int loadoutVersion = in.readInt();
+        String name = in.readUTF();
+        String cls = in.readUTF();
+        int[] v = new int[17];
+        for (int i = 0; i < v.length; i++) v[i] = in.readInt();
+        Weapon weapon = null;
+        if (in.readBoolean()) {
+            String wName = in.readUTF();
+            String category = in.readUTF();
+            String scaling = in.readUTF();
+            weapon = new Weapon(wName,
+                    category.isEmpty() ? null : WeaponCategory.valueOf(category),
+                    scaling.isEmpty() ? null : ScalingStat.valueOf(scaling),
+                    in.readInt(), in.readInt());
+        }
+        long[] mask = new long[(EFFECT_COUNT + 63) >>> 6];
+        int[] chance = new int[EFFECT_COUNT];
+        int[] value = new int[EFFECT_COUNT];
+        int count = in.readUnsignedByte();
+        for (int i = 0; i < count; i++) {
+            EquipmentEffect e = EquipmentEffect.valueOf(in.readUTF());
+            merge(mask, chance, value, e, in.readInt(), in.readInt());
+        }
+        return new CombatProfile(id, loadoutVersion, name, cls.isEmpty() ? null : CharacterClass.valueOf(cls),
+                v[0], v[1], v[2], v[3], v[4], v[5], v[6],
+                weapon, v[7], v[8], v[9], v[10],
+                v[11], v[12], v[13], v[14], v[15], v[16],
+                mask, chance, value);
+    }
+
+    /** effect 보유 여부 (확률 무시) */
+    public boolean has(EquipmentEffect effect) {
+        int i = effect.ordinal();
+        return (effectMask[i >>> 6] & (1L << (i & 63))) != 0;
+    }
+
+    /** 발동 확률 (%) - 없으면 0 */
+    public int chance(EquipmentEffect effect) {
+        return effectChance[effect.ordinal()];
+    }
+
+    /** effectValue - 없으면 0 */
+    public int value(EquipmentEffect effect) {
+        return effectValue[effect.ordinal()];
+    }
+
+    /** 보유 효과 개수 */
+    public int effectCount() {
+        int n = 0;
+        for (long word : effectMask) n += Long.bitCount(word);
+        return n;
+    }
+}
@@ -0,0 +1,24 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.BuffType;
+
+import java.util.List;
+
+/**
+ * 전투 참가자 스냅샷 (전투 프로필 + 장착 물약).
+ * 엔진은 이 값만 읽으므로 DB 없이도 같은 규칙으로 전투를 돌릴 수 있다.
+ */
+public record Combatant(CombatProfile profile, List<Potion> potions) {
+
+    public Combatant {
+        potions = potions != null ? List.copyOf(potions) : List.of();
+    }
+
+    /** 물약 없이 프로필만으로 생성 */
+    public static Combatant of(CombatProfile profile) {
+        return new Combatant(profile, List.of());
+    }
+
+    /** 장착 물약 (전투 시작 시점 수량) */
+    public record Potion(String name, BuffType buffType, int quantity) {}
+}
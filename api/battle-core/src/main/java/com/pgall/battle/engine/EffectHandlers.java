@@ -0,0 +1,330 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.BuffType;
+import com.pgall.battle.enums.CharacterClass;
+import com.pgall.battle.enums.EquipmentEffect;
+import com.pgall.battle.enums.WeaponCategory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static com.pgall.battle.engine.BattleEvent.*;
+import static com.pgall.battle.engine.BattleEventType.*;
+
+/**
+ * 효과 핸들러 등록표.
+ * 효과마다 발동 시점과 처리 로직을 여기 한 곳에 등록하고, 전투 시작 시 resolve()로
+ * 실제 보유한 효과만 담은 배열을 만든다. 턴 루프는 enum 전체가 아니라 이 배열만 돈다.
+ * 새 효과는 if 체인을 늘리지 않고 여기에 register 한 줄을 추가하면 된다.
+ *
+ * 같은 시점 안에서는 등록 순서대로 실행되고 이 순서가 곧 난수 소비 순서이므로,
+ * 순서를 바꾸거나 기존 효과의 난수 사용을 바꾸면 SeededBattle.RULES_VERSION을 올려야 한다.
+ */
+final class EffectHandlers {
+
+    private EffectHandlers() {}
+
+    /**
+     * 핸들러를 실행할 대상.
+     * SELF/FOE: 시점의 주체(턴을 진행하는 쪽) 기준 자신/상대의 효과.
+     * BOTH: 양쪽 모두 공격자 → 방어자 순, BOTH_REVERSED: 방어자 → 공격자 순.
+     */
+    enum Owner { SELF, FOE, BOTH, BOTH_REVERSED }
+
+    /** owner는 효과를 가진 쪽 */
+    @FunctionalInterface
+    interface Handler {
+        void apply(BattleEngine engine, Fighter owner);
+    }
+
+    /** effect가 있으면 보유 여부로, 없으면 active로 발동 가능 여부를 판단한다 */
+    private record Entry(Owner owner, EquipmentEffect effect, Predicate<Fighter> active, Handler handler) {
+        boolean activeFor(Fighter f) {
+            return effect != null ? f.has(effect) : active.test(f);
+        }
+    }
+
+    /** 보유자(side)가 정해진 핸들러 */
+    record Bound(Handler handler, int owner) {}
+
+    static final Bound[] NONE_BOUND = new Bound[0];
+
+    private static final Map<EffectPhase, List<Entry>> TABLE = new EnumMap<>(EffectPhase.class);
+
+    /** 주체(actor) 기준으로 해당 시점에 실제 발동 가능한 핸들러만 고른다. 양쪽 시점은 공격자를 넘긴다. */
+    static Bound[] resolve(EffectPhase phase, Fighter actor) {
+        List<Bound> bound = new ArrayList<>();
+        for (Entry entry : TABLE.get(phase)) {
+            switch (entry.owner()) {
+                case SELF -> add(bound, entry, actor);
+                case FOE -> add(bound, entry, actor.foe);
+                case BOTH -> { add(bound, entry, actor); add(bound, entry, actor.foe); }
+                case BOTH_REVERSED -> { add(bound, entry, actor.foe); add(bound, entry, actor); }
+            }
+        }
+        return bound.isEmpty() ? NONE_BOUND : bound.toArray(Bound[]::new);
+    }
+
+    private static void add(List<Bound> bound, Entry entry, Fighter owner) {
+        if (entry.activeFor(owner)) bound.add(new Bound(entry.handler(), owner.side));
+    }
+
+    private static void register(EffectPhase phase, Owner owner, EquipmentEffect effect, Handler handler) {
+        TABLE.get(phase).add(new Entry(owner, effect, null, handler));
+    }
+
+    private static void register(EffectPhase phase, Owner owner, Predicate<Fighter> active, Handler handler) {
+        TABLE.get(phase).add(new Entry(owner, null, active, handler));
+    }
+
+    static {
+        for (EffectPhase phase : EffectPhase.values()) TABLE.put(phase, new ArrayList<>());
+
+        // ===== 전투 시작 전 =====
+        // DODGE_BOOST / FORTIFY (절반만 반영)
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.DODGE_BOOST, (e, f) -> f.ac += f.value(EquipmentEffect.DODGE_BOOST) / 2);
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.FORTIFY, (e, f) -> f.ac += f.value(EquipmentEffect.FORTIFY) / 2);
+        // ENDURANCE (최대HP 증가는 BattleEngine.effectiveMaxHp에 반영, 여기서는 알림만)
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.ENDURANCE, (e, f) -> {
+            int v = f.value(EquipmentEffect.ENDURANCE);
+            if (v > 0) e.emit(ENDURANCE, f.side, NONE, v);
+        });
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.ABSORB_SHIELD, (e, f) -> {
+            f.absorb = f.value(EquipmentEffect.ABSORB_SHIELD);
+            if (f.absorb > 0) e.emit(ABSORB_SHIELD, f.side, NONE, f.absorb);
+        });
+        // 사전 디버프
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.DEBUFF_DEF_DOWN, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.DEBUFF_DEF_DOWN)) {
+                int v = f.value(EquipmentEffect.DEBUFF_DEF_DOWN);
+                f.foe.ac -= v; e.emit(DEF_DOWN, f.side, f.foe.side, v);
+            }
+        });
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH_REVERSED, EquipmentEffect.DEBUFF_ATK_DOWN, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.DEBUFF_ATK_DOWN)) {
+                int v = f.value(EquipmentEffect.DEBUFF_ATK_DOWN);
+                f.foe.debuff += v;
+                if (v > 0) e.emit(ATK_DOWN, f.side, f.foe.side, v);
+            }
+        });
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH_REVERSED, EquipmentEffect.CURSE_WEAKNESS, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.CURSE_WEAKNESS)) { f.foe.cursed = true; e.emit(CURSE, f.side, f.foe.side); }
+        });
+        // INTIMIDATE (기존 규칙: 보유자 자신의 debuff가 증가)
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.INTIMIDATE, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.INTIMIDATE)) { f.debuff += 1; e.emit(INTIMIDATE, f.side, f.foe.side); }
+        });
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.ACCURACY_UP, (e, f) -> f.accuracy += f.value(EquipmentEffect.ACCURACY_UP));
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.PIERCING_GAZE, (e, f) -> f.accuracy += f.value(EquipmentEffect.PIERCING_GAZE));
+        register(EffectPhase.PRE_BATTLE, Owner.BOTH, EquipmentEffect.BLESS, (e, f) -> { f.accuracy += 2; e.emit(BLESS, f.side); });
+
+        register(EffectPhase.INITIATIVE, Owner.BOTH, EquipmentEffect.HASTE, (e, f) -> { f.initiative += 5; e.emit(HASTE, f.side); });
+
+        // ===== 턴 시작: 공격 횟수 =====
+        // 더블 어택 (장비 또는 물약)
+        register(EffectPhase.TURN_START, Owner.SELF,
+                f -> f.has(EquipmentEffect.DOUBLE_ATTACK) || f.hasBuffPotion(BuffType.DOUBLE_ATTACK), (e, f) -> {
+            if (e.proc(f, EquipmentEffect.DOUBLE_ATTACK) || f.buffsUsed.contains(BuffType.DOUBLE_ATTACK)) {
+                e.strike.attackCount = 2; e.emit(DOUBLE_ATTACK, f.side);
+            }
+        });
+        // HASTE 추가 공격
+        register(EffectPhase.TURN_START, Owner.SELF, EquipmentEffect.HASTE, (e, f) -> {
+            if (e.nextInt(100) < 30) { e.strike.attackCount = 2; e.emit(HASTE_ATTACK, f.side); }
+        });
+        // 궁수 + 활
+        register(EffectPhase.TURN_START, Owner.SELF,
+                f -> f.profile.getCharacterClass() == CharacterClass.RANGER
+                        && f.weapon != null && f.weapon.category() == WeaponCategory.BOW, (e, f) -> {
+            if (e.nextInt(100) < 50) { e.strike.attackCount = 2; e.emit(RAPID_SHOT, f.side); }
+        });
+
+        // ===== 피격자 방어 판정 (owner = 피격자) =====
+        register(EffectPhase.ON_DEFEND, Owner.FOE, EquipmentEffect.BLOCK_CHANCE, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.BLOCK_CHANCE)) { e.emit(BLOCK, f.foe.side, f.side); e.strike.avoided = true; }
+        });
+        register(EffectPhase.ON_DEFEND, Owner.FOE, EquipmentEffect.EVASION, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.EVASION)) { e.emit(EVADE, f.foe.side, f.side); e.strike.avoided = true; }
+        });
+        register(EffectPhase.ON_DEFEND, Owner.FOE, EquipmentEffect.MANA_SHIELD, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.MANA_SHIELD)) {
+                e.emit(MANA_SHIELD, f.foe.side, f.side, f.value(EquipmentEffect.MANA_SHIELD));
+                e.strike.avoided = true;
+            }
+        });
+
+        // ===== 원소 추가 데미지 =====
+        registerElement(EquipmentEffect.FIRE_DAMAGE, EquipmentEffect.FIRE_RESISTANCE);
+        registerElement(EquipmentEffect.ICE_DAMAGE, EquipmentEffect.ICE_RESISTANCE);
+        registerElement(EquipmentEffect.LIGHTNING_DAMAGE, EquipmentEffect.LIGHTNING_RESISTANCE);
+        // 신성/암흑은 마법 저항으로 반감 (알림 없음), SILENCE 상태면 비활성
+        registerMagicElement(EquipmentEffect.HOLY_DAMAGE);
+        registerMagicElement(EquipmentEffect.DARK_DAMAGE);
+        register(EffectPhase.ON_HIT_ELEMENT, Owner.SELF, EquipmentEffect.ACID_DAMAGE, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.ACID_DAMAGE)) {
+                int v = f.value(EquipmentEffect.ACID_DAMAGE);
+                e.strike.elemental += v; e.emitElement(f.side, EquipmentEffect.ACID_DAMAGE, v);
+            }
+        });
+        register(EffectPhase.ON_HIT_ELEMENT, Owner.SELF, EquipmentEffect.ELEMENTAL_BOOST, (e, f) -> {
+            if (e.strike.elemental > 0) {
+                int bonus = e.strike.elemental / 3;
+                e.strike.elemental += bonus; e.emit(ELEMENTAL_BOOST, f.side, NONE, bonus);
+            }
+        });
+        register(EffectPhase.ON_HIT_ELEMENT, Owner.SELF, EquipmentEffect.ARCANE_FOCUS, (e, f) -> {
+            if (e.strike.elemental > 0) e.strike.elemental += e.strike.elemental / 4;
+        });
+        register(EffectPhase.ON_HIT_ELEMENT, Owner.SELF, EquipmentEffect.DIVINE_FAVOR, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.DIVINE_FAVOR)) { e.strike.elemental += 2; e.emit(DIVINE_FAVOR, f.side); }
+        });
+
+        // ===== 데미지 적용 후 =====
+        // EXECUTE (HP 20% 이하 즉사)
+        register(EffectPhase.ON_HIT, Owner.SELF, EquipmentEffect.EXECUTE, (e, f) -> {
+            Fighter foe = f.foe;
+            if (foe.hp > 0 && foe.hp <= foe.maxHp * 0.2 && e.nextInt(100) < 30) {
+                foe.hp = 0; e.emit(EXECUTE, f.side, foe.side, 0, 0);
+            }
+        });
+        // VORPAL (크리 시 추가 대미지)
+        register(EffectPhase.ON_HIT, Owner.SELF, EquipmentEffect.VORPAL, (e, f) -> {
+            if (e.strike.crit) {
+                int vorpal = e.strike.damage / 2;
+                f.foe.hp -= vorpal; e.emit(VORPAL, f.side, f.foe.side, vorpal);
+            }
+        });
+        // 흡혈 (로그만)
+        register(EffectPhase.ON_HIT, Owner.SELF, EquipmentEffect.LIFE_STEAL, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.LIFE_STEAL)) {
+                int heal = e.strike.damage / 3;
+                if (heal > 0) e.emit(LIFE_STEAL, f.side, NONE, heal);
+            }
+        });
+        register(EffectPhase.ON_HIT, Owner.SELF, EquipmentEffect.VAMPIRIC_AURA, (e, f) -> {
+            int heal = e.strike.damage / 5;
+            if (heal > 0) e.emit(VAMPIRIC_AURA, f.side, NONE, heal);
+        });
+        register(EffectPhase.ON_HIT, Owner.SELF, EquipmentEffect.MANA_DRAIN, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.MANA_DRAIN)) e.emit(MANA_DRAIN, f.side, f.foe.side);
+        });
+        // 피격자 반응 (owner = 피격자)
+        register(EffectPhase.ON_HIT, Owner.FOE, EquipmentEffect.THORNS, (e, f) ->
+                e.emit(THORNS, f.side, f.foe.side, f.value(EquipmentEffect.THORNS)));
+        register(EffectPhase.ON_HIT, Owner.FOE, EquipmentEffect.REFLECT_MAGIC, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.REFLECT_MAGIC)) e.emit(REFLECT_MAGIC, f.side, f.foe.side, e.strike.damage / 4);
+        });
+        register(EffectPhase.ON_HIT, Owner.FOE, EquipmentEffect.COUNTER_ATTACK, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.COUNTER_ATTACK)) e.emit(COUNTER_ATTACK, f.side, f.foe.side, e.strike.damage / 2);
+        });
+        register(EffectPhase.ON_HIT, Owner.SELF, EquipmentEffect.CHAOS_STRIKE, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.CHAOS_STRIKE)) {
+                int chaos = e.nextInt(1, 8);
+                f.foe.hp -= chaos; e.emit(CHAOS_STRIKE, f.side, f.foe.side, chaos);
+            }
+        });
+
+        // ===== 상태이상 부여 (공격자 선공) =====
+        register(EffectPhase.STATUS, Owner.SELF, EquipmentEffect.STUN_STRIKE, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.STUN_STRIKE)) {
+                if (!resistsStun(f.foe)) { f.foe.stunned = true; e.emit(STUN, f.side, f.foe.side); }
+                else e.emit(STUN_RESIST, f.foe.side);
+            }
+        });
+        register(EffectPhase.STATUS, Owner.SELF, EquipmentEffect.BLEEDING, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.BLEEDING)) { f.foe.bleeding = true; e.emit(BLEED_APPLY, f.side, f.foe.side); }
+        });
+        register(EffectPhase.STATUS, Owner.SELF, EquipmentEffect.SLOW, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.SLOW)) { f.foe.slowed = true; e.emit(SLOW_APPLY, f.side, f.foe.side); }
+        });
+        register(EffectPhase.STATUS, Owner.SELF, EquipmentEffect.SILENCE, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.SILENCE)) { f.foe.silenced = true; e.emit(SILENCE_APPLY, f.side, f.foe.side); }
+        });
+        register(EffectPhase.STATUS, Owner.SELF, EquipmentEffect.DISARM, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.DISARM)) { f.foe.disarmed = true; e.emit(DISARM_APPLY, f.side, f.foe.side); }
+        });
+        // KNOCKBACK은 기존 규칙대로 공격자만
+        register(EffectPhase.STATUS, Owner.SELF, f -> f.side == ATTACKER && f.has(EquipmentEffect.KNOCKBACK), (e, f) -> {
+            if (e.proc(f, EquipmentEffect.KNOCKBACK)) { e.emit(KNOCKBACK, f.side, f.foe.side); f.foe.accuracy -= 2; }
+        });
+
+        // ===== 상태이상 부여 (방어자 선공: 기존 규칙대로 기절/출혈/둔화만, 저항/출혈/둔화 로그 없음) =====
+        register(EffectPhase.STATUS_LITE, Owner.SELF, EquipmentEffect.STUN_STRIKE, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.STUN_STRIKE) && !resistsStun(f.foe)) {
+                f.foe.stunned = true; e.emit(STUN, f.side, f.foe.side);
+            }
+        });
+        register(EffectPhase.STATUS_LITE, Owner.SELF, EquipmentEffect.BLEEDING, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.BLEEDING)) f.foe.bleeding = true;
+        });
+        register(EffectPhase.STATUS_LITE, Owner.SELF, EquipmentEffect.SLOW, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.SLOW)) f.foe.slowed = true;
+        });
+
+        // ===== 라운드 종료 (출혈 데미지 다음) =====
+        register(EffectPhase.END_OF_ROUND, Owner.BOTH, EquipmentEffect.POISON, (e, f) -> {
+            if (e.proc(f, EquipmentEffect.POISON)) {
+                int v = f.value(EquipmentEffect.POISON);
+                f.foe.hp -= v; e.emit(POISON_DAMAGE, f.side, f.foe.side, v, Math.max(0, f.foe.hp));
+            }
+        });
+        register(EffectPhase.END_OF_ROUND, Owner.BOTH, EquipmentEffect.HP_REGEN, (e, f) -> {
+            if (f.hp > 0) {
+                int v = f.value(EquipmentEffect.HP_REGEN);
+                f.hp = Math.min(f.hp + v, f.maxHp); e.emit(HP_REGEN, f.side, NONE, v, f.hp);
+            }
+        });
+        register(EffectPhase.END_OF_ROUND, Owner.BOTH, EquipmentEffect.HEALING_AURA, (e, f) -> {
+            if (f.hp > 0) { f.hp = Math.min(f.hp + 1, f.maxHp); e.emit(HEALING_AURA, f.side, NONE, 1, f.hp); }
+        });
+        // 성직자 힐
+        register(EffectPhase.END_OF_ROUND, Owner.BOTH, f -> f.profile.getCharacterClass() == CharacterClass.CLERIC, (e, f) -> {
+            int heal = 1 + BattleEngine.mod(f.profile.getWisdom());
+            if (f.hp > 0 && heal > 0 && f.hp < f.maxHp) {
+                f.hp = Math.min(f.hp + heal, f.maxHp); e.emit(CLASS_HEAL, f.side, NONE, heal, f.hp);
+            }
+        });
+        // SPIRIT_LINK (자신 HP 1 회복)
+        register(EffectPhase.END_OF_ROUND, Owner.BOTH, EquipmentEffect.SPIRIT_LINK, (e, f) -> {
+            if (f.hp > 0 && f.hp < f.maxHp) { f.hp++; e.emit(SPIRIT_LINK, f.side, NONE, 1, f.hp); }
+        });
+
+        // ===== 부활 (전투당 한 번, 쓰러진 뒤 바로) =====
+        register(EffectPhase.ON_DEATH, Owner.SELF, EquipmentEffect.SECOND_WIND, (e, f) -> {
+            if (f.hp <= 0) { f.hp = 1; e.emit(SECOND_WIND, f.side, NONE, 0, f.hp); }
+        });
+        register(EffectPhase.ON_DEATH, Owner.SELF, EquipmentEffect.DEATH_WARD, (e, f) -> {
+            if (f.hp <= 0) { f.hp = 1; e.emit(DEATH_WARD, f.side, NONE, 0, f.hp); }
+        });
+
+        register(EffectPhase.ON_VICTORY, Owner.SELF, EquipmentEffect.SOUL_HARVEST, (e, f) -> e.emit(SOUL_HARVEST, f.side, NONE, 5));
+    }
+
+    /** 화염/빙결/번개: 대응 저항이 있으면 반감 + 저항 알림 */
+    private static void registerElement(EquipmentEffect element, EquipmentEffect resistance) {
+        register(EffectPhase.ON_HIT_ELEMENT, Owner.SELF, element, (e, f) -> {
+            if (e.proc(f, element)) {
+                int v = f.value(element);
+                if (f.foe.has(resistance)) { v /= 2; e.emit(RESIST, f.foe.side, f.side, 0, NONE, 0, 0, NONE, element); }
+                e.strike.elemental += v; e.emitElement(f.side, element, v);
+            }
+        });
+    }
+
+    private static void registerMagicElement(EquipmentEffect element) {
+        register(EffectPhase.ON_HIT_ELEMENT, Owner.SELF, element, (e, f) -> {
+            if (!f.silenced && e.proc(f, element)) {
+                int v = f.value(element);
+                if (f.foe.has(EquipmentEffect.MAGIC_RESISTANCE)) v /= 2;
+                e.strike.elemental += v; e.emitElement(f.side, element, v);
+            }
+        });
+    }
+
+    private static boolean resistsStun(Fighter f) {
+        return f.has(EquipmentEffect.STUN_RESISTANCE) || f.has(EquipmentEffect.PERSEVERANCE);
+    }
+}
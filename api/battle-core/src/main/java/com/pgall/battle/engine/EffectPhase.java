@@ -0,0 +1,30 @@
+package com.pgall.battle.engine;
+
+/**
+ * 장비 효과(와 직업 패시브)가 발동하는 시점.
+ * EffectHandlers는 시점별로 핸들러를 등록하고, 전투 시작 시 실제 보유한 효과만 골라 배열로 만든다.
+ */
+public enum EffectPhase {
+    /** 전투 시작 전 (양쪽) */
+    PRE_BATTLE,
+    /** 이니셔티브 굴림 직후 (양쪽) */
+    INITIATIVE,
+    /** 자기 턴 시작 - 공격 횟수 결정 */
+    TURN_START,
+    /** 명중 직후 피격자의 방어 판정 (하나라도 막으면 그 공격은 끝) */
+    ON_DEFEND,
+    /** 명중 시 추가 원소 데미지 */
+    ON_HIT_ELEMENT,
+    /** 데미지 적용 후 (공격자/피격자 효과) */
+    ON_HIT,
+    /** 자기 턴이 끝난 뒤 상대에게 상태이상 부여 */
+    STATUS,
+    /** 방어자 선공 전투의 상태이상 부여 (기절/출혈/둔화만, 로그 축소 - 기존 규칙) */
+    STATUS_LITE,
+    /** 라운드 종료 (양쪽) */
+    END_OF_ROUND,
+    /** HP가 0 이하가 된 직후 (전투당 한 번) */
+    ON_DEATH,
+    /** 승리 시 */
+    ON_VICTORY
+}
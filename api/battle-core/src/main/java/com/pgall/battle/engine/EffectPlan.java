@@ -0,0 +1,57 @@
+package com.pgall.battle.engine;
+
+import static com.pgall.battle.engine.BattleEvent.ATTACKER;
+import static com.pgall.battle.engine.BattleEvent.DEFENDER;
+
+/**
+ * 한 대진(공격자 + 방어자)에서 실제로 발동할 수 있는 효과 핸들러만 시점별로 골라 둔 표 (불변).
+ * 보유 여부는 스냅샷만으로 정해지므로, 같은 대진을 반복하는 시뮬레이션은 한 번만 만들어 모든 판에 재사용한다.
+ * 턴 단위 배열은 side(ATTACKER/DEFENDER) 인덱스.
+ */
+final class EffectPlan {
+
+    final Combatant attacker;
+    final Combatant defender;
+
+    final EffectHandlers.Bound[] preBattle;
+    final EffectHandlers.Bound[] initiative;
+    final EffectHandlers.Bound[] endOfRound;
+    final EffectHandlers.Bound[][] victory = new EffectHandlers.Bound[2][];
+
+    final EffectHandlers.Bound[][] turnStart = new EffectHandlers.Bound[2][];
+    final EffectHandlers.Bound[][] onDefend = new EffectHandlers.Bound[2][];
+    final EffectHandlers.Bound[][] element = new EffectHandlers.Bound[2][];
+    final EffectHandlers.Bound[][] onHit = new EffectHandlers.Bound[2][];
+    final EffectHandlers.Bound[][] status = new EffectHandlers.Bound[2][];
+    final EffectHandlers.Bound[][] statusLite = new EffectHandlers.Bound[2][];
+    final EffectHandlers.Bound[][] onDeath = new EffectHandlers.Bound[2][];
+
+    private EffectPlan(Combatant attacker, Combatant defender) {
+        this.attacker = attacker;
+        this.defender = defender;
+
+        // 보유 여부 판단용 (전투 상태는 쓰지 않는다)
+        Fighter atk = new Fighter(ATTACKER, attacker);
+        Fighter def = new Fighter(DEFENDER, defender);
+        atk.foe = def;
+        def.foe = atk;
+
+        preBattle = EffectHandlers.resolve(EffectPhase.PRE_BATTLE, atk);
+        initiative = EffectHandlers.resolve(EffectPhase.INITIATIVE, atk);
+        endOfRound = EffectHandlers.resolve(EffectPhase.END_OF_ROUND, atk);
+        for (Fighter f : new Fighter[]{atk, def}) {
+            victory[f.side] = EffectHandlers.resolve(EffectPhase.ON_VICTORY, f);
+            turnStart[f.side] = EffectHandlers.resolve(EffectPhase.TURN_START, f);
+            onDefend[f.side] = EffectHandlers.resolve(EffectPhase.ON_DEFEND, f);
+            element[f.side] = EffectHandlers.resolve(EffectPhase.ON_HIT_ELEMENT, f);
+            onHit[f.side] = EffectHandlers.resolve(EffectPhase.ON_HIT, f);
+            status[f.side] = EffectHandlers.resolve(EffectPhase.STATUS, f);
+            statusLite[f.side] = EffectHandlers.resolve(EffectPhase.STATUS_LITE, f);
+            onDeath[f.side] = EffectHandlers.resolve(EffectPhase.ON_DEATH, f);
+        }
+    }
+
+    static EffectPlan of(Combatant attacker, Combatant defender) {
+        return new EffectPlan(attacker, defender);
+    }
+}
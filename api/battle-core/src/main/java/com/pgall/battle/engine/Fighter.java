@@ -0,0 +1,97 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.BuffType;
+import com.pgall.battle.enums.EquipmentEffect;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 전투 중 한쪽의 상태 (엔진 내부 전용, 한 판마다 새로 만든다).
+ * 전투 내내 변하지 않는 값은 생성 시 한 번만 계산하고, 효과 핸들러는 EffectPlan에서 연결한다.
+ */
+final class Fighter {
+
+    final int side;
+    final CombatProfile profile;
+    final CombatProfile.Weapon weapon;
+    final List<Combatant.Potion> potions;
+    final int[] potionsUsed;
+    final Set<BuffType> buffsUsed = EnumSet.noneOf(BuffType.class);
+    Fighter foe;
+
+    // 전투 중 변하는 값
+    int hp;
+    final int maxHp;
+    int ac;
+    int debuff;
+    int accuracy;
+    int absorb;
+    int initiative;
+    boolean cursed, stunned, bleeding, slowed, silenced, disarmed;
+
+    // 고정 값 (턴마다 다시 계산하지 않음)
+    final int attackMod;
+    final int hitBonus;
+    final int penetration;
+    final int damageReduction;
+    final boolean ironSkin;
+    /** 이 값 이상이면 치명타 (CRITICAL_BOOST 18, LUCK 19, 없으면 21 = 자연 20만) */
+    final int critThreshold;
+
+    // 보유 효과만 담은 턴 중 핸들러 (EffectPlan에서 가져온다)
+    EffectHandlers.Bound[] turnStart, onDefend, element, onHit, status, onDeath;
+
+    Fighter(int side, Combatant combatant) {
+        this.side = side;
+        this.profile = combatant.profile();
+        this.weapon = profile.getWeapon();
+        this.potions = combatant.potions();
+        this.potionsUsed = new int[potions.size()];
+        this.maxHp = BattleEngine.effectiveMaxHp(profile);
+        this.hp = maxHp;
+        this.ac = profile.getArmorClass(); // 방어력 캡 8, DEX 장비보너스는 AC에 미반영
+
+        this.attackMod = BattleEngine.attackModifier(profile, weapon);
+        this.hitBonus = profile.getTotalAttack() / 2;
+        this.penetration = profile.value(EquipmentEffect.ARMOR_PENETRATION);
+        this.damageReduction = profile.value(EquipmentEffect.DAMAGE_REDUCTION) + profile.value(EquipmentEffect.HEAVY_ARMOR);
+        this.ironSkin = profile.has(EquipmentEffect.IRON_SKIN);
+        this.critThreshold = profile.has(EquipmentEffect.CRITICAL_BOOST) ? 18 : profile.has(EquipmentEffect.LUCK) ? 19 : 21;
+    }
+
+    /** 선공이 정해진 뒤 턴 중 핸들러를 연결한다 (방어자 선공이면 상태이상은 축소 규칙) */
+    void bind(EffectPlan plan, boolean attackerFirst) {
+        turnStart = plan.turnStart[side];
+        onDefend = plan.onDefend[side];
+        element = plan.element[side];
+        onHit = plan.onHit[side];
+        status = attackerFirst ? plan.status[side] : plan.statusLite[side];
+        onDeath = plan.onDeath[side];
+    }
+
+    boolean has(EquipmentEffect effect) {
+        return profile.has(effect);
+    }
+
+    int value(EquipmentEffect effect) {
+        return profile.value(effect);
+    }
+
+    /** 수량이 남은 해당 버프 물약 보유 여부 (버프 물약은 1라운드에 반드시 사용된다) */
+    boolean hasBuffPotion(BuffType buff) {
+        for (Combatant.Potion potion : potions) {
+            if (potion.buffType() == buff && potion.quantity() > 0) return true;
+        }
+        return false;
+    }
+
+    /** 1턴짜리 상태이상 해제 (출혈은 유지) */
+    void clearStatus() {
+        stunned = false;
+        slowed = false;
+        silenced = false;
+        disarmed = false;
+    }
+}
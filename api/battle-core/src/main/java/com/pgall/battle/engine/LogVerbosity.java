@@ -0,0 +1,35 @@
+package com.pgall.battle.engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 전투 이벤트(로그) 기록 수준.
+ * 엔진은 기록하지 않을 이벤트는 만들지도 않으므로, 대량 전투는 NONE/SUMMARY로 할당을 줄일 수 있다.
+ * 전투 기록은 seed + 스냅샷으로 저장되므로 수준과 관계없이 나중에 FULL로 재생할 수 있다.
+ */
+public enum LogVerbosity {
+    /** 이벤트 없음 (승패/정산 결과만) */
+    NONE,
+    /** 시작/종료/보상/ELO만 */
+    SUMMARY,
+    /** 전체 (기본) */
+    FULL;
+
+    private static final Set<BattleEventType> SUMMARY_TYPES = EnumSet.of(
+            BattleEventType.START, BattleEventType.INTRO, BattleEventType.TIMEOUT,
+            BattleEventType.BATTLE_END, BattleEventType.REWARD, BattleEventType.CONSOLATION, BattleEventType.RATING);
+
+    public boolean keeps(BattleEventType type) {
+        return switch (this) {
+            case NONE -> false;
+            case SUMMARY -> SUMMARY_TYPES.contains(type);
+            case FULL -> true;
+        };
+    }
+
+    /** 요청에 지정이 없으면 FULL */
+    public static LogVerbosity orDefault(LogVerbosity verbosity) {
+        return verbosity != null ? verbosity : FULL;
+    }
+}
@@ -0,0 +1,38 @@
+package com.pgall.battle.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 엔진 이벤트를 라운드 단위로 묶어서 넘겨주는 sink.
+ * ROUND 이벤트가 들어오면 직전까지 모인 묶음(전투 준비 또는 이전 라운드)을 내보내고,
+ * 마지막 묶음(마지막 라운드 + 정산)은 finish()에서 내보낸다.
+ */
+public final class RoundBatcher implements Consumer<BattleEvent> {
+
+    private final Consumer<List<BattleEvent>> onBatch;
+    private List<BattleEvent> batch = new ArrayList<>();
+
+    public RoundBatcher(Consumer<List<BattleEvent>> onBatch) {
+        this.onBatch = onBatch;
+    }
+
+    @Override
+    public void accept(BattleEvent event) {
+        if (event.type() == BattleEventType.ROUND) flush();
+        batch.add(event);
+    }
+
+    /** 남은 이벤트를 내보낸다 */
+    public void finish() {
+        flush();
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) return;
+        List<BattleEvent> out = batch;
+        batch = new ArrayList<>();
+        onBatch.accept(out);
+    }
+}
@@ -0,0 +1,49 @@
+package com.pgall.battle.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * seed 기반 전투 (실전/재생 공용).
+ * 같은 스냅샷 + seed + RULES_VERSION이면 항상 같은 이벤트열과 정산 결과가 나온다.
+ * 그래서 전투 기록은 로그 텍스트 대신 seed와 스냅샷만 저장하고, 조회 시 다시 돌려서 만든다.
+ */
+public final class SeededBattle {
+
+    /** 전투 규칙/난수 사용 순서가 바뀌면 올린다 (이전 버전 기록은 재생 불가) */
+    public static final int RULES_VERSION = 1;
+
+    private static final RandomGeneratorFactory<RandomGenerator> RANDOMS = RandomGeneratorFactory.of("L64X128MixRandom");
+
+    private SeededBattle() {}
+
+    public record Result(BattleOutcome outcome, BattleSettlement settlement, List<BattleEvent> events) {}
+
+    public static RandomGenerator random(long seed) {
+        return RANDOMS.create(seed);
+    }
+
+    /** 전투 + 정산 (NONE이면 events는 null) */
+    public static Result run(BattleSnapshot snapshot, long seed, LogVerbosity verbosity) {
+        List<BattleEvent> events = verbosity != LogVerbosity.NONE ? new ArrayList<>() : null;
+        Result result = run(snapshot, seed, verbosity, events != null ? events::add : null);
+        return new Result(result.outcome(), result.settlement(), events);
+    }
+
+    /**
+     * 전투 + 정산, 이벤트는 만들어지는 즉시 sink로 전달한다 (스트리밍용).
+     * 결과의 events는 null이다. 기록 수준은 난수 사용에 영향을 주지 않으므로 결과는 같다.
+     */
+    public static Result run(BattleSnapshot snapshot, long seed, LogVerbosity verbosity, Consumer<BattleEvent> sink) {
+        if (verbosity == LogVerbosity.NONE) sink = null;
+        RandomGenerator random = random(seed);
+        BattleOutcome outcome = BattleEngine.fight(snapshot.attacker(), snapshot.defender(), random, sink, verbosity);
+        BattleSettlement settlement = BattleSettlement.settle(outcome, snapshot.attackerElo(), snapshot.defenderElo(), random);
+        // 정산 이벤트는 모두 SUMMARY에 포함된다
+        if (sink != null) settlement.appendEvents(sink, outcome.attackerWon());
+        return new Result(outcome, settlement, null);
+    }
+}
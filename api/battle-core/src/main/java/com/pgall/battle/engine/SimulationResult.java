@@ -0,0 +1,23 @@
+package com.pgall.battle.engine;
+
+/**
+ * BattleSimulator 집계 결과.
+ * HP 분포는 11칸 히스토그램: [0] = 사망(HP 0 이하), [k] = 남은 HP 비율 ((k-1)*10%, k*10%].
+ */
+public record SimulationResult(int iterations,
+                               long attackerWins,
+                               long timeouts,
+                               double attackerWinRate,
+                               double averageRounds,
+                               double timeoutRate,
+                               long[] attackerHpHistogram,
+                               long[] defenderHpHistogram,
+                               double attackerAvgHpRatio,
+                               double defenderAvgHpRatio) {
+
+    public static final int HP_BUCKETS = 11;
+
+    public long defenderWins() {
+        return iterations - attackerWins;
+    }
+}
@@ -0,0 +1,127 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleEngineTest {
+
+    private static final int SEEDS = 200;
+
+    @Test
+    void outcomeIsConsistent() {
+        for (BattleSnapshot snapshot : TestSnapshots.all()) {
+            Combatant atk = snapshot.attacker();
+            Combatant def = snapshot.defender();
+            for (long seed = 0; seed < SEEDS; seed++) {
+                BattleOutcome o = BattleEngine.fight(atk, def, SeededBattle.random(seed), null);
+
+                assertTrue(o.rounds() >= 1 && o.rounds() <= BattleEngine.MAX_ROUNDS, "rounds " + o.rounds());
+                assertEquals(BattleEngine.effectiveMaxHp(atk.profile()), o.attackerMaxHp());
+                assertEquals(BattleEngine.effectiveMaxHp(def.profile()), o.defenderMaxHp());
+                if (o.timeout()) {
+                    assertEquals(BattleEngine.MAX_ROUNDS, o.rounds());
+                    assertTrue(o.attackerHp() > 0 && o.defenderHp() > 0);
+                    assertEquals(o.attackerHp() >= o.defenderHp(), o.attackerWon());
+                } else {
+                    assertTrue((o.attackerWon() ? o.defenderHp() : o.attackerHp()) <= 0, "패자 HP가 남아 있음 (seed " + seed + ")");
+                }
+                assertPotionsWithinStock(atk, o.attackerPotionsUsed());
+                assertPotionsWithinStock(def, o.defenderPotionsUsed());
+            }
+        }
+    }
+
+    @Test
+    void sinkDoesNotChangeOutcome() {
+        for (BattleSnapshot snapshot : TestSnapshots.all()) {
+            for (long seed = 0; seed < SEEDS; seed++) {
+                List<BattleEvent> events = new ArrayList<>();
+                BattleOutcome logged = BattleEngine.fight(snapshot.attacker(), snapshot.defender(), SeededBattle.random(seed), events::add);
+                BattleOutcome silent = BattleEngine.fight(snapshot.attacker(), snapshot.defender(), SeededBattle.random(seed), null);
+
+                assertEquals(logged.attackerWon(), silent.attackerWon());
+                assertEquals(logged.rounds(), silent.rounds());
+                assertEquals(logged.attackerHp(), silent.attackerHp());
+                assertEquals(logged.defenderHp(), silent.defenderHp());
+                assertEquals(BattleEventType.START, events.get(0).type());
+                assertEquals(BattleEventType.INTRO, events.get(1).type());
+                assertEquals(logged.timeout(), events.stream().anyMatch(e -> e.type() == BattleEventType.TIMEOUT));
+            }
+        }
+    }
+
+    @Test
+    void muchStrongerSideWinsAlmostAlways() {
+        CombatProfile strong = CombatProfile.of(
+                TestSnapshots.base(10, "강자", CharacterClass.WARRIOR, 20, 16, 18, 10, 10, 10, 200), List.of(
+                        TestSnapshots.weapon("양손검 +10", WeaponCategory.GREATSWORD, 12, 6, 20),
+                        TestSnapshots.armor(EquipmentType.ARMOR, "판금 갑옷", 8, 4)));
+        CombatProfile weak = CombatProfile.of(
+                TestSnapshots.base(11, "약자", CharacterClass.MAGE, 8, 8, 8, 10, 8, 8, 40), List.of());
+
+        int wins = 0;
+        for (long seed = 0; seed < SEEDS; seed++) {
+            if (BattleEngine.fight(Combatant.of(strong), Combatant.of(weak), SeededBattle.random(seed), null).attackerWon()) wins++;
+        }
+        assertTrue(wins >= SEEDS * 95 / 100, "승리 " + wins + "/" + SEEDS);
+    }
+
+    @Test
+    void timeoutWhenNobodyCanFall() {
+        CombatProfile wall = CombatProfile.of(
+                TestSnapshots.base(12, "벽", CharacterClass.WARRIOR, 10, 10, 10, 10, 10, 10, 30_000), List.of());
+        List<BattleEvent> events = new ArrayList<>();
+
+        BattleOutcome o = BattleEngine.fight(Combatant.of(wall), Combatant.of(wall), SeededBattle.random(7), events::add);
+
+        assertTrue(o.timeout());
+        assertEquals(BattleEngine.MAX_ROUNDS, o.rounds());
+        assertEquals(o.attackerHp() >= o.defenderHp(), o.attackerWon());
+        assertEquals(1, events.stream().filter(e -> e.type() == BattleEventType.TIMEOUT).count());
+    }
+
+    @Test
+    void effectiveMaxHpAddsConstitutionBonusAndEndurance() {
+        CombatProfile profile = CombatProfile.of(
+                TestSnapshots.base(13, "인내", CharacterClass.CLERIC, 10, 10, 10, 10, 10, 10, 100), List.of(
+                        TestSnapshots.armor(EquipmentType.ARMOR, "갑옷", 2, 3, TestSnapshots.effect(EquipmentEffect.ENDURANCE, 100, 10)),
+                        TestSnapshots.armor(EquipmentType.RING, "저주 반지", 0, -5)));
+
+        // CON 보너스 합이 음수면 HP를 깎지 않는다
+        assertEquals(110, BattleEngine.effectiveMaxHp(profile));
+
+        CombatProfile plain = CombatProfile.of(
+                TestSnapshots.base(14, "건강", CharacterClass.CLERIC, 10, 10, 10, 10, 10, 10, 100), List.of(
+                        TestSnapshots.armor(EquipmentType.ARMOR, "갑옷", 2, 3, TestSnapshots.effect(EquipmentEffect.ENDURANCE, 100, 10))));
+        assertEquals(100 + 3 * 2 + 10, BattleEngine.effectiveMaxHp(plain));
+    }
+
+    @Test
+    void simulatorIsReproducibleForSeed() {
+        BattleSnapshot snapshot = TestSnapshots.warriorVsMage();
+        BattleSimulator simulator = new BattleSimulator();
+
+        SimulationResult first = simulator.simulate(snapshot.attacker(), snapshot.defender(), 2_000, 42);
+        SimulationResult second = simulator.simulate(snapshot.attacker(), snapshot.defender(), 2_000, 42);
+
+        assertEquals(2_000, first.iterations());
+        assertEquals(first.attackerWins(), second.attackerWins());
+        assertEquals(first.timeouts(), second.timeouts());
+        assertEquals(first.averageRounds(), second.averageRounds(), 0.0);
+        assertEquals(first.attackerWins() + first.defenderWins(), first.iterations());
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(snapshot.attacker(), snapshot.defender(), 0, 1));
+    }
+
+    private static void assertPotionsWithinStock(Combatant c, int[] used) {
+        assertEquals(c.potions().size(), used.length);
+        for (int i = 0; i < used.length; i++) {
+            assertTrue(used[i] >= 0 && used[i] <= c.potions().get(i).quantity(),
+                    c.potions().get(i).name() + " 사용 " + used[i]);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.pgall.battle.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pgall.battle.engine.BattleEvent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleLogRendererTest {
+
+    @Test
+    void timeoutShowsHpOverEffectiveMaxHp() {
+        BattleSnapshot s = TestSnapshots.warriorVsMage();
+        BattleLogRenderer renderer = new BattleLogRenderer(s.attacker(), s.defender());
+
+        String line = renderer.render(new BattleEvent(BattleEventType.TIMEOUT, ATTACKER, DEFENDER, 0, NONE, 12, 7, NONE, null));
+
+        // 최대 HP는 CON 장비보너스까지 반영한 값 (전사 120 + 2*2, 마법사 80 + 1*2)
+        assertEquals("20라운드 경과! HP가 더 많은 전사 용사 판정승! (전사 용사 HP:12/124 vs 마법사 용사 HP:7/82)", line);
+    }
+
+    @Test
+    void ratingIsOneLineForBothSides() {
+        BattleSnapshot s = TestSnapshots.warriorVsMage();
+        BattleSettlement settlement = BattleSettlement.settle(
+                new BattleOutcome(false, false, 6, -1, 30, 124, 82, new int[0], new int[0]), 1200, 1150, SeededBattle.random(1));
+        List<BattleEvent> events = new ArrayList<>();
+        settlement.appendEvents(events::add, false);
+
+        List<String> lines = BattleLogRenderer.render(s.attacker(), s.defender(), events);
+
+        assertEquals(events.size(), lines.size());
+        assertEquals("ELO: 마법사 용사 +" + settlement.winnerDelta() + " (" + settlement.winnerElo() + ") | 전사 용사 "
+                + settlement.loserDelta() + " (" + settlement.loserElo() + ")", lines.get(lines.size() - 1));
+        assertEquals(1, lines.stream().filter(l -> l.startsWith("ELO:")).count());
+    }
+}
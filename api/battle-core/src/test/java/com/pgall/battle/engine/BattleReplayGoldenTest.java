@@ -0,0 +1,111 @@
+package com.pgall.battle.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 고정 스냅샷 + seed의 전투 결과와 이벤트열이 골든 데이터(replay-golden.txt)와 같은지 확인한다.
+ * 저장된 전투 기록은 seed + 스냅샷을 다시 돌려서 보여주므로, 같은 RULES_VERSION 안에서
+ * 엔진을 고쳐도(효과 처리 구조 변경 등) 결과와 난수 사용 순서가 그대로여야 한다.
+ * 규칙을 일부러 바꿨다면 RULES_VERSION을 올리고 골든 데이터를 다시 만든다.
+ */
+class BattleReplayGoldenTest {
+
+    private record Golden(int snapshot, long seed, String expected) {}
+
+    @Test
+    void replaysMatchGolden() throws IOException {
+        List<BattleSnapshot> snapshots = TestSnapshots.all();
+        List<String> mismatches = new ArrayList<>();
+        List<Golden> golden = golden();
+        for (Golden g : golden) {
+            String actual = describe(SeededBattle.run(snapshots.get(g.snapshot()), g.seed(), LogVerbosity.FULL));
+            if (!actual.equals(g.expected())) {
+                mismatches.add(g.snapshot() + " " + g.seed() + ": expected " + g.expected() + " but was " + actual);
+            }
+        }
+        assertFalse(golden.isEmpty());
+        assertTrue(mismatches.isEmpty(), mismatches.size() + "건 불일치\n" + String.join("\n", mismatches));
+    }
+
+    @Test
+    void verbosityDoesNotChangeResult() throws IOException {
+        List<BattleSnapshot> snapshots = TestSnapshots.all();
+        for (Golden g : golden()) {
+            BattleSnapshot snapshot = snapshots.get(g.snapshot());
+            SeededBattle.Result full = SeededBattle.run(snapshot, g.seed(), LogVerbosity.FULL);
+            SeededBattle.Result summary = SeededBattle.run(snapshot, g.seed(), LogVerbosity.SUMMARY);
+            SeededBattle.Result none = SeededBattle.run(snapshot, g.seed(), LogVerbosity.NONE);
+
+            assertEquals(full.settlement(), summary.settlement());
+            assertEquals(full.settlement(), none.settlement());
+            assertEquals(full.outcome().rounds(), none.outcome().rounds());
+            assertEquals(full.outcome().attackerHp(), none.outcome().attackerHp());
+            assertEquals(full.outcome().defenderHp(), none.outcome().defenderHp());
+            assertNull(none.events());
+            assertEquals(full.events().stream().filter(e -> LogVerbosity.SUMMARY.keeps(e.type())).toList(), summary.events());
+        }
+    }
+
+    private static List<Golden> golden() throws IOException {
+        List<Golden> golden = new ArrayList<>();
+        try (InputStream in = BattleReplayGoldenTest.class.getResourceAsStream("replay-golden.txt")) {
+            assertNotNull(in, "replay-golden.txt 없음");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("# rules ")) {
+                    assertEquals(Integer.parseInt(line.substring("# rules ".length()).trim()), SeededBattle.RULES_VERSION,
+                            "골든 데이터의 규칙 버전이 다르다 (RULES_VERSION을 올렸다면 골든 데이터도 다시 만든다)");
+                }
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] parts = line.split(" ", 3);
+                golden.add(new Golden(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), parts[2]));
+            }
+        }
+        return golden;
+    }
+
+    /** 승패(T: 시간 초과) / 라운드 / 최종 HP / 물약 사용 / 골드·ELO 정산 / 이벤트 수:이벤트열 해시 */
+    static String describe(SeededBattle.Result r) {
+        BattleOutcome o = r.outcome();
+        BattleSettlement s = r.settlement();
+        return (o.attackerWon() ? "A" : "D") + (o.timeout() ? "T" : "") + " r" + o.rounds()
+                + " hp" + o.attackerHp() + "/" + o.defenderHp()
+                + " p" + compact(o.attackerPotionsUsed()) + compact(o.defenderPotionsUsed())
+                + " g" + s.goldReward() + "/" + s.loserGoldReward() + " elo" + s.winnerDelta() + "/" + s.loserDelta()
+                + " e" + r.events().size() + ":" + digest(r.events());
+    }
+
+    private static String compact(int[] values) {
+        return Arrays.toString(values).replace(" ", "");
+    }
+
+    private static String digest(List<BattleEvent> events) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (BattleEvent e : events) {
+                String line = e.type().name() + "|" + e.actor() + "|" + e.target() + "|" + e.amount() + "|" + e.hp()
+                        + "|" + e.value() + "|" + e.versus() + "|" + e.ref()
+                        + "|" + (e.effect() != null ? e.effect().name() : "") + "\n";
+                md.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(md.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
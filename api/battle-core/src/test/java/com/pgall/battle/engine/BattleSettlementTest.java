@@ -0,0 +1,114 @@
+package com.pgall.battle.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleSettlementTest {
+
+    private static final BattleOutcome ATTACKER_WON =
+            new BattleOutcome(true, false, 5, 12, -3, 100, 90, new int[0], new int[0]);
+    private static final BattleOutcome DEFENDER_WON =
+            new BattleOutcome(false, false, 6, -1, 30, 100, 90, new int[0], new int[0]);
+
+    @Test
+    void equalRatingsMoveSixteenPoints() {
+        BattleSettlement s = BattleSettlement.settle(ATTACKER_WON, 1000, 1000, SeededBattle.random(1));
+
+        assertEquals(16, s.winnerDelta());
+        assertEquals(-16, s.loserDelta());
+        assertEquals(1016, s.winnerElo());
+        assertEquals(984, s.loserElo());
+    }
+
+    @Test
+    void underdogWinMovesMore() {
+        // 기대 승률 1/11 → 32 * 10/11 = 29.09
+        BattleSettlement upset = BattleSettlement.settle(DEFENDER_WON, 1400, 1000, SeededBattle.random(1));
+        assertEquals(29, upset.winnerDelta());
+        assertEquals(-29, upset.loserDelta());
+        assertEquals(1029, upset.winnerElo());
+        assertEquals(1371, upset.loserElo());
+
+        BattleSettlement expected = BattleSettlement.settle(ATTACKER_WON, 1400, 1000, SeededBattle.random(1));
+        assertEquals(3, expected.winnerDelta());
+        assertEquals(-3, expected.loserDelta());
+    }
+
+    @Test
+    void loserRatingNeverGoesBelowZero() {
+        BattleSettlement s = BattleSettlement.settle(ATTACKER_WON, 300, 3, SeededBattle.random(1));
+
+        assertEquals(-5, s.loserDelta());
+        assertEquals(0, s.loserElo());
+    }
+
+    @Test
+    void goldRewardFollowsWinnerBracketAndUpsetBonus() {
+        for (long seed = 0; seed < 100; seed++) {
+            assertBetween(60, 99, BattleSettlement.settle(ATTACKER_WON, 1000, 1000, SeededBattle.random(seed)).goldReward());
+            assertBetween(100, 139, BattleSettlement.settle(ATTACKER_WON, 1200, 1200, SeededBattle.random(seed)).goldReward());
+            assertBetween(160, 199, BattleSettlement.settle(ATTACKER_WON, 1500, 1500, SeededBattle.random(seed)).goldReward());
+            // 상대가 300 높으면 +30, 보너스는 최대 100
+            assertBetween(90, 129, BattleSettlement.settle(ATTACKER_WON, 1000, 1300, SeededBattle.random(seed)).goldReward());
+            assertBetween(160, 199, BattleSettlement.settle(ATTACKER_WON, 1000, 3000, SeededBattle.random(seed)).goldReward());
+        }
+    }
+
+    @Test
+    void consolationGoldOnlyWhenLoserIsFarBelow() {
+        assertEquals(0, BattleSettlement.settle(ATTACKER_WON, 1020, 1000, SeededBattle.random(1)).loserGoldReward());
+        assertEquals(0, BattleSettlement.settle(ATTACKER_WON, 1029, 1000, SeededBattle.random(1)).loserGoldReward());
+        assertEquals((100 - 30) * 3, BattleSettlement.settle(ATTACKER_WON, 1300, 1200, SeededBattle.random(1)).loserGoldReward());
+        // 약자가 이기면 위로금 없음
+        assertEquals(0, BattleSettlement.settle(DEFENDER_WON, 1300, 1200, SeededBattle.random(1)).loserGoldReward());
+    }
+
+    @Test
+    void sameRandomSameSettlement() {
+        for (long seed = 0; seed < 50; seed++) {
+            assertEquals(BattleSettlement.settle(DEFENDER_WON, 1100, 1250, SeededBattle.random(seed)),
+                    BattleSettlement.settle(DEFENDER_WON, 1100, 1250, SeededBattle.random(seed)));
+        }
+    }
+
+    @Test
+    void appendsSettlementEventsInOrder() {
+        BattleSettlement s = BattleSettlement.settle(DEFENDER_WON, 1300, 1200, SeededBattle.random(3));
+        List<BattleEvent> events = new ArrayList<>();
+
+        s.appendEvents(events::add, false);
+
+        assertEquals(List.of(BattleEventType.BATTLE_END, BattleEventType.REWARD, BattleEventType.RATING),
+                events.stream().map(BattleEvent::type).toList());
+        BattleEvent reward = events.get(1);
+        assertEquals(BattleEvent.DEFENDER, reward.actor());
+        assertEquals(s.goldReward(), reward.amount());
+        BattleEvent rating = events.get(2);
+        assertEquals(BattleEvent.DEFENDER, rating.actor());
+        assertEquals(BattleEvent.ATTACKER, rating.target());
+        assertEquals(s.winnerDelta(), rating.amount());
+        assertEquals(s.winnerElo(), rating.value());
+        assertEquals(s.loserDelta(), rating.ref());
+        assertEquals(s.loserElo(), rating.versus());
+    }
+
+    @Test
+    void consolationEventWhenLoserGetsGold() {
+        BattleSettlement s = BattleSettlement.settle(ATTACKER_WON, 1300, 1200, SeededBattle.random(3));
+        List<BattleEvent> events = new ArrayList<>();
+
+        s.appendEvents(events::add, true);
+
+        assertEquals(BattleEventType.CONSOLATION, events.get(2).type());
+        assertEquals(BattleEvent.DEFENDER, events.get(2).actor());
+        assertEquals(s.loserGoldReward(), events.get(2).amount());
+    }
+
+    private static void assertBetween(int min, int max, int actual) {
+        assertTrue(actual >= min && actual <= max, actual + " not in [" + min + ", " + max + "]");
+    }
+}
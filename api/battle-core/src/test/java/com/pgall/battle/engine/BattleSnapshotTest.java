@@ -0,0 +1,129 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleSnapshotTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        for (BattleSnapshot snapshot : TestSnapshots.all()) {
+            BattleSnapshot decoded = BattleSnapshot.decode(snapshot.encode());
+            assertSameSnapshot(snapshot, decoded);
+            assertArrayEquals(snapshot.encode(), decoded.encode());
+        }
+    }
+
+    @Test
+    void decodedSnapshotReplaysSameBattle() {
+        for (BattleSnapshot snapshot : TestSnapshots.all()) {
+            BattleSnapshot decoded = BattleSnapshot.decode(snapshot.encode());
+            for (long seed = 0; seed < 50; seed++) {
+                assertSameResult(SeededBattle.run(snapshot, seed, LogVerbosity.FULL),
+                        SeededBattle.run(decoded, seed, LogVerbosity.FULL));
+            }
+        }
+    }
+
+    @Test
+    void valuesAboveShortRangeSurvive() {
+        CombatProfile.Base base = new CombatProfile.Base(70_000L, 40_000, "보스", CharacterClass.WARRIOR,
+                40, 38, 36, 34, 32, 30, 40_000);
+        CombatProfile profile = CombatProfile.of(base, List.of(
+                TestSnapshots.weapon("전설의 검", WeaponCategory.SWORD, 35_000, 1, 33_000,
+                        TestSnapshots.effect(EquipmentEffect.THORNS, 100, 50_000)),
+                TestSnapshots.armor(EquipmentType.ARMOR, "전설의 갑옷", 36_000, -40_000)));
+        BattleSnapshot snapshot = new BattleSnapshot(
+                new Combatant(profile, List.of(new Combatant.Potion("치유 물약", BuffType.HEAL, 70_000))),
+                TestSnapshots.rogueVsCleric().defender(), 100_000, -5);
+
+        BattleSnapshot decoded = BattleSnapshot.decode(snapshot.encode());
+
+        assertSameSnapshot(snapshot, decoded);
+        CombatProfile p = decoded.attacker().profile();
+        assertEquals(40_000, p.getMaxHp());
+        assertEquals(33_000, p.getWeapon().damageMax());
+        assertEquals(50_000, p.value(EquipmentEffect.THORNS));
+        assertEquals(-40_000, p.getBonusConstitution());
+        assertEquals(70_000, decoded.attacker().potions().get(0).quantity());
+    }
+
+    @Test
+    void missingCharacterIdStaysMissing() {
+        CombatProfile.Base base = new CombatProfile.Base(null, 0, null, null, 10, 10, 10, 10, 10, 10, 50);
+        BattleSnapshot snapshot = new BattleSnapshot(Combatant.of(CombatProfile.of(base, List.of())),
+                TestSnapshots.rogueVsCleric().defender(), 1000, 1000);
+
+        BattleSnapshot decoded = BattleSnapshot.decode(snapshot.encode());
+
+        assertNull(decoded.attacker().profile().getCharacterId());
+        assertNull(decoded.attacker().profile().getWeapon());
+        assertEquals(4L, decoded.defender().profile().getCharacterId());
+    }
+
+    @Test
+    void tooManyPotionKindsRejected() {
+        List<Combatant.Potion> potions = new ArrayList<>();
+        for (int i = 0; i < 256; i++) potions.add(new Combatant.Potion("물약 " + i, BuffType.HEAL, 1));
+        BattleSnapshot snapshot = new BattleSnapshot(
+                new Combatant(TestSnapshots.warriorVsMage().attacker().profile(), potions),
+                TestSnapshots.warriorVsMage().defender(), 1000, 1000);
+
+        assertThrows(IllegalArgumentException.class, snapshot::encode);
+    }
+
+    @Test
+    void unknownFormatRejected() {
+        assertThrows(IllegalStateException.class, () -> BattleSnapshot.decode(new byte[]{0}));
+        assertThrows(IllegalStateException.class, () -> BattleSnapshot.decode(new byte[]{99}));
+    }
+
+    static void assertSameSnapshot(BattleSnapshot expected, BattleSnapshot actual) {
+        assertEquals(expected.attackerElo(), actual.attackerElo());
+        assertEquals(expected.defenderElo(), actual.defenderElo());
+        assertSameProfile(expected.attacker().profile(), actual.attacker().profile());
+        assertSameProfile(expected.defender().profile(), actual.defender().profile());
+        assertEquals(expected.attacker().potions(), actual.attacker().potions());
+        assertEquals(expected.defender().potions(), actual.defender().potions());
+    }
+
+    static void assertSameProfile(CombatProfile expected, CombatProfile actual) {
+        assertEquals(expected.getCharacterId(), actual.getCharacterId());
+        assertEquals(expected.getLoadoutVersion(), actual.getLoadoutVersion());
+        assertEquals(expected.getCharacterClass(), actual.getCharacterClass());
+        assertArrayEquals(stats(expected), stats(actual));
+        assertEquals(expected.getWeapon(), actual.getWeapon());
+        assertEquals(expected.effectCount(), actual.effectCount());
+        for (EquipmentEffect e : EquipmentEffect.values()) {
+            assertEquals(expected.has(e), actual.has(e), e.name());
+            assertEquals(expected.chance(e), actual.chance(e), e.name());
+            assertEquals(expected.value(e), actual.value(e), e.name());
+        }
+    }
+
+    static void assertSameResult(SeededBattle.Result expected, SeededBattle.Result actual) {
+        BattleOutcome e = expected.outcome();
+        BattleOutcome a = actual.outcome();
+        assertEquals(e.attackerWon(), a.attackerWon());
+        assertEquals(e.timeout(), a.timeout());
+        assertEquals(e.rounds(), a.rounds());
+        assertEquals(e.attackerHp(), a.attackerHp());
+        assertEquals(e.defenderHp(), a.defenderHp());
+        assertArrayEquals(e.attackerPotionsUsed(), a.attackerPotionsUsed());
+        assertArrayEquals(e.defenderPotionsUsed(), a.defenderPotionsUsed());
+        assertEquals(expected.settlement(), actual.settlement());
+        assertEquals(expected.events(), actual.events());
+    }
+
+    private static int[] stats(CombatProfile p) {
+        return new int[]{p.getStrength(), p.getDexterity(), p.getConstitution(), p.getIntelligence(), p.getWisdom(),
+                p.getCharisma(), p.getMaxHp(), p.getTotalAttack(), p.getWeaponAttack(), p.getTotalDefense(),
+                p.getArmorClass(), p.getBonusStrength(), p.getBonusDexterity(), p.getBonusConstitution(),
+                p.getBonusIntelligence(), p.getBonusWisdom(), p.getBonusCharisma()};
+    }
+}
@@ -0,0 +1,91 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.enums.*;
+
+import java.util.List;
+
+/**
+ * 테스트용 고정 스냅샷.
+ * 값을 바꾸면 이 값으로 만든 골든 데이터(replay-golden.txt)도 다시 만들어야 한다.
+ */
+final class TestSnapshots {
+
+    private TestSnapshots() {}
+
+    static CombatProfile.Base base(long id, String name, CharacterClass cls,
+                                   int str, int dex, int con, int intel, int wis, int cha, int maxHp) {
+        return new CombatProfile.Base(id, 3, name, cls, str, dex, con, intel, wis, cha, maxHp);
+    }
+
+    static CombatProfile.Gear weapon(String name, WeaponCategory category, int attack, int min, int max,
+                                     CombatProfile.Effect... effects) {
+        return new CombatProfile.Gear(EquipmentType.WEAPON, name, attack, 0,
+                category, category.getScalingStat(), min, max,
+                0, 0, 0, 0, 0, 0, List.of(effects));
+    }
+
+    static CombatProfile.Gear armor(EquipmentType type, String name, int defense, int bonusCon,
+                                    CombatProfile.Effect... effects) {
+        return new CombatProfile.Gear(type, name, 0, defense,
+                null, null, 0, 0,
+                0, 0, bonusCon, 0, 0, 0, List.of(effects));
+    }
+
+    static CombatProfile.Effect effect(EquipmentEffect effect, int chance, int value) {
+        return new CombatProfile.Effect(effect, chance, value);
+    }
+
+    /** 전사(출혈/흡혈/가시) vs 마법사(화염/마법 저항/물약 2종) */
+    static BattleSnapshot warriorVsMage() {
+        CombatProfile warrior = CombatProfile.of(base(1, "전사 용사", CharacterClass.WARRIOR, 18, 12, 16, 8, 10, 9, 120), List.of(
+                weapon("양손검 +3", WeaponCategory.GREATSWORD, 5, 2, 12,
+                        effect(EquipmentEffect.BLEEDING, 30, 4), effect(EquipmentEffect.LIFE_STEAL, 25, 15)),
+                armor(EquipmentType.ARMOR, "판금 갑옷", 4, 2, effect(EquipmentEffect.THORNS, 20, 3)),
+                armor(EquipmentType.HELMET, "투구", 1, 0, effect(EquipmentEffect.STUN_RESISTANCE, 40, 0))));
+        CombatProfile mage = CombatProfile.of(base(2, "마법사 용사", CharacterClass.MAGE, 8, 12, 12, 18, 14, 11, 80), List.of(
+                weapon("지팡이", WeaponCategory.STAFF, 3, 1, 10,
+                        effect(EquipmentEffect.FIRE_DAMAGE, 35, 6), effect(EquipmentEffect.STUN_STRIKE, 10, 1)),
+                armor(EquipmentType.ARMOR, "로브", 1, 1, effect(EquipmentEffect.MAGIC_RESISTANCE, 30, 20)),
+                armor(EquipmentType.RING, "반지", 0, 0, effect(EquipmentEffect.HP_REGEN, 100, 3))));
+        return new BattleSnapshot(
+                new Combatant(warrior, List.of(new Combatant.Potion("치유 물약", BuffType.HEAL, 2))),
+                new Combatant(mage, List.of(
+                        new Combatant.Potion("고급 치유 물약", BuffType.GREATER_HEAL, 1),
+                        new Combatant.Potion("화염 부여", BuffType.FIRE_ENCHANT, 1))),
+                1200, 1150);
+    }
+
+    /** 도적(더블 어택/크리티컬/독) vs 성직자(차단/치유 오라/재기), 물약 없음 */
+    static BattleSnapshot rogueVsCleric() {
+        CombatProfile rogue = CombatProfile.of(base(3, "도적", CharacterClass.ROGUE, 10, 18, 12, 10, 9, 12, 90), List.of(
+                weapon("단검", WeaponCategory.DAGGER, 2, 1, 6,
+                        effect(EquipmentEffect.DOUBLE_ATTACK, 20, 0), effect(EquipmentEffect.CRITICAL_BOOST, 15, 10)),
+                weapon("클로", WeaponCategory.CLAW, 2, 1, 4, effect(EquipmentEffect.ARMOR_PENETRATION, 50, 2)),
+                armor(EquipmentType.EARRING, "귀걸이", 0, 0, effect(EquipmentEffect.POISON, 25, 3)),
+                armor(EquipmentType.SHOES, "장화", 1, 0, effect(EquipmentEffect.DODGE_BOOST, 15, 5))));
+        CombatProfile cleric = CombatProfile.of(base(4, "성직자", CharacterClass.CLERIC, 12, 10, 14, 10, 18, 12, 100), List.of(
+                weapon("철퇴", WeaponCategory.MACE, 3, 1, 6, effect(EquipmentEffect.HOLY_DAMAGE, 30, 5)),
+                armor(EquipmentType.ARMOR, "사슬 갑옷", 3, 1,
+                        effect(EquipmentEffect.BLOCK_CHANCE, 20, 0), effect(EquipmentEffect.HEALING_AURA, 100, 2)),
+                armor(EquipmentType.GLOVES, "장갑", 1, 0, effect(EquipmentEffect.SECOND_WIND, 100, 20))));
+        return new BattleSnapshot(Combatant.of(rogue), Combatant.of(cleric), 980, 1010);
+    }
+
+    /** 궁수(처형/침묵) vs 맨손 전사 (무기 없음, ELO 차이 큼) */
+    static BattleSnapshot rangerVsUnarmed() {
+        CombatProfile ranger = CombatProfile.of(base(5, "궁수", CharacterClass.RANGER, 11, 17, 13, 10, 12, 10, 95), List.of(
+                weapon("활", WeaponCategory.BOW, 4, 1, 8,
+                        effect(EquipmentEffect.EXECUTE, 100, 20), effect(EquipmentEffect.SILENCE, 20, 2)),
+                armor(EquipmentType.RING, "명중 반지", 0, 0, effect(EquipmentEffect.ACCURACY_UP, 100, 3))));
+        CombatProfile unarmed = CombatProfile.of(base(6, "초보", CharacterClass.WARRIOR, 14, 10, 14, 8, 8, 8, 110),
+                List.of(armor(EquipmentType.ARMOR, "가죽 갑옷", 2, 0)));
+        return new BattleSnapshot(
+                new Combatant(ranger, List.of(new Combatant.Potion("가속 물약", BuffType.HASTE_POTION, 1))),
+                new Combatant(unarmed, List.of(new Combatant.Potion("치유 물약", BuffType.HEAL, 3))),
+                1500, 900);
+    }
+
+    static List<BattleSnapshot> all() {
+        return List.of(warriorVsMage(), rogueVsCleric(), rangerVsUnarmed());
+    }
+}
@@ -0,0 +1,117 @@
+package com.pgall.battle.bench;
+
+import com.pgall.battle.entity.*;
+import com.pgall.battle.enums.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 고정 데이터 (DB 없이 엔티티를 직접 만든다).
+ * 같은 seed면 같은 캐릭터/장비가 나오므로 엔진 변경 전후 수치를 같은 입력으로 비교할 수 있다.
+ */
+public final class Fixtures {
+
+    /** 장비를 채우는 순서 (무기 → 방어구 → 장신구) */
+    private static final EquipmentType[] SLOT_ORDER = {
+            EquipmentType.WEAPON, EquipmentType.ARMOR, EquipmentType.HELMET, EquipmentType.GLOVES,
+            EquipmentType.SHOES, EquipmentType.EARRING, EquipmentType.RING, EquipmentType.EARRING,
+            EquipmentType.RING, EquipmentType.WEAPON
+    };
+    public static final int MAX_ITEMS = SLOT_ORDER.length;
+
+    private Fixtures() {}
+
+    /** 장착 장비 items개(최대 10), 장비당 효과 effectsPerItem개인 캐릭터 */
+    public static GameCharacter character(long id, CharacterClass characterClass, int items, int effectsPerItem, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GameCharacter c = GameCharacter.builder()
+                .id(id)
+                .name(characterClass.getKoreanName() + " " + id)
+                .avatar("avatar_" + id)
+                .characterClass(characterClass)
+                .strength(10 + random.nextInt(9)).dexterity(10 + random.nextInt(9))
+                .constitution(10 + random.nextInt(9)).intelligence(10 + random.nextInt(9))
+                .wisdom(10 + random.nextInt(9)).charisma(10 + random.nextInt(9))
+                .build();
+        c.setMaxHp(characterClass.getHitDie() + c.getConstitution() + 5);
+        c.setHp(c.getMaxHp());
+        for (int i = 0; i < Math.min(items, MAX_ITEMS); i++) {
+            Equipment eq = equipment(id * 100 + i, SLOT_ORDER[i], effectsPerItem, random);
+            eq.setCharacter(c);
+            eq.setEquipped(true);
+            c.getEquipments().add(eq);
+        }
+        return c;
+    }
+
+    private static Equipment equipment(long id, EquipmentType type, int effects, SplittableRandom random) {
+        EquipmentGrade grade = EquipmentGrade.values()[Math.min(effects, EquipmentGrade.values().length - 1)];
+        Equipment.EquipmentBuilder builder = Equipment.builder()
+                .id(id).type(type).grade(grade)
+                .name(grade.name() + " " + type.name())
+                .attackBonus(1 + random.nextInt(5)).defenseBonus(random.nextInt(4));
+        if (type == EquipmentType.WEAPON) {
+            // 한손 무기만 써서 두 번째 무기 슬롯도 채운다
+            WeaponCategory category = WeaponCategory.SWORD;
+            builder.weaponCategory(category).scalingStat(category.getScalingStat())
+                    .baseDamageMin(category.getDiceCount()).baseDamageMax(category.getDiceCount() * category.getDiceSides());
+        }
+        Equipment eq = builder.build();
+        List<EquipmentEffect> pool = effectPool(type);
+        for (int i = 0; i < effects; i++) {
+            eq.getBaseEffects().add(BaseEffect.builder()
+                    .equipment(eq)
+                    .effect(pool.get(random.nextInt(pool.size())))
+                    .effectChance(10 + random.nextInt(20))
+                    .effectValue(2 + random.nextInt(4))
+                    .build());
+        }
+        return eq;
+    }
+
+    private static List<EquipmentEffect> effectPool(EquipmentType type) {
+        EquipmentEffect.Category category = switch (type) {
+            case WEAPON -> EquipmentEffect.Category.WEAPON;
+            case HELMET, ARMOR, GLOVES, SHOES -> EquipmentEffect.Category.ARMOR;
+            case EARRING, RING -> null;
+        };
+        return Arrays.stream(EquipmentEffect.values())
+                .filter(e -> category == null || e.getCategory() == category)
+                .toList();
+    }
+
+    /** 물약 인벤토리 (회복 + 버프) */
+    public static void addPotions(GameCharacter c, int count) {
+        BuffType[] types = {BuffType.HEAL, BuffType.CRIT_DOUBLE, BuffType.SHIELD, BuffType.HASTE_POTION, BuffType.GREATER_HEAL};
+        for (int i = 0; i < count; i++) {
+            BuffType type = types[i % types.length];
+            ShopItem item = ShopItem.builder().id(c.getId() * 10 + i).name(type.getKoreanName())
+                    .description(type.getKoreanName()).price(50).buffType(type).buffChance(100).build();
+            c.getInventories().add(Inventory.builder().id(c.getId() * 10 + i).character(c)
+                    .shopItem(item).quantity(2).equipped(true).build());
+        }
+    }
+
+    /**
+     * 리포지토리 스텁: findById는 주어진 엔티티, save/saveAll은 인자를 그대로 돌려주고 나머지는 아무것도 하지 않는다.
+     * 서비스 로직만 측정하기 위한 것으로 JPA 비용은 포함하지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R repository(Class<R> type, Object entity) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(entity);
+                    case "save", "saveAndFlush" -> args[0];
+                    case "saveAll" -> args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + "Stub";
+                    default -> method.getReturnType() == boolean.class ? false
+                            : method.getReturnType() == long.class ? 0L : null;
+                });
+    }
+}
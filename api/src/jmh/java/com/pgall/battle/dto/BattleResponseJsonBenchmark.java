@@ -0,0 +1,79 @@
+package com.pgall.battle.dto;
+
+import com.pgall.battle.bench.Fixtures;
+import com.pgall.battle.engine.*;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.enums.CharacterClass;
+import com.pgall.battle.service.CombatProfileMapper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전투 응답 JSON 직렬화 (이벤트 목록 + 텍스트 로그가 응답 크기의 대부분).
+ * 기록 수준별로 같은 전투를 직렬화해서 LogVerbosity가 응답 비용을 얼마나 줄이는지 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BattleResponseJsonBenchmark {
+
+    @Param({"NONE", "SUMMARY", "FULL"})
+    LogVerbosity verbosity;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private BattleResponse response;
+
+    @Setup
+    public void setUp() {
+        GameCharacter attacker = Fixtures.character(1, CharacterClass.WARRIOR, 10, 2, 11);
+        GameCharacter defender = Fixtures.character(2, CharacterClass.MAGE, 10, 2, 22);
+        Fixtures.addPotions(attacker, 3);
+        Fixtures.addPotions(defender, 3);
+        Combatant atk = new Combatant(CombatProfileMapper.from(attacker), potions(attacker));
+        Combatant def = new Combatant(CombatProfileMapper.from(defender), potions(defender));
+        BattleSnapshot snapshot = new BattleSnapshot(atk, def, 1000, 1000);
+
+        SeededBattle.Result result = SeededBattle.run(snapshot, 42L, verbosity);
+        List<BattleEvent> events = result.events() != null ? result.events() : List.of();
+        BattleOutcome outcome = result.outcome();
+        BattleSettlement settlement = result.settlement();
+        GameCharacter winner = outcome.attackerWon() ? attacker : defender;
+        GameCharacter loser = outcome.attackerWon() ? defender : attacker;
+        response = BattleResponse.builder()
+                .winnerId(winner.getId()).winnerName(winner.getName())
+                .loserId(loser.getId()).loserName(loser.getName())
+                .battleLog(BattleLogRenderer.render(atk, def, events)).events(events)
+                .goldReward(settlement.goldReward()).loserGoldReward(settlement.loserGoldReward())
+                .winnerEloChange(settlement.winnerDelta()).loserEloChange(settlement.loserDelta())
+                .attackerName(attacker.getName()).defenderName(defender.getName())
+                .attackerAvatar(attacker.getAvatar()).defenderAvatar(defender.getAvatar())
+                .attackerClass(attacker.getCharacterClass().name()).defenderClass(defender.getCharacterClass().name())
+                .attackerMaxHp(BattleEngine.effectiveMaxHp(atk.profile()))
+                .defenderMaxHp(BattleEngine.effectiveMaxHp(def.profile()))
+                .attackerFinalHp(Math.max(0, outcome.attackerHp())).defenderFinalHp(Math.max(0, outcome.defenderHp()))
+                .attackerPotions(potionInfos(atk)).defenderPotions(potionInfos(def))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    private static List<Combatant.Potion> potions(GameCharacter c) {
+        return c.getInventories().stream()
+                .map(inv -> new Combatant.Potion(inv.getShopItem().getName(), inv.getShopItem().getBuffType(), inv.getQuantity()))
+                .toList();
+    }
+
+    private static List<BattleResponse.PotionInfo> potionInfos(Combatant combatant) {
+        return combatant.potions().stream()
+                .map(p -> BattleResponse.PotionInfo.builder()
+                        .name(p.name()).buffType(p.buffType().name()).quantity(p.quantity())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.pgall.battle.dto;
+
+import com.pgall.battle.bench.Fixtures;
+import com.pgall.battle.entity.Equipment;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.enums.CharacterClass;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** 엔티티 → 응답 DTO 변환 (캐릭터 목록/랭킹 응답에서 캐릭터 수만큼 반복된다) */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"0", "10"})
+    int items;
+
+    @Param({"0", "4"})
+    int effectsPerItem;
+
+    private GameCharacter character;
+    private Equipment equipment;
+
+    @Setup
+    public void setUp() {
+        character = Fixtures.character(1, CharacterClass.CLERIC, items, effectsPerItem, 1);
+        Fixtures.addPotions(character, 5);
+        equipment = Fixtures.character(2, CharacterClass.CLERIC, 1, effectsPerItem, 2).getEquipments().get(0);
+    }
+
+    @Benchmark
+    public CharacterResponse characterResponse() {
+        return CharacterResponse.from(character);
+    }
+
+    @Benchmark
+    public EquipmentResponse equipmentResponse() {
+        return EquipmentResponse.from(equipment);
+    }
+}
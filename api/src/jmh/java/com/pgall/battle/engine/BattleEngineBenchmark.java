@@ -0,0 +1,67 @@
+package com.pgall.battle.engine;
+
+import com.pgall.battle.bench.Fixtures;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.enums.CharacterClass;
+import com.pgall.battle.service.CombatProfileMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전투 한 판 비용 (BattleService.battle에서 DB를 뺀 부분: 스냅샷 → 엔진 + 정산 → 텍스트 로그).
+ * 장착 장비 수와 장비당 효과 수를 바꿔 가며 효과 디스패치 비용을 본다. 할당량은 -prof gc로 함께 기록된다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class BattleEngineBenchmark {
+
+    @Param({"0", "5", "10"})
+    int items;
+
+    @Param({"0", "2", "4"})
+    int effectsPerItem;
+
+    @Param({"NONE", "FULL"})
+    LogVerbosity verbosity;
+
+    private GameCharacter attacker;
+    private BattleSnapshot snapshot;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        attacker = Fixtures.character(1, CharacterClass.WARRIOR, items, effectsPerItem, 11);
+        GameCharacter defender = Fixtures.character(2, CharacterClass.ROGUE, items, effectsPerItem, 22);
+        snapshot = new BattleSnapshot(Combatant.of(CombatProfileMapper.from(attacker)), Combatant.of(CombatProfileMapper.from(defender)),
+                1000, 1000);
+    }
+
+    /** 엔진 + 정산 (seed를 매번 바꿔 여러 전개를 고르게 섞는다) */
+    @Benchmark
+    public SeededBattle.Result fight() {
+        return SeededBattle.run(snapshot, seed++, verbosity);
+    }
+
+    /** 동기 전투 응답과 같은 경로: 엔진 + 텍스트 로그 렌더링 */
+    @Benchmark
+    public List<String> fightAndRender() {
+        SeededBattle.Result result = SeededBattle.run(snapshot, seed++, verbosity);
+        return BattleLogRenderer.render(snapshot.attacker(), snapshot.defender(),
+                result.events() != null ? result.events() : List.of());
+    }
+
+    /** 엔티티 → 전투 프로필 변환 (CombatProfileCache 미스 비용) */
+    @Benchmark
+    public CombatProfile profile() {
+        return CombatProfileMapper.from(attacker);
+    }
+
+    /** 대진별 효과 핸들러 표 생성 (시뮬레이터는 대진마다 한 번) */
+    @Benchmark
+    public EffectPlan plan() {
+        return EffectPlan.of(snapshot.attacker(), snapshot.defender());
+    }
+}
@@ -0,0 +1,59 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.bench.Fixtures;
+import com.pgall.battle.dto.EnhanceResponse;
+import com.pgall.battle.entity.Equipment;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.enums.CharacterClass;
+import com.pgall.battle.repository.EquipmentRepository;
+import com.pgall.battle.repository.GameCharacterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강화 로직 (비용/성공/파괴 판정, 이름 갱신, +4 이상 효과 후보 생성).
+ * 리포지토리는 스텁이라 JPA 비용은 빠져 있다. 강화가 장비 상태를 바꾸므로 매 호출 전에 강화 단계를 되돌린다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class EnhanceBenchmark {
+
+    /** 강화 전 단계 (+3 → +4부터 강화 효과가 붙는다) */
+    @Param({"0", "3", "7"})
+    int level;
+
+    private EnhanceService enhanceService;
+    private GameCharacter character;
+    private Equipment equipment;
+    private String baseName;
+
+    @Setup
+    public void setUp() {
+        character = Fixtures.character(1, CharacterClass.WARRIOR, 1, 2, 1);
+        equipment = character.getEquipments().get(0);
+        baseName = equipment.getName();
+        GameMetrics metrics = new GameMetrics(new SimpleMeterRegistry());
+        GachaService gachaService = new GachaService(
+                Fixtures.repository(GameCharacterRepository.class, character),
+                Fixtures.repository(EquipmentRepository.class, equipment),
+                metrics);
+        enhanceService = new EnhanceService(
+                Fixtures.repository(EquipmentRepository.class, equipment),
+                Fixtures.repository(GameCharacterRepository.class, character),
+                gachaService, metrics);
+    }
+
+    @Benchmark
+    public EnhanceResponse enhance() {
+        // 이전 호출 결과(레벨업/효과 추가/파괴) 되돌리기
+        equipment.setEnhanceLevel(level);
+        equipment.setName(baseName);
+        equipment.getEnhanceEffects().clear();
+        if (!character.getEquipments().contains(equipment)) character.getEquipments().add(equipment);
+        character.setGold(1_000_000);
+        return enhanceService.enhance(character.getId(), equipment.getId());
+    }
+}
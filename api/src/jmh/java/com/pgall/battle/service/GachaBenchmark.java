@@ -0,0 +1,47 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.bench.Fixtures;
+import com.pgall.battle.entity.Equipment;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.enums.CharacterClass;
+import com.pgall.battle.enums.EquipmentGrade;
+import com.pgall.battle.repository.EquipmentRepository;
+import com.pgall.battle.repository.GameCharacterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** 가챠 장비 생성 (이름/스탯/기본 효과 굴림, 저장 제외) */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GachaBenchmark {
+
+    @Param({"COMMON", "RARE", "LEGENDARY"})
+    EquipmentGrade grade;
+
+    private GachaService gachaService;
+    private GameCharacter character;
+
+    @Setup
+    public void setUp() {
+        character = Fixtures.character(1, CharacterClass.ROGUE, 0, 0, 1);
+        gachaService = new GachaService(
+                Fixtures.repository(GameCharacterRepository.class, character),
+                Fixtures.repository(EquipmentRepository.class, null),
+                new GameMetrics(new SimpleMeterRegistry()));
+    }
+
+    /** 등급 고정, 부위는 매번 굴림 */
+    @Benchmark
+    public Equipment generateEquipment() {
+        return gachaService.generateEquipment(grade, gachaService.rollType(), character);
+    }
+
+    /** 실제 뽑기와 같은 경로 (등급 + 부위 굴림 포함) */
+    @Benchmark
+    public Equipment pull() {
+        return gachaService.generateEquipment(gachaService.rollGrade(), gachaService.rollType(), character);
+    }
+}
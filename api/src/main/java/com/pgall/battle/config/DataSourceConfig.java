@@ -0,0 +1,76 @@
+package com.pgall.battle.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * SQLite 데이터소스: 쓰기 커넥션 1개 + 읽기 전용 풀.
+ * WAL 모드에서는 읽기가 쓰기를 기다리지 않으므로 @Transactional(readOnly = true) 구간(Spring Data 조회 메서드 포함)은
+ * 읽기 풀로, 나머지(쓰기 트랜잭션, 트랜잭션 밖 조회, 마이그레이션)는 단일 writer 커넥션으로 보낸다.
+ * 실제 커넥션은 첫 SQL 시점에 고르므로(LazyConnectionDataSourceProxy) 트랜잭션 시작 후 설정되는 readOnly 표시를 볼 수 있다.
+ * 두 풀 모두 hikaricp.* 지표로 노출된다 (pool=sqlite-writer / sqlite-reader).
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final String DRIVER = "org.sqlite.JDBC";
+
+    private enum Route { WRITER, READER }
+
+    @Bean
+    public HikariDataSource sqliteWriter(MeterRegistry registry,
+                                         @Value("${spring.datasource.url}") String url) {
+        // SQLite 쓰기는 한 번에 하나뿐이므로 커넥션도 하나 (여러 개면 busy_timeout 대기만 늘어난다)
+        return pool("sqlite-writer", url, 1, registry);
+    }
+
+    @Bean
+    public HikariDataSource sqliteReader(MeterRegistry registry,
+                                         @Value("${battle.datasource.reader-url}") String url,
+                                         @Value("${battle.datasource.readers:4}") int readers) {
+        return pool("sqlite-reader", url, readers, registry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource sqliteWriter, HikariDataSource sqliteReader) {
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.READER : Route.WRITER;
+            }
+        };
+        routing.setTargetDataSources(Map.of(Route.WRITER, sqliteWriter, Route.READER, sqliteReader));
+        routing.setDefaultTargetDataSource(sqliteWriter);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(routing);
+        // 기본값을 알려 두면 기본값 확인용으로 커넥션을 미리 꺼내지 않는다
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        return lazy;
+    }
+
+    /** 첫 getConnection 때 시작한다 (SchemaMigrator가 DB 파일을 만든 뒤에 읽기 풀이 열리도록) */
+    private static HikariDataSource pool(String name, String url, int size, MeterRegistry registry) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName(name);
+        ds.setDriverClassName(DRIVER);
+        ds.setJdbcUrl(url);
+        ds.setMaximumPoolSize(size);
+        ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return ds;
+    }
+}
@@ -0,0 +1,180 @@
+package com.pgall.battle.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 버전 관리 스키마 마이그레이션 (ddl-auto 대신).
+ * db/migration/V{버전}__{설명}.sql을 순서대로 한 번씩 적용하고 schema_version 테이블에 버전/체크섬을 남긴다.
+ * 재시작 시에는 schema_version 한 번 조회로 끝난다 (테이블/컬럼 메타데이터를 읽지 않는다).
+ * 이미 적용된 스크립트가 바뀌면 체크섬 불일치로 기동을 멈춘다 - 수정 대신 새 버전을 추가할 것.
+ * 컨텍스트 초기화 중에 실행되므로 웹 요청/스케줄러보다 먼저 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrator implements InitializingBean {
+
+    /** 적용 순서대로 (새 마이그레이션은 끝에 추가) */
+    private static final List<String> SCRIPTS = List.of(
+            "V1__baseline.sql",
+            "V2__indexes.sql"
+    );
+
+    private final DataSource dataSource;
+
+    private record Migration(int version, String description, String sql, long checksum) {}
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        List<Migration> migrations = SCRIPTS.stream().map(SchemaMigrator::load).toList();
+        try (Connection conn = dataSource.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("""
+                        CREATE TABLE IF NOT EXISTS schema_version (
+                            version INTEGER PRIMARY KEY,
+                            description VARCHAR(255) NOT NULL,
+                            checksum BIGINT NOT NULL,
+                            applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                        )
+                        """);
+            }
+            Map<Integer, Long> applied = new HashMap<>();
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version")) {
+                while (rs.next()) applied.put(rs.getInt(1), rs.getLong(2));
+            }
+
+            int count = 0;
+            for (Migration m : migrations) {
+                Long checksum = applied.get(m.version());
+                if (checksum != null) {
+                    if (checksum != m.checksum()) {
+                        throw new IllegalStateException("이미 적용된 마이그레이션 V" + m.version() + "(" + m.description()
+                                + ")이 변경되었습니다. 적용된 스크립트는 고치지 말고 새 버전을 추가하세요.");
+                    }
+                    continue;
+                }
+                if (m.version() == 1 && tableExists(conn, "game_character")) {
+                    // schema_version 도입 전 DB: ddl-auto/예전 DatabaseMigration이 붙이던 컬럼을 한 번만 보정
+                    upgradeLegacyColumns(conn);
+                }
+                apply(conn, m);
+                count++;
+            }
+            log.info("스키마 마이그레이션 완료 (적용 {}건, 현재 V{})", count,
+                    migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version());
+        }
+    }
+
+    /** 스크립트 하나를 한 트랜잭션으로 적용 (SQLite는 DDL도 롤백된다) */
+    private void apply(Connection conn, Migration m) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : statements(m.sql())) stmt.execute(sql);
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO schema_version (version, description, checksum) VALUES (?, ?, ?)")) {
+                ps.setInt(1, m.version());
+                ps.setString(2, m.description());
+                ps.setLong(3, m.checksum());
+                ps.executeUpdate();
+            }
+            conn.commit();
+            log.info("마이그레이션 적용: V{} {}", m.version(), m.description());
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static Migration load(String file) {
+        int sep = file.indexOf("__");
+        if (!file.startsWith("V") || sep < 0 || !file.endsWith(".sql")) {
+            throw new IllegalStateException("마이그레이션 파일 이름은 V{버전}__{설명}.sql 형식이어야 합니다: " + file);
+        }
+        int version = Integer.parseInt(file.substring(1, sep));
+        String description = file.substring(sep + 2, file.length() - 4).replace('_', ' ');
+        byte[] bytes;
+        try (InputStream in = new ClassPathResource("db/migration/" + file).getInputStream()) {
+            bytes = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("마이그레이션 파일을 읽을 수 없습니다: " + file, e);
+        }
+        // 체크아웃 줄바꿈(CRLF)에 따라 체크섬이 달라지지 않도록 LF로 맞춘다
+        String sql = new String(bytes, StandardCharsets.UTF_8).replace("\r", "");
+        CRC32 crc = new CRC32();
+        crc.update(sql.getBytes(StandardCharsets.UTF_8));
+        return new Migration(version, description, sql, crc.getValue());
+    }
+
+    /** ';'로 끝나는 문장 단위로 자른다 (-- 주석 줄 제외, 트리거처럼 본문에 ';'가 있는 문장은 쓰지 않는다) */
+    private static List<String> statements(String script) {
+        List<String> result = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\n")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) continue;
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().strip();
+                result.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) result.add(current.toString().strip());
+        return result;
+    }
+
+    private static boolean tableExists(Connection conn, String table) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = ?")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static void upgradeLegacyColumns(Connection conn) throws SQLException {
+        addColumnIfNotExists(conn, "equipment", "enhance_level", "INTEGER DEFAULT 0");
+        addColumnIfNotExists(conn, "inventory", "equipped", "BOOLEAN DEFAULT 0");
+        addColumnIfNotExists(conn, "equipment", "enhance_effect_slots", "INTEGER DEFAULT 0");
+        addColumnIfNotExists(conn, "game_character", "loadout_version", "INTEGER DEFAULT 0");
+        addColumnIfNotExists(conn, "battle_log", "seed", "BIGINT");
+        addColumnIfNotExists(conn, "battle_log", "rules_version", "INTEGER");
+        addColumnIfNotExists(conn, "battle_log", "snapshot", "BLOB");
+        for (String column : List.of("bonus_strength", "bonus_dexterity", "bonus_constitution",
+                "bonus_intelligence", "bonus_wisdom", "bonus_charisma")) {
+            addColumnIfNotExists(conn, "equipment", column, "INTEGER DEFAULT 0");
+        }
+    }
+
+    private static void addColumnIfNotExists(Connection conn, String table, String column, String type) throws SQLException {
+        if (!tableExists(conn, table)) return; // 없는 테이블은 V1이 만든다
+        try (ResultSet rs = conn.getMetaData().getColumns(null, null, table, column)) {
+            if (rs.next()) return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + type);
+            log.info("Added column {}.{}", table, column);
+        }
+    }
+}
@@ -1,19 +1,40 @@
 package com.pgall.battle.controller;
 
+import com.pgall.battle.dto.BattleBatchRequest;
+import com.pgall.battle.dto.BattleBatchResponse;
+import com.pgall.battle.dto.BattleLogPageResponse;
+import com.pgall.battle.dto.BattleLogResponse;
+import com.pgall.battle.dto.BattlePreviewResponse;
+import com.pgall.battle.dto.BattleQueueStatusResponse;
 import com.pgall.battle.dto.BattleRequest;
 import com.pgall.battle.dto.BattleResponse;
-import com.pgall.battle.entity.BattleLog;
+import com.pgall.battle.dto.BattleTicketResponse;
+import com.pgall.battle.dto.MatchResponse;
+import com.pgall.battle.dto.TournamentRequest;
+import com.pgall.battle.dto.TournamentResponse;
 import com.pgall.battle.entity.GameCharacter;
 import com.pgall.battle.filter.IpOwnershipFilter;
 import com.pgall.battle.repository.GameCharacterRepository;
+import com.pgall.battle.service.BattlePreviewService;
+import com.pgall.battle.service.BattleQueueService;
 import com.pgall.battle.service.BattleService;
+import com.pgall.battle.service.BattleStreamService;
+import com.pgall.battle.service.RatingIndex;
+import com.pgall.battle.service.TournamentService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/battle")
@@ -21,24 +42,133 @@ import java.util.NoSuchElementException;
 public class BattleController {
 
     private final BattleService battleService;
+    private final BattleStreamService battleStreamService;
+    private final BattleQueueService battleQueueService;
+    private final BattlePreviewService battlePreviewService;
+    private final RatingIndex ratingIndex;
+    private final TournamentService tournamentService;
     private final GameCharacterRepository characterRepository;
 
     @PostMapping
     public ResponseEntity<BattleResponse> battle(@RequestBody BattleRequest request,
                                                   HttpServletRequest httpRequest) {
-        // attacker가 요청자의 캐릭터인지 IP 검증
+        checkAttackerOwner(request.getAttackerId(), httpRequest);
+        return ResponseEntity.ok(battleService.battle(request));
+    }
+
+    /** 라운드가 계산되는 대로 흘려보내는 전투 (SSE: start → round* → summary | error) */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter battleStream(@RequestBody BattleRequest request,
+                                   HttpServletRequest httpRequest) {
+        checkAttackerOwner(request.getAttackerId(), httpRequest);
+        return battleStreamService.stream(request);
+    }
+
+    /** 여러 전투를 한 트랜잭션으로 실행 (요청 순서대로 결과 반환, 로그는 /logs로 조회) */
+    @PostMapping("/batch")
+    public ResponseEntity<BattleBatchResponse> battleBatch(@RequestBody BattleBatchRequest request,
+                                                           HttpServletRequest httpRequest) {
+        List<BattleRequest> battles = request.getBattles() != null ? request.getBattles() : List.of();
+        // 모든 attacker가 요청자의 캐릭터인지 IP 검증 (한 번에 조회)
         String requestIp = IpOwnershipFilter.extractIp(httpRequest);
-        GameCharacter attacker = characterRepository.findById(request.getAttackerId())
+        Set<Long> attackerIds = battles.stream()
+                .map(BattleRequest::getAttackerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        for (GameCharacter attacker : characterRepository.findAllById(attackerIds)) {
+            if (attacker.getIpAddress() != null && !attacker.getIpAddress().equals(requestIp)) {
+                throw new SecurityException("다른 유저의 캐릭터로 전투할 수 없습니다.");
+            }
+        }
+        return ResponseEntity.ok(battleService.battleBatch(battles));
+    }
+
+    /** 비동기 전투 접수 - 티켓만 발급하고 결과는 /tickets/{ticketId}로 조회 */
+    @PostMapping("/async")
+    public ResponseEntity<BattleTicketResponse> battleAsync(@RequestBody BattleRequest request,
+                                                            HttpServletRequest httpRequest) {
+        checkAttackerOwner(request.getAttackerId(), httpRequest);
+        return ResponseEntity.accepted().body(battleQueueService.submit(request));
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<BattleTicketResponse> ticket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(battleQueueService.get(ticketId));
+    }
+
+    /** 티켓 결과 구독 (SSE: 완료 시 result 이벤트 하나) */
+    @GetMapping(value = "/tickets/{ticketId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter ticketEvents(@PathVariable String ticketId) {
+        return battleQueueService.subscribe(ticketId);
+    }
+
+    @GetMapping("/queue")
+    public ResponseEntity<BattleQueueStatusResponse> queueStatus() {
+        return ResponseEntity.ok(battleQueueService.status());
+    }
+
+    /** ELO가 가까운 상대 추천 (메모리 인덱스, DB 조회 없음) */
+    @GetMapping("/match/{characterId}")
+    public ResponseEntity<MatchResponse> match(@PathVariable Long characterId,
+                                               @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(ratingIndex.match(characterId, limit));
+    }
+
+    /**
+     * 현재 장비/물약 기준 예상 승률 (시뮬레이션, 장비가 바뀌기 전까지 캐시).
+     * 캐시를 비껴가는 조합마다 시뮬레이션 비용이 드므로 전투와 같이 자기 캐릭터로만 요청할 수 있다.
+     */
+    @GetMapping("/preview")
+    public ResponseEntity<BattlePreviewResponse> preview(@RequestParam Long attackerId,
+                                                         @RequestParam Long defenderId,
+                                                         HttpServletRequest httpRequest) {
+        checkAttackerOwner(attackerId, httpRequest);
+        return ResponseEntity.ok(battlePreviewService.preview(attackerId, defenderId));
+    }
+
+    /** 리그전 시작 (운영용 - 서버 로컬 요청만, 진행률/순위는 /tournaments/{id}로 조회) */
+    @PostMapping("/tournaments")
+    public ResponseEntity<TournamentResponse> startTournament(@RequestBody(required = false) TournamentRequest request,
+                                                              HttpServletRequest httpRequest) {
+        checkLocalRequest(httpRequest);
+        return ResponseEntity.accepted().body(tournamentService.start(request != null ? request.getCharacterIds() : null));
+    }
+
+    @GetMapping("/tournaments/{tournamentId}")
+    public ResponseEntity<TournamentResponse> tournament(@PathVariable String tournamentId) {
+        return ResponseEntity.ok(tournamentService.get(tournamentId));
+    }
+
+    /** 모든 캐릭터의 골드/ELO를 바꾸는 요청은 서버 자신(루프백)에서만 허용 (프록시 헤더는 보지 않는다) */
+    private void checkLocalRequest(HttpServletRequest httpRequest) {
+        try {
+            if (InetAddress.getByName(httpRequest.getRemoteAddr()).isLoopbackAddress()) return;
+        } catch (UnknownHostException ignored) {}
+        throw new SecurityException("서버에서만 실행할 수 있습니다.");
+    }
+
+    /** attacker가 요청자의 캐릭터인지 IP 검증 */
+    private void checkAttackerOwner(Long attackerId, HttpServletRequest httpRequest) {
+        if (attackerId == null) throw new IllegalArgumentException("공격자를 지정해주세요.");
+        String requestIp = IpOwnershipFilter.extractIp(httpRequest);
+        GameCharacter attacker = characterRepository.findById(attackerId)
                 .orElseThrow(() -> new NoSuchElementException("공격자 캐릭터를 찾을 수 없습니다."));
         if (attacker.getIpAddress() != null && !attacker.getIpAddress().equals(requestIp)) {
             throw new SecurityException("다른 유저의 캐릭터로 전투할 수 없습니다.");
         }
-
-        return ResponseEntity.ok(battleService.battle(request));
     }
 
+    /** 전투 기록 목록 (요약만, 최신 순 커서 페이지) */
     @GetMapping("/logs/{characterId}")
-    public ResponseEntity<List<BattleLog>> logs(@PathVariable Long characterId) {
-        return ResponseEntity.ok(battleService.getLogs(characterId));
+    public ResponseEntity<BattleLogPageResponse> logs(@PathVariable Long characterId,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(battleService.getLogs(characterId, cursor, size));
+    }
+
+    /** 전투 기록 하나 (로그 본문 포함) */
+    @GetMapping("/log/{logId}")
+    public ResponseEntity<BattleLogResponse> log(@PathVariable Long logId) {
+        return ResponseEntity.ok(battleService.getLog(logId));
     }
 }
@@ -5,6 +5,8 @@ import com.pgall.battle.filter.IpOwnershipFilter;
 import com.pgall.battle.service.CharacterService;
 import com.pgall.battle.service.EnhanceService;
 import com.pgall.battle.service.EquipService;
+import com.pgall.battle.service.LoadoutService;
+import com.pgall.battle.service.RatingIndex;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +24,8 @@ public class CharacterController {
     private final CharacterService characterService;
     private final EquipService equipService;
     private final EnhanceService enhanceService;
-    private final com.pgall.battle.repository.GameCharacterRepository characterRepository;
+    private final LoadoutService loadoutService;
+    private final RatingIndex ratingIndex;
 
     @GetMapping("/random-stats")
     public ResponseEntity<RandomStatsResponse> randomStats() {
@@ -44,14 +47,16 @@ public class CharacterController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CharacterResponse>> list() {
-        return ResponseEntity.ok(characterService.getAllCharacters());
+    public ResponseEntity<CharacterPageResponse> list(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(characterService.getCharacters(cursor, size));
     }
 
+    /** ELO 랭킹 (메모리 인덱스 기준, nextCursor로 다음 페이지) */
     @GetMapping("/ranking")
-    public ResponseEntity<List<CharacterResponse>> ranking() {
-        return ResponseEntity.ok(characterRepository.findAllByOrderByEloRateDesc()
-                .stream().map(CharacterResponse::from).toList());
+    public ResponseEntity<CharacterPageResponse> ranking(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(characterService.getRanking(cursor, size));
     }
 
     @GetMapping("/{id}")
@@ -59,6 +64,19 @@ public class CharacterController {
         return ResponseEntity.ok(characterService.getCharacter(id));
     }
 
+    /** 현재 순위 (메모리 순위 트리, DB 조회 없음) */
+    @GetMapping("/{id}/rank")
+    public ResponseEntity<RankResponse> rank(@PathVariable Long id) {
+        return ResponseEntity.ok(ratingIndex.rank(id));
+    }
+
+    /** 현재 순위 + 위아래 n명 */
+    @GetMapping("/{id}/rank/around")
+    public ResponseEntity<RankResponse> rankAround(@PathVariable Long id,
+                                                   @RequestParam(defaultValue = "5") int n) {
+        return ResponseEntity.ok(ratingIndex.around(id, n));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         characterService.deleteCharacter(id);
@@ -87,6 +105,13 @@ public class CharacterController {
         return ResponseEntity.ok(equipService.unequip(charId, equipId));
     }
 
+    /** 보유 장비 중 상위 랭커 상대 시뮬레이션 승률이 가장 높은 조합 추천 (apply=true면 바로 장착) */
+    @PostMapping("/{charId}/equipment/optimize")
+    public ResponseEntity<LoadoutOptimizeResponse> optimize(@PathVariable Long charId,
+                                                            @RequestParam(defaultValue = "false") boolean apply) {
+        return ResponseEntity.ok(loadoutService.optimize(charId, apply));
+    }
+
     // ===== 물약 장착/해제/판매 =====
 
     @PutMapping("/{charId}/potion/{invId}/equip")
@@ -0,0 +1,12 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleBatchRequest {
+    /** 요청 순서대로 진행 (같은 캐릭터가 여러 번 나오면 앞 전투 결과가 반영된 상태로 싸운다) */
+    private List<BattleRequest> battles;
+}
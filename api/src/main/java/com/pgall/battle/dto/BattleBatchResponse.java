@@ -0,0 +1,33 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BattleBatchResponse {
+    private int succeeded;
+    private int failed;
+    /** 요청과 같은 순서 */
+    private List<Result> results;
+
+    @Getter @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private Long attackerId;
+        private Long defenderId;
+        /** 실패 사유 (성공이면 null) */
+        private String error;
+        private Long winnerId;
+        private Long loserId;
+        private int rounds;
+        private int goldReward;
+        private int loserGoldReward;
+        private int winnerEloChange;
+        private int loserEloChange;
+    }
+}
@@ -0,0 +1,15 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BattleLogPageResponse {
+    /** 최신 순 */
+    private List<BattleLogSummaryResponse> items;
+    /** 다음 페이지 요청에 그대로 넘기는 값 (마지막 페이지면 null) */
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BattleLogResponse {
+    private Long id;
+    private Long attackerId;
+    private Long defenderId;
+    private Long winnerId;
+    /** 전투 로그 (seed 기록은 조회 시 재생해서 만든다) */
+    private String log;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.pgall.battle.dto;
+
+import com.pgall.battle.repository.BattleLogSummary;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 전투 기록 목록 항목 (로그 본문은 /api/battle/log/{logId}) */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BattleLogSummaryResponse {
+    private Long id;
+    private Long attackerId;
+    private Long defenderId;
+    private Long winnerId;
+    private LocalDateTime createdAt;
+
+    public static BattleLogSummaryResponse from(BattleLogSummary s) {
+        return BattleLogSummaryResponse.builder()
+                .id(s.getId())
+                .attackerId(s.getAttackerId())
+                .defenderId(s.getDefenderId())
+                .winnerId(s.getWinnerId())
+                .createdAt(s.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BattlePreviewResponse {
+    private Long attackerId;
+    private Long defenderId;
+    private int iterations;
+    /** 공격자 승률 (0~1) */
+    private double attackerWinRate;
+    /** 승률 95% 신뢰구간 (Wilson) */
+    private double winRateLow;
+    private double winRateHigh;
+    private double averageRounds;
+    private double timeoutRate;
+    /** 캐시된 결과인지 (장비/물약이 바뀌기 전까지 같은 결과) */
+    private boolean cached;
+}
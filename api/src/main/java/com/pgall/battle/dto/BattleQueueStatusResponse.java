@@ -0,0 +1,17 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BattleQueueStatusResponse {
+    /** 접수되어 아직 끝나지 않은 전투 수 (대기 + 진행 중) */
+    private int depth;
+    private int running;
+    private int capacity;
+    private int workers;
+    /** 단일 writer에 저장 대기 중인 전투 수 */
+    private int pendingWrites;
+}
@@ -1,5 +1,6 @@
 package com.pgall.battle.dto;
 
+import com.pgall.battle.engine.LogVerbosity;
 import lombok.*;
 
 @Getter @Setter
@@ -8,4 +9,6 @@ import lombok.*;
 public class BattleRequest {
     private Long attackerId;
     private Long defenderId;
+    /** 로그 기록 수준 (없으면 FULL) */
+    private LogVerbosity verbosity;
 }
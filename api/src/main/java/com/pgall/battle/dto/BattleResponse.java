@@ -1,5 +1,6 @@
 package com.pgall.battle.dto;
 
+import com.pgall.battle.engine.BattleEvent;
 import lombok.*;
 import java.util.List;
 
@@ -13,8 +14,12 @@ public class BattleResponse {
     private Long loserId;
     private String loserName;
     private List<String> battleLog;
+    /** battleLog와 같은 순서의 구조화 이벤트 (events[i] → battleLog[i]) */
+    private List<BattleEvent> events;
     private int goldReward;
     private int loserGoldReward;
+    private int winnerEloChange;
+    private int loserEloChange;
     private String attackerName;
     private String defenderName;
     private String attackerAvatar;
@@ -0,0 +1,17 @@
+package com.pgall.battle.dto;
+
+import com.pgall.battle.engine.BattleEvent;
+import lombok.*;
+import java.util.List;
+
+/** 스트리밍 전투의 라운드 단위 묶음 (round 0 = 전투 준비 단계) */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BattleRoundResponse {
+    private int round;
+    /** lines와 같은 순서의 구조화 이벤트 (events[i] → lines[i]) */
+    private List<BattleEvent> events;
+    private List<String> lines;
+}
@@ -0,0 +1,20 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BattleTicketResponse {
+    private String ticketId;
+    /** QUEUED → RUNNING → DONE | FAILED */
+    private String status;
+    private LocalDateTime queuedAt;
+    private LocalDateTime completedAt;
+    /** DONE일 때만 */
+    private BattleResponse result;
+    /** FAILED일 때만 */
+    private String error;
+}
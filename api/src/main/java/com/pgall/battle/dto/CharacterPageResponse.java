@@ -0,0 +1,14 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CharacterPageResponse {
+    private List<CharacterSummaryResponse> items;
+    /** 다음 페이지 요청에 그대로 넘기는 값 (마지막 페이지면 null) */
+    private String nextCursor;
+}
@@ -0,0 +1,33 @@
+package com.pgall.battle.dto;
+
+import com.pgall.battle.repository.CharacterSummary;
+import lombok.*;
+
+/** 목록/랭킹용 캐릭터 요약 (장비/물약 제외) */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CharacterSummaryResponse {
+    private Long id;
+    private String name;
+    private String avatar;
+    private String characterClass;
+    private String classKoreanName;
+    private int level;
+    private int eloRate;
+    private int gold;
+
+    public static CharacterSummaryResponse from(CharacterSummary s) {
+        return CharacterSummaryResponse.builder()
+                .id(s.getId())
+                .name(s.getName())
+                .avatar(s.getAvatar())
+                .characterClass(s.getCharacterClass() != null ? s.getCharacterClass().name() : null)
+                .classKoreanName(s.getCharacterClass() != null ? s.getCharacterClass().getKoreanName() : null)
+                .level(s.getLevel())
+                .eloRate(s.getEloRate())
+                .gold(s.getGold())
+                .build();
+    }
+}
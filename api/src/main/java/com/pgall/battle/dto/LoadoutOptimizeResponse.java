@@ -0,0 +1,24 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoadoutOptimizeResponse {
+    private Long characterId;
+    /** 추천 배치를 실제로 장착했는지 */
+    private boolean applied;
+    /** 현재 장착 상태와 다른 배치인지 */
+    private boolean changed;
+    /** 참조 상대 평균 승률 (현재 배치 → 추천 배치, 상대가 없으면 null) */
+    private Double winRateBefore;
+    private Double winRateAfter;
+    private List<Long> opponentIds;
+    /** 평가한 배치 수 */
+    private int evaluations;
+    /** 추천 배치 (적용하지 않았으면 equipped는 현재 장착 여부) */
+    private List<EquipmentResponse> equipment;
+}
@@ -0,0 +1,33 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchResponse {
+    private Long characterId;
+    private int eloRate;
+    /** 상대를 찾은 ELO 범위 (±window) */
+    private int window;
+    /** ELO 차이가 작은 순 */
+    private List<Opponent> opponents;
+
+    @Getter @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Opponent {
+        private Long id;
+        private String name;
+        private String avatar;
+        private String characterClass;
+        private int eloRate;
+        /** 상대 ELO - 내 ELO */
+        private int eloDiff;
+        /** ELO 기대 승률 (0~1) */
+        private double expectedWinRate;
+    }
+}
@@ -0,0 +1,32 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankResponse {
+    private Long characterId;
+    private int eloRate;
+    /** 1부터 (ELO 높은 순, 같은 ELO는 id 작은 순) */
+    private int rank;
+    /** 전체 캐릭터 수 */
+    private int total;
+    /** 내 위아래 순위 (나 포함, /rank/around에서만) */
+    private List<Entry> around;
+
+    @Getter @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Entry {
+        private int rank;
+        private Long id;
+        private String name;
+        private String avatar;
+        private String characterClass;
+        private int eloRate;
+    }
+}
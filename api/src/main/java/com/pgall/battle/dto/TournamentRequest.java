@@ -0,0 +1,12 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentRequest {
+    /** 참가자 (비어 있으면 전체 캐릭터) */
+    private List<Long> characterIds;
+}
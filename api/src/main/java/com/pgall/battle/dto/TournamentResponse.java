@@ -0,0 +1,37 @@
+package com.pgall.battle.dto;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TournamentResponse {
+    private String tournamentId;
+    /** PREPARING → RUNNING → COMMITTING → DONE | FAILED */
+    private String status;
+    private int participants;
+    private int totalMatches;
+    private int completedMatches;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    /** DONE일 때만 (승수 → ELO 변동 순) */
+    private List<Standing> standings;
+    /** FAILED일 때만 */
+    private String error;
+
+    @Getter @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Standing {
+        private Long characterId;
+        private String name;
+        private int wins;
+        private int losses;
+        private int eloChange;
+        private int goldEarned;
+    }
+}
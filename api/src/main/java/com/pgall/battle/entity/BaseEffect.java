@@ -3,9 +3,13 @@ package com.pgall.battle.entity;
 import com.pgall.battle.enums.EquipmentEffect;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "base_effect")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "base-effect")
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -5,7 +5,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "battle_log")
+@Table(name = "battle_log") // 인덱스는 db/migration/V2__indexes.sql
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,9 +24,20 @@ public class BattleLog {
 
     private Long winnerId;
 
+    /** 레거시 로그 텍스트 (seed 도입 이전 기록만 사용) */
     @Column
     private String log;
 
+    /** 전투 난수 seed (SeededBattle) */
+    private Long seed;
+
+    /** 전투 규칙 버전 (SeededBattle.RULES_VERSION) */
+    private Integer rulesVersion;
+
+    /** 양측 전투 스냅샷 (BattleSnapshot.encode) */
+    @Column(columnDefinition = "BLOB")
+    private byte[] snapshot;
+
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 }
@@ -3,12 +3,16 @@ package com.pgall.battle.entity;
 import com.pgall.battle.enums.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "equipment")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "equipment")
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -66,10 +70,12 @@ public class Equipment {
     private GameCharacter character;
 
     @OneToMany(mappedBy = "equipment", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "equipment-base-effects")
     @Builder.Default
     private List<BaseEffect> baseEffects = new ArrayList<>();
 
     @OneToMany(mappedBy = "equipment", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "equipment-enhance-effects")
     @Builder.Default
     private List<EnhanceEffect> enhanceEffects = new ArrayList<>();
 
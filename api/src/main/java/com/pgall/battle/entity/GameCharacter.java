@@ -3,6 +3,8 @@ package com.pgall.battle.entity;
 import com.pgall.battle.enums.CharacterClass;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -10,6 +12,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "game_character")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "character")
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -51,7 +55,13 @@ public class GameCharacter {
 
     private LocalDate lastDailyGoldDate;
 
+    // 장착 장비/효과가 바뀔 때마다 증가 (전투 프로필 캐시 키)
+    @Builder.Default
+    @Column(columnDefinition = "integer default 0")
+    private int loadoutVersion = 0;
+
     @OneToMany(mappedBy = "character", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "character-equipments")
     @Builder.Default
     private List<Equipment> equipments = new ArrayList<>();
 
@@ -73,6 +83,10 @@ public class GameCharacter {
         }
     }
 
+    public void bumpLoadoutVersion() {
+        loadoutVersion++;
+    }
+
     public static int getModifier(int stat) {
         return (stat - 10) / 2;
     }
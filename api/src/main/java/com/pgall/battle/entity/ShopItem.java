@@ -3,9 +3,13 @@ package com.pgall.battle.entity;
 import com.pgall.battle.enums.BuffType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "shop_item")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "shop-item")
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,9 +1,43 @@
 package com.pgall.battle.repository;
 
 import com.pgall.battle.entity.BattleLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BattleLogRepository extends JpaRepository<BattleLog, Long> {
-    List<BattleLog> findByAttackerIdOrDefenderIdOrderByCreatedAtDesc(Long attackerId, Long defenderId);
+
+    /*
+     * 전투 기록 키셋 페이지: (createdAt, id)가 커서보다 앞선 행을 최신 순으로.
+     * 공격/방어를 OR로 묶으면 정렬을 인덱스로 못 하므로 각각 (attacker_id | defender_id, created_at, id) 인덱스
+     * 범위 스캔으로 limit개씩 읽고 서비스에서 합친다. createdAt <= :beforeAt 조건이 있어야 인덱스 범위가 좁혀진다.
+     */
+    @Query("""
+            select b.id as id, b.attackerId as attackerId, b.defenderId as defenderId,
+                   b.winnerId as winnerId, b.createdAt as createdAt
+            from BattleLog b
+            where b.attackerId = :characterId
+              and b.createdAt <= :beforeAt and (b.createdAt < :beforeAt or b.id < :beforeId)
+            order by b.createdAt desc, b.id desc
+            """)
+    List<BattleLogSummary> findAttacksBefore(Long characterId, LocalDateTime beforeAt, Long beforeId, Limit limit);
+
+    @Query("""
+            select b.id as id, b.attackerId as attackerId, b.defenderId as defenderId,
+                   b.winnerId as winnerId, b.createdAt as createdAt
+            from BattleLog b
+            where b.defenderId = :characterId
+              and b.createdAt <= :beforeAt and (b.createdAt < :beforeAt or b.id < :beforeId)
+            order by b.createdAt desc, b.id desc
+            """)
+    List<BattleLogSummary> findDefencesBefore(Long characterId, LocalDateTime beforeAt, Long beforeId, Limit limit);
+
+    /** 캐릭터 삭제 시 전투 기록 일괄 삭제 (엔티티를 읽지 않는다) */
+    @Modifying
+    @Query("delete from BattleLog b where b.attackerId = :characterId or b.defenderId = :characterId")
+    int deleteByCharacterId(Long characterId);
 }
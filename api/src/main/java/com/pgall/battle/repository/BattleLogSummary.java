@@ -0,0 +1,12 @@
+package com.pgall.battle.repository;
+
+import java.time.LocalDateTime;
+
+/** 전투 기록 목록용 프로젝션 (로그 텍스트/스냅샷 제외) */
+public interface BattleLogSummary {
+    Long getId();
+    Long getAttackerId();
+    Long getDefenderId();
+    Long getWinnerId();
+    LocalDateTime getCreatedAt();
+}
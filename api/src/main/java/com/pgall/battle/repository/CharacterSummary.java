@@ -0,0 +1,14 @@
+package com.pgall.battle.repository;
+
+import com.pgall.battle.enums.CharacterClass;
+
+/** 목록/랭킹용 캐릭터 요약 프로젝션 (장비/물약 컬렉션 없이 필요한 컬럼만 조회) */
+public interface CharacterSummary {
+    Long getId();
+    String getName();
+    String getAvatar();
+    CharacterClass getCharacterClass();
+    int getLevel();
+    int getEloRate();
+    int getGold();
+}
@@ -1,11 +1,24 @@
 package com.pgall.battle.repository;
 
 import com.pgall.battle.entity.Equipment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 
 public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
     List<Equipment> findByCharacterId(Long characterId);
     List<Equipment> findByCharacterIdAndEquipped(Long characterId, boolean equipped);
     void deleteByCharacterIdAndEquipped(Long characterId, boolean equipped);
+
+    /**
+     * 여러 캐릭터의 장착 장비를 효과와 함께 조회 (전투 스냅샷용).
+     * 두 효과 컬렉션을 한 쿼리에서 fetch하면 MultipleBagFetchException이 나므로 기본/강화 효과를 나눠 읽는다.
+     * 두 번째 쿼리는 같은 영속성 컨텍스트의 장비 엔티티에 강화 효과만 채운다.
+     */
+    @EntityGraph(attributePaths = "baseEffects")
+    List<Equipment> findWithBaseEffectsByCharacterIdInAndEquippedTrueOrderByIdAsc(Collection<Long> characterIds);
+
+    @EntityGraph(attributePaths = "enhanceEffects")
+    List<Equipment> findWithEnhanceEffectsByCharacterIdInAndEquippedTrue(Collection<Long> characterIds);
 }
@@ -1,10 +1,17 @@
 package com.pgall.battle.repository;
 
 import com.pgall.battle.entity.GameCharacter;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+
 public interface GameCharacterRepository extends JpaRepository<GameCharacter, Long> {
-    java.util.List<GameCharacter> findAllByOrderByEloRateDesc();
     java.util.List<GameCharacter> findByNameContaining(String keyword);
     java.util.Optional<GameCharacter> findByIpAddress(String ipAddress);
+
+    /** ID 커서 페이지 (id > afterId) */
+    java.util.List<CharacterSummary> findSummariesByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    java.util.List<CharacterSummary> findSummariesByIdIn(Collection<Long> ids);
 }
@@ -1,13 +1,19 @@
 package com.pgall.battle.repository;
 
 import com.pgall.battle.entity.Inventory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     List<Inventory> findByCharacterId(Long characterId);
     List<Inventory> findByCharacterIdAndEquipped(Long characterId, boolean equipped);
+
+    /** 여러 캐릭터의 장착 물약을 상점 아이템과 함께 한 번에 조회 (배치 전투용) */
+    @EntityGraph(attributePaths = "shopItem")
+    List<Inventory> findByCharacterIdInAndEquipped(Collection<Long> characterIds, boolean equipped);
     Optional<Inventory> findByCharacterIdAndShopItemId(Long characterId, Long shopItemId);
     long countByCharacterIdAndEquipped(Long characterId, boolean equipped);
 }
@@ -0,0 +1,118 @@
+package com.pgall.battle.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 캐릭터 ID 기반 스트라이프 락.
+ * 전투 참가자 두 명의 락만 잡으므로 참가자가 겹치지 않는 전투는 서로 기다리지 않는다.
+ * 락은 항상 스트라이프 인덱스 오름차순으로 잡아서 데드락을 방지하고,
+ * 스트라이프 수가 고정이라 캐릭터 수와 무관하게 메모리가 일정하다.
+ */
+@Slf4j
+@Component
+public class BattleLockManager {
+
+    private static final long SLOW_WAIT_NANOS = 50_000_000L; // 50ms
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final GameMetrics metrics;
+
+    public BattleLockManager(@Value("${battle.lock.stripes:1024}") int stripeCount, GameMetrics metrics) {
+        this.metrics = metrics;
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) stripes[i] = new ReentrantLock();
+        this.mask = size - 1;
+    }
+
+    /** 락 보유 핸들 (try-with-resources로 해제) */
+    public interface Lease extends AutoCloseable {
+        /** 락을 얻기까지 기다린 시간 (ns) */
+        long waitNanos();
+
+        @Override
+        void close();
+    }
+
+    /** 전달된 캐릭터들의 락을 모두 잡는다 (순서 무관, 중복 허용) */
+    public Lease lock(Long... characterIds) {
+        int[] idx = new int[characterIds.length];
+        for (int i = 0; i < characterIds.length; i++) idx[i] = stripeOf(characterIds[i]);
+        int[] ordered = Arrays.stream(idx).distinct().sorted().toArray();
+
+        long start = System.nanoTime();
+        int locked = 0;
+        try {
+            for (int i : ordered) {
+                stripes[i].lock();
+                locked++;
+            }
+        } finally {
+            if (locked < ordered.length) {
+                for (int i = locked - 1; i >= 0; i--) stripes[ordered[i]].unlock();
+            }
+        }
+        long waited = System.nanoTime() - start;
+        record(waited);
+        if (waited > SLOW_WAIT_NANOS) {
+            log.debug("전투 락 대기 {}ms (캐릭터: {})", waited / 1_000_000, Arrays.toString(characterIds));
+        }
+
+        return new Lease() {
+            private boolean released;
+
+            @Override
+            public long waitNanos() {
+                return waited;
+            }
+
+            @Override
+            public void close() {
+                if (released) return;
+                released = true;
+                for (int i = ordered.length - 1; i >= 0; i--) stripes[ordered[i]].unlock();
+            }
+        };
+    }
+
+    private int stripeOf(Long characterId) {
+        long id = characterId != null ? characterId : 0L;
+        long h = id * 0x9E3779B97F4A7C15L; // 연속된 ID를 스트라이프에 고르게 분산
+        return (int) (h >>> 32) & mask;
+    }
+
+    private void record(long waited) {
+        acquisitions.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        metrics.battleLockWait(waited);
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+}
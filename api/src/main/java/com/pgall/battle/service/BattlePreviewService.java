@@ -0,0 +1,91 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.dto.BattlePreviewResponse;
+import com.pgall.battle.engine.BattleSimulator;
+import com.pgall.battle.engine.BattleSnapshot;
+import com.pgall.battle.engine.Combatant;
+import com.pgall.battle.engine.SimulationResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전투 전 승률 미리보기.
+ * 현재 장비/효과/장착 물약 스냅샷으로 BattleSimulator를 N번 돌려 공격자 승률과 95% 신뢰구간을 계산한다.
+ * 결과는 양쪽의 loadoutVersion + 물약 구성으로 캐시하므로 누군가 장비나 물약을 바꾸기 전까지는 다시 돌리지 않는다.
+ */
+@Service
+public class BattlePreviewService {
+
+    /** 95% 신뢰수준 z 값 */
+    private static final double Z_95 = 1.959964;
+
+    /** 캐시 키: 전투 결과에 영향을 주는 스냅샷 구성 (ELO는 승패와 무관) */
+    private record PreviewKey(Long attackerId, int attackerVersion, List<Combatant.Potion> attackerPotions,
+                              Long defenderId, int defenderVersion, List<Combatant.Potion> defenderPotions) {}
+
+    private final BattleService battleService;
+    private final BattleSimulator simulator = new BattleSimulator();
+    private final int iterations;
+    private final Map<PreviewKey, SimulationResult> cache;
+
+    public BattlePreviewService(BattleService battleService,
+                                @Value("${battle.preview.iterations:2000}") int iterations,
+                                @Value("${battle.preview.cache-size:10000}") int cacheSize) {
+        this.battleService = battleService;
+        this.iterations = Math.max(1, iterations);
+        // 접근 순서 LRU (장비가 바뀐 예전 버전 키는 다시 조회되지 않으므로 자연히 밀려난다)
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PreviewKey, SimulationResult> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public BattlePreviewResponse preview(Long attackerId, Long defenderId) {
+        if (attackerId == null || defenderId == null) {
+            throw new IllegalArgumentException("공격자와 방어자를 지정해야 합니다.");
+        }
+        BattleSnapshot snapshot = battleService.snapshot(attackerId, defenderId);
+        Combatant atk = snapshot.attacker();
+        Combatant def = snapshot.defender();
+        PreviewKey key = new PreviewKey(attackerId, atk.profile().getLoadoutVersion(), atk.potions(),
+                defenderId, def.profile().getLoadoutVersion(), def.potions());
+
+        SimulationResult result = cache.get(key);
+        boolean cached = result != null;
+        if (!cached) {
+            // 같은 키를 동시에 처음 요청하면 둘 다 계산할 수 있지만 결과는 같은 분포라 나중 값으로 덮어써도 무방하다
+            result = simulator.simulate(atk, def, iterations);
+            cache.put(key, result);
+        }
+
+        double[] interval = wilson(result.attackerWins(), result.iterations());
+        return BattlePreviewResponse.builder()
+                .attackerId(attackerId)
+                .defenderId(defenderId)
+                .iterations(result.iterations())
+                .attackerWinRate(result.attackerWinRate())
+                .winRateLow(interval[0])
+                .winRateHigh(interval[1])
+                .averageRounds(result.averageRounds())
+                .timeoutRate(result.timeoutRate())
+                .cached(cached)
+                .build();
+    }
+
+    /** Wilson score 구간 (승률이 0/1에 가까워도 [0, 1]을 벗어나지 않는다) */
+    private static double[] wilson(long wins, int n) {
+        double p = (double) wins / n;
+        double z2 = Z_95 * Z_95;
+        double denom = 1 + z2 / n;
+        double center = (p + z2 / (2.0 * n)) / denom;
+        double half = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4.0 * n * n)) / denom;
+        return new double[]{Math.max(0, center - half), Math.min(1, center + half)};
+    }
+}
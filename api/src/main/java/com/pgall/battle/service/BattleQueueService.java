@@ -0,0 +1,224 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.dto.BattleQueueStatusResponse;
+import com.pgall.battle.dto.BattleRequest;
+import com.pgall.battle.dto.BattleResponse;
+import com.pgall.battle.dto.BattleTicketResponse;
+import com.pgall.battle.engine.SeededBattle;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 전투 큐.
+ * 요청은 티켓만 발급하고 바로 돌려주며, 전투는 가상 스레드 워커(동시 실행 수 제한)가 진행한다.
+ * 워커는 참가자 락을 잡고 조회 + 엔진까지 하고, 저장은 BattleWriteBehind(단일 writer, group commit)에 넘겨서
+ * SQLite 쓰기 경로가 요청 스레드와 분리되고 동시에 끝난 전투들이 커밋 하나로 묶인다.
+ * 획득 순서는 모든 전투 경로(BattleService.battle/battleBatch/commitTournament 포함)에서 같다:
+ * 참가자 락 → DB 커넥션(트랜잭션) → 커밋 → 락 해제. 커넥션을 잡은 채로 락을 기다리는 경로가 없으므로
+ * 락과 커넥션 사이의 교착이 생기지 않고, 어느 경로든 커밋 후에 락을 풀기 때문에
+ * 같은 캐릭터의 다음 전투(동기/비동기 모두)는 커밋된 상태를 보고 시작한다.
+ */
+@Slf4j
+@Service
+public class BattleQueueService {
+
+    private static final long TICKET_TTL_MINUTES = 10;
+    private static final long SUBSCRIBE_TIMEOUT_MS = 60_000L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private static class Ticket {
+        final String id = UUID.randomUUID().toString();
+        final LocalDateTime queuedAt = LocalDateTime.now();
+        final CompletableFuture<BattleResponse> future = new CompletableFuture<>();
+        volatile Status status = Status.QUEUED;
+        volatile LocalDateTime completedAt;
+        volatile BattleResponse result;
+        volatile String error;
+    }
+
+    private final BattleService battleService;
+    private final BattleLockManager lockManager;
+    private final BattleWriteBehind writeBehind;
+    private final GameMetrics metrics;
+    private final int capacity;
+    private final int workerCount;
+    private final Semaphore workers;
+
+    private final ExecutorService fightExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+
+    public BattleQueueService(BattleService battleService, BattleLockManager lockManager,
+                              BattleWriteBehind writeBehind, GameMetrics metrics,
+                              @Value("${battle.queue.capacity:1000}") int capacity,
+                              @Value("${battle.queue.workers:16}") int workerCount) {
+        this.battleService = battleService;
+        this.lockManager = lockManager;
+        this.writeBehind = writeBehind;
+        this.metrics = metrics;
+        this.capacity = capacity;
+        this.workerCount = workerCount;
+        this.workers = new Semaphore(workerCount);
+    }
+
+    /** 전투 접수 (티켓 발급 후 즉시 반환) */
+    public BattleTicketResponse submit(BattleRequest request) {
+        if (request.getAttackerId() == null || request.getDefenderId() == null) {
+            throw new IllegalArgumentException("공격자와 방어자를 지정해야 합니다.");
+        }
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            throw new IllegalStateException("전투 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        Ticket ticket = new Ticket();
+        tickets.put(ticket.id, ticket);
+        try {
+            fightExecutor.execute(() -> run(ticket, request));
+        } catch (RejectedExecutionException e) {
+            tickets.remove(ticket.id);
+            depth.decrementAndGet();
+            throw new IllegalStateException("전투 대기열이 종료되었습니다.");
+        }
+        return toResponse(ticket);
+    }
+
+    private void run(Ticket ticket, BattleRequest request) {
+        boolean acquired = false;
+        try {
+            workers.acquire();
+            acquired = true;
+            running.incrementAndGet();
+            ticket.status = Status.RUNNING;
+            long start = System.nanoTime();
+            // 락을 먼저 잡고 그 안에서만 커넥션을 쓴다 (조회 트랜잭션, writer 커밋 모두 락 안에서 끝난다)
+            try (BattleLockManager.Lease ignored = lockManager.lock(request.getAttackerId(), request.getDefenderId())) {
+                BattleService.QueuedBattle battle = battleService.prepareQueued(request);
+                SeededBattle.Result result = SeededBattle.run(battle.snapshot(), battle.seed(), battle.verbosity());
+                BattleResponse response = writeBehind.submit(() -> battleService.commitQueued(battle, result)).get();
+                metrics.rounds(result.outcome().rounds());
+                complete(ticket, response);
+            } finally {
+                metrics.battle("async", System.nanoTime() - start);
+            }
+        } catch (ExecutionException e) {
+            fail(ticket, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(ticket, e);
+        } catch (RuntimeException e) {
+            fail(ticket, e);
+        } finally {
+            if (acquired) {
+                running.decrementAndGet();
+                workers.release();
+            }
+            depth.decrementAndGet();
+        }
+    }
+
+    private void complete(Ticket ticket, BattleResponse response) {
+        // 구독자가 완료 상태를 바로 볼 수 있도록 필드를 먼저 채우고 future를 완료한다
+        ticket.result = response;
+        ticket.completedAt = LocalDateTime.now();
+        ticket.status = Status.DONE;
+        ticket.future.complete(response);
+    }
+
+    private void fail(Ticket ticket, Throwable cause) {
+        if (cause instanceof NoSuchElementException || cause instanceof IllegalArgumentException
+                || cause instanceof IllegalStateException) {
+            ticket.error = cause.getMessage();
+        } else {
+            log.warn("비동기 전투 실패 (ticket={}): {}", ticket.id, cause.getMessage(), cause);
+            ticket.error = "전투 처리 중 오류가 발생했습니다.";
+        }
+        ticket.completedAt = LocalDateTime.now();
+        ticket.status = Status.FAILED;
+        ticket.future.completeExceptionally(cause);
+    }
+
+    /** 티켓 조회 (폴링) */
+    public BattleTicketResponse get(String ticketId) {
+        return toResponse(find(ticketId));
+    }
+
+    /** 티켓 결과 구독 (SSE: 완료 시 result 이벤트 하나를 보내고 종료) */
+    public SseEmitter subscribe(String ticketId) {
+        Ticket ticket = find(ticketId);
+        SseEmitter emitter = new SseEmitter(SUBSCRIBE_TIMEOUT_MS);
+        // 완료 콜백은 writer 스레드에서 불릴 수 있으므로 전송은 가상 스레드로 넘긴다
+        ticket.future.whenCompleteAsync((r, e) -> {
+            try {
+                emitter.send(SseEmitter.event().name("result").data(toResponse(ticket)));
+                emitter.complete();
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+            }
+        }, fightExecutor);
+        return emitter;
+    }
+
+    public BattleQueueStatusResponse status() {
+        return BattleQueueStatusResponse.builder()
+                .depth(depth.get())
+                .running(running.get())
+                .capacity(capacity)
+                .workers(workerCount)
+                .pendingWrites(writeBehind.pending())
+                .build();
+    }
+
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /** 끝난 지 오래된 티켓 정리 */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredTickets() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(TICKET_TTL_MINUTES);
+        tickets.values().removeIf(t -> t.completedAt != null && t.completedAt.isBefore(threshold));
+    }
+
+    private Ticket find(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) throw new NoSuchElementException("전투 티켓을 찾을 수 없습니다.");
+        return ticket;
+    }
+
+    private BattleTicketResponse toResponse(Ticket ticket) {
+        Status status = ticket.status;
+        return BattleTicketResponse.builder()
+                .ticketId(ticket.id)
+                .status(status.name())
+                .queuedAt(ticket.queuedAt)
+                .completedAt(ticket.completedAt)
+                .result(status == Status.DONE ? ticket.result : null)
+                .error(ticket.error)
+                .build();
+    }
+
+    /** 진행 중인 전투가 저장까지 넘길 수 있도록 기다린다 (writer는 이 빈보다 나중에 종료되며 남은 저장을 마저 커밋한다) */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        fightExecutor.shutdown();
+        if (!fightExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("종료 시간 초과: 진행 중인 비동기 전투 {}건", running.get());
+        }
+    }
+}
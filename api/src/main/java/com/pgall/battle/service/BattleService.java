@@ -1,774 +1,579 @@
 package com.pgall.battle.service;
 
+import com.pgall.battle.dto.BattleBatchResponse;
+import com.pgall.battle.dto.BattleLogPageResponse;
+import com.pgall.battle.dto.BattleLogResponse;
+import com.pgall.battle.dto.BattleLogSummaryResponse;
 import com.pgall.battle.dto.BattleRequest;
 import com.pgall.battle.dto.BattleResponse;
+import com.pgall.battle.dto.BattleRoundResponse;
+import com.pgall.battle.engine.*;
 import com.pgall.battle.entity.*;
-import com.pgall.battle.enums.*;
 import com.pgall.battle.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BattleService {
 
-    private static final ReentrantLock battleLock = new ReentrantLock();
-
     private final GameCharacterRepository characterRepository;
     private final InventoryRepository inventoryRepository;
     private final BattleLogRepository battleLogRepository;
+    private final CombatantLoader combatantLoader;
+    private final BattleLockManager lockManager;
+    private final RatingIndex ratingIndex;
+    private final GameMetrics metrics;
+    private final TransactionTemplate transaction;
+    private final BattleWriteBehind writeBehind;
+
+    /** 배치 전투 한 번에 받을 수 있는 최대 전투 수 */
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_LOG_PAGE_SIZE = 100;
+    private static final DefaultTransactionDefinition READ_ONLY = new DefaultTransactionDefinition();
+    static {
+        READ_ONLY.setReadOnly(true);
+    }
+    /** 전투 기록 정렬 (최신 순, 같은 시각이면 id 큰 순) */
+    private static final Comparator<BattleLogSummary> LOG_ORDER = Comparator
+            .comparing(BattleLogSummary::getCreatedAt)
+            .thenComparing(BattleLogSummary::getId)
+            .reversed();
+
+    /**
+     * 스트리밍 전투 진행 콜백.
+     * 전투 락 안에서 호출되므로 (onStart는 조회 트랜잭션 안) 구현체는 블로킹 I/O 없이 넘겨받기만 해야 한다.
+     */
+    public interface BattleListener {
+        /** 전투 시작 전 참가자 정보 (이름/아바타/직업/최대HP/물약) */
+        void onStart(BattleResponse header);
+
+        /** 라운드 하나가 계산될 때마다 호출 (마지막 묶음에는 정산 로그 포함) */
+        void onRound(BattleRoundResponse round);
+    }
 
-    @Transactional
     public BattleResponse battle(BattleRequest request) {
-        battleLock.lock();
-        try {
-            return doBattle(request);
-        } finally {
-            battleLock.unlock();
-        }
+        return battle(request, null);
     }
 
-    private BattleResponse doBattle(BattleRequest request) {
-        GameCharacter attacker = characterRepository.findById(request.getAttackerId())
-                .orElseThrow(() -> new NoSuchElementException("공격자를 찾을 수 없습니다."));
-        GameCharacter defender = characterRepository.findById(request.getDefenderId())
-                .orElseThrow(() -> new NoSuchElementException("방어자를 찾을 수 없습니다."));
-
-        if (attacker.getId().equals(defender.getId())) {
-            throw new IllegalArgumentException("자기 자신과 전투할 수 없습니다.");
+    /**
+     * listener가 있으면 라운드가 계산되는 즉시 전달한다.
+     * 비동기 큐와 같은 경로: 조회는 읽기 풀, 엔진은 트랜잭션 밖, 저장은 BattleWriteBehind의 묶음 커밋에 넘기고
+     * 요청 스레드는 커밋이 끝날 때까지 기다린다. 그래서 동시에 끝난 동기/스트림/비동기 전투가 커밋 하나를 나눠 쓴다.
+     * 락 → 트랜잭션 → 커밋 → 락 해제 순서: 락을 트랜잭션 안에서 잡으면 커밋 전에 풀려서
+     * 같은 캐릭터의 다음 전투가 커밋 전 상태를 읽을 수 있다 (커넥션보다 락을 먼저 잡는 순서도 전 경로 공통).
+     */
+    public BattleResponse battle(BattleRequest request, BattleListener listener) {
+        long start = System.nanoTime();
+        // 두 참가자의 락만 잡는다 (다른 전투와는 병렬 진행)
+        try (BattleLockManager.Lease ignored = lockManager.lock(request.getAttackerId(), request.getDefenderId())) {
+            QueuedBattle battle = readOnly(status -> prepare(request, listener));
+            SeededBattle.Result result = fight(battle, listener);
+            BattleResponse response = writeBehind.submit(() -> commitQueued(battle, result)).get();
+            // 묶음 커밋이 실패하면 writer가 작업을 다시 돌리므로 라운드 수는 커밋이 끝난 뒤에 한 번만 센다
+            metrics.rounds(result.outcome().rounds());
+            return response;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("전투 결과 저장에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("전투 결과 저장이 중단되었습니다.", e);
+        } finally {
+            metrics.battle(listener == null ? "sync" : "stream", System.nanoTime() - start);
         }
+    }
 
-        List<String> log = new ArrayList<>();
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-
-        int atkHp = attacker.getMaxHp();
-        int defHp = defender.getMaxHp();
-        int atkMaxHp = attacker.getMaxHp();
-        int defMaxHp = defender.getMaxHp();
-
-        Equipment atkWeapon = getEquippedWeapon(attacker);
-        Equipment defWeapon = getEquippedWeapon(defender);
-
-        // === 전투 시작 ===
-        log.add("=== 전투 시작 ===");
-        String atkClass = attacker.getCharacterClass() != null ? " [" + attacker.getCharacterClass().getKoreanName() + "]" : "";
-        String defClass = defender.getCharacterClass() != null ? " [" + defender.getCharacterClass().getKoreanName() + "]" : "";
-        log.add(attacker.getName() + atkClass + " [HP:" + atkHp + "] vs " + defender.getName() + defClass + " [HP:" + defHp + "]");
-
-        if (atkWeapon != null) {
-            String info = atkWeapon.getWeaponCategory() != null ? atkWeapon.getWeaponCategory().getKoreanName() : "무기";
-            log.add(attacker.getName() + "의 무기: " + atkWeapon.getName() + " (" + info + ")");
-        }
-        if (defWeapon != null) {
-            String info = defWeapon.getWeaponCategory() != null ? defWeapon.getWeaponCategory().getKoreanName() : "무기";
-            log.add(defender.getName() + "의 무기: " + defWeapon.getName() + " (" + info + ")");
+    /**
+     * 여러 전투를 한 트랜잭션으로 처리 (봇/이벤트 스크립트용).
+     * 참가자와 장착 물약은 한 번씩만 조회하고, 참가자가 겹치지 않는 전투끼리 웨이브로 묶어 엔진만 병렬로 돌린다.
+     * 같은 캐릭터가 여러 번 나오면 요청 순서대로, 앞 전투의 골드/ELO/물약이 반영된 상태로 싸운다.
+     * 잘못된 쌍(없는 캐릭터, 자기 자신)은 해당 결과에만 error로 표시하고 나머지는 진행한다.
+     * 락은 트랜잭션 밖에서 잡고 커밋 후에 푼다.
+     */
+    public BattleBatchResponse battleBatch(List<BattleRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("전투 목록이 비어 있습니다.");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "개 전투까지 요청할 수 있습니다.");
+        }
+        Set<Long> ids = new HashSet<>();
+        for (BattleRequest r : requests) {
+            if (r.getAttackerId() != null) ids.add(r.getAttackerId());
+            if (r.getDefenderId() != null) ids.add(r.getDefenderId());
+        }
+        long start = System.nanoTime();
+        try (BattleLockManager.Lease ignored = lockManager.lock(ids.toArray(Long[]::new))) {
+            BattleBatchResponse response = transaction.execute(status -> doBattleBatch(requests, ids));
+            for (BattleBatchResponse.Result r : response.getResults()) {
+                if (r.getError() == null) metrics.rounds(r.getRounds());
+            }
+            return response;
+        } finally {
+            metrics.battle("batch", System.nanoTime() - start);
         }
+    }
 
-        // 물약 (장착된 물약만) 로드
-        List<Inventory> atkPotions = inventoryRepository.findByCharacterIdAndEquipped(attacker.getId(), true);
-        List<Inventory> defPotions = inventoryRepository.findByCharacterIdAndEquipped(defender.getId(), true);
-        Set<BuffType> atkBuffsUsed = new HashSet<>();
-        Set<BuffType> defBuffsUsed = new HashSet<>();
-
-        // 보유 물약 표시 + 정보 수집
-        showPotions(atkPotions, attacker.getName(), log);
-        showPotions(defPotions, defender.getName(), log);
-        List<BattleResponse.PotionInfo> atkPotionInfos = buildPotionInfos(atkPotions);
-        List<BattleResponse.PotionInfo> defPotionInfos = buildPotionInfos(defPotions);
-
-        // 장비 효과 수집 (effectChance → 발동확률, effectValue → 수치)
-        Map<EquipmentEffect, int[]> atkEffects = collectEffects(attacker);
-        Map<EquipmentEffect, int[]> defEffects = collectEffects(defender);
-
-        // 장비 스탯 보너스
-        int atkDexB = getEquipStatBonus(attacker, Equipment::getBonusDexterity);
-        int defDexB = getEquipStatBonus(defender, Equipment::getBonusDexterity);
-        int atkConB = getEquipStatBonus(attacker, Equipment::getBonusConstitution);
-        int defConB = getEquipStatBonus(defender, Equipment::getBonusConstitution);
-
-        // CON 보너스 → HP 증가
-        if (atkConB > 0) { atkHp += atkConB * 2; atkMaxHp += atkConB * 2; }
-        if (defConB > 0) { defHp += defConB * 2; defMaxHp += defConB * 2; }
-
-        // AC 계산 (방어력 캡 8, DEX 장비보너스는 AC에 미반영)
-        int atkAC = 10 + mod(attacker.getDexterity()) + Math.min(getTotalDefense(attacker), 8);
-        int defAC = 10 + mod(defender.getDexterity()) + Math.min(getTotalDefense(defender), 8);
-
-        // 전투 시작 전 효과 적용
-        // DODGE_BOOST (절반만 반영)
-        atkAC += getEffectValue(atkEffects, EquipmentEffect.DODGE_BOOST) / 2;
-        defAC += getEffectValue(defEffects, EquipmentEffect.DODGE_BOOST) / 2;
-        // FORTIFY (절반만 반영)
-        atkAC += getEffectValue(atkEffects, EquipmentEffect.FORTIFY) / 2;
-        defAC += getEffectValue(defEffects, EquipmentEffect.FORTIFY) / 2;
-        // ENDURANCE (최대HP 증가)
-        int atkEndurance = getEffectValue(atkEffects, EquipmentEffect.ENDURANCE);
-        int defEndurance = getEffectValue(defEffects, EquipmentEffect.ENDURANCE);
-        if (atkEndurance > 0) { atkHp += atkEndurance; atkMaxHp += atkEndurance; log.add(attacker.getName() + "의 인내! 최대HP +" + atkEndurance); }
-        if (defEndurance > 0) { defHp += defEndurance; defMaxHp += defEndurance; log.add(defender.getName() + "의 인내! 최대HP +" + defEndurance); }
-        // ABSORB_SHIELD
-        int atkAbsorb = getEffectValue(atkEffects, EquipmentEffect.ABSORB_SHIELD);
-        int defAbsorb = getEffectValue(defEffects, EquipmentEffect.ABSORB_SHIELD);
-        if (atkAbsorb > 0) log.add(attacker.getName() + "의 흡수 보호막! 데미지 " + atkAbsorb + " 흡수");
-        if (defAbsorb > 0) log.add(defender.getName() + "의 흡수 보호막! 데미지 " + defAbsorb + " 흡수");
-
-        // 사전 디버프
-        if (proc(atkEffects, EquipmentEffect.DEBUFF_DEF_DOWN, random)) {
-            int v = val(atkEffects, EquipmentEffect.DEBUFF_DEF_DOWN);
-            defAC -= v; log.add(attacker.getName() + "의 장비! " + defender.getName() + " 방어력 -" + v);
-        }
-        if (proc(defEffects, EquipmentEffect.DEBUFF_DEF_DOWN, random)) {
-            int v = val(defEffects, EquipmentEffect.DEBUFF_DEF_DOWN);
-            atkAC -= v; log.add(defender.getName() + "의 장비! " + attacker.getName() + " 방어력 -" + v);
-        }
-        int atkDebuff = proc(defEffects, EquipmentEffect.DEBUFF_ATK_DOWN, random) ? val(defEffects, EquipmentEffect.DEBUFF_ATK_DOWN) : 0;
-        int defDebuff = proc(atkEffects, EquipmentEffect.DEBUFF_ATK_DOWN, random) ? val(atkEffects, EquipmentEffect.DEBUFF_ATK_DOWN) : 0;
-        if (atkDebuff > 0) log.add(defender.getName() + "의 장비! " + attacker.getName() + " 공격력 -" + atkDebuff);
-        if (defDebuff > 0) log.add(attacker.getName() + "의 장비! " + defender.getName() + " 공격력 -" + defDebuff);
-
-        // CURSE_WEAKNESS
-        boolean atkCursed = proc(defEffects, EquipmentEffect.CURSE_WEAKNESS, random);
-        boolean defCursed = proc(atkEffects, EquipmentEffect.CURSE_WEAKNESS, random);
-        if (atkCursed) log.add(defender.getName() + "의 허약 저주! " + attacker.getName() + " 데미지 30% 감소");
-        if (defCursed) log.add(attacker.getName() + "의 허약 저주! " + defender.getName() + " 데미지 30% 감소");
-
-        // INTIMIDATE
-        if (proc(atkEffects, EquipmentEffect.INTIMIDATE, random)) {
-            atkDebuff += 1; log.add(attacker.getName() + "의 위협! " + defender.getName() + " 위축!");
-        }
-        if (proc(defEffects, EquipmentEffect.INTIMIDATE, random)) {
-            defDebuff += 1; log.add(defender.getName() + "의 위협! " + attacker.getName() + " 위축!");
+    /** 배치 안의 전투 하나 (웨이브 시작 시점 상태로 만든 스냅샷) */
+    private record PreparedBattle(int index, GameCharacter attacker, GameCharacter defender,
+                                  List<Inventory> atkPotions, List<Inventory> defPotions,
+                                  BattleSnapshot snapshot, long seed) {}
+
+    private BattleBatchResponse doBattleBatch(List<BattleRequest> requests, Set<Long> ids) {
+        Map<Long, CombatantLoader.Participant> participants = combatantLoader.load(ids, true);
+        Map<Long, GameCharacter> characters = new HashMap<>();
+        for (CombatantLoader.Participant p : participants.values()) characters.put(p.character().getId(), p.character());
+
+        // 웨이브 배정: 참가자가 마지막으로 나온 웨이브 다음 (같은 캐릭터의 전투 순서 보존)
+        BattleBatchResponse.Result[] results = new BattleBatchResponse.Result[requests.size()];
+        Map<Long, Integer> lastWave = new HashMap<>();
+        List<List<Integer>> waves = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BattleRequest r = requests.get(i);
+            String error = validatePair(r, characters);
+            if (error != null) {
+                results[i] = BattleBatchResponse.Result.builder()
+                        .attackerId(r.getAttackerId()).defenderId(r.getDefenderId()).error(error).build();
+                continue;
+            }
+            int wave = Math.max(lastWave.getOrDefault(r.getAttackerId(), -1), lastWave.getOrDefault(r.getDefenderId(), -1)) + 1;
+            lastWave.put(r.getAttackerId(), wave);
+            lastWave.put(r.getDefenderId(), wave);
+            if (wave == waves.size()) waves.add(new ArrayList<>());
+            waves.get(wave).add(i);
+        }
+
+        Map<Long, GameCharacter> touched = new LinkedHashMap<>();
+        List<BattleLog> logs = new ArrayList<>();
+        for (List<Integer> wave : waves) {
+            List<PreparedBattle> prepared = wave.stream()
+                    .map(i -> prepare(i, requests.get(i), participants))
+                    .toList();
+            // 엔진은 영속성이 없으므로 병렬로 돌리고, 반영은 요청 순서대로
+            List<SeededBattle.Result> fought = prepared.parallelStream()
+                    .map(p -> SeededBattle.run(p.snapshot(), p.seed(), LogVerbosity.NONE))
+                    .toList();
+            for (int k = 0; k < prepared.size(); k++) {
+                PreparedBattle p = prepared.get(k);
+                BattleOutcome outcome = fought.get(k).outcome();
+                BattleSettlement settlement = fought.get(k).settlement();
+                int loserEloChange = applyOutcome(p.attacker(), p.defender(), p.atkPotions(), p.defPotions(), outcome, settlement);
+                GameCharacter winner = outcome.attackerWon() ? p.attacker() : p.defender();
+                GameCharacter loser = outcome.attackerWon() ? p.defender() : p.attacker();
+                touched.put(winner.getId(), winner);
+                touched.put(loser.getId(), loser);
+                logs.add(newBattleLog(p.attacker(), p.defender(), winner, p.seed(), p.snapshot()));
+                results[p.index()] = BattleBatchResponse.Result.builder()
+                        .attackerId(p.attacker().getId()).defenderId(p.defender().getId())
+                        .winnerId(winner.getId()).loserId(loser.getId())
+                        .rounds(outcome.rounds())
+                        .goldReward(settlement.goldReward()).loserGoldReward(settlement.loserGoldReward())
+                        .winnerEloChange(settlement.winnerDelta()).loserEloChange(loserEloChange)
+                        .build();
+            }
         }
 
-        // ACCURACY_UP
-        int atkAccuracy = getEffectValue(atkEffects, EquipmentEffect.ACCURACY_UP);
-        int defAccuracy = getEffectValue(defEffects, EquipmentEffect.ACCURACY_UP);
-        // PIERCING_GAZE
-        atkAccuracy += getEffectValue(atkEffects, EquipmentEffect.PIERCING_GAZE);
-        defAccuracy += getEffectValue(defEffects, EquipmentEffect.PIERCING_GAZE);
-
-        // BLESS
-        if (hasEffect(atkEffects, EquipmentEffect.BLESS)) { atkAccuracy += 2; log.add(attacker.getName() + "의 축복! 모든 능력 강화!"); }
-        if (hasEffect(defEffects, EquipmentEffect.BLESS)) { defAccuracy += 2; log.add(defender.getName() + "의 축복! 모든 능력 강화!"); }
-
-        // 이니셔티브
-        int atkInit = roll(20) + mod(attacker.getDexterity());
-        int defInit = roll(20) + mod(defender.getDexterity());
-        // HASTE
-        if (hasEffect(atkEffects, EquipmentEffect.HASTE)) { atkInit += 5; log.add(attacker.getName() + "의 가속!"); }
-        if (hasEffect(defEffects, EquipmentEffect.HASTE)) { defInit += 5; log.add(defender.getName() + "의 가속!"); }
-        boolean attackerFirst = atkInit >= defInit;
-        log.add("이니셔티브: " + attacker.getName() + "(" + atkInit + ") vs " + defender.getName() + "(" + defInit + ")");
-        log.add((attackerFirst ? attacker.getName() : defender.getName()) + " 선공!");
-
-        // 전투 상태
-        int round = 1;
-        boolean atkStunned = false, defStunned = false;
-        boolean atkBleeding = false, defBleeding = false;
-        boolean atkSlowed = false, defSlowed = false;
-        boolean atkSilenced = false, defSilenced = false;
-        boolean atkDisarmed = false, defDisarmed = false;
-        boolean atkSecondWind = hasEffect(atkEffects, EquipmentEffect.SECOND_WIND);
-        boolean defSecondWind = hasEffect(defEffects, EquipmentEffect.SECOND_WIND);
-        boolean atkDeathWard = hasEffect(atkEffects, EquipmentEffect.DEATH_WARD);
-        boolean defDeathWard = hasEffect(defEffects, EquipmentEffect.DEATH_WARD);
-
-        while (atkHp > 0 && defHp > 0 && round <= 20) {
-            log.add("--- 라운드 " + round + " ---");
-
-            // 물약 자동 사용 (치유: HP 25% 이하, 버프: 1라운드)
-            atkHp = usePotions(atkPotions, atkBuffsUsed, atkHp, atkMaxHp, attacker, log, random, round);
-            defHp = usePotions(defPotions, defBuffsUsed, defHp, defMaxHp, defender, log, random, round);
-
-            if (attackerFirst) {
-                defHp = doTurn(attacker, defender, atkHp, defHp, atkMaxHp, defMaxHp, defAC,
-                        log, random, atkEffects, defEffects, atkDebuff, atkAccuracy, atkWeapon, defWeapon,
-                        atkStunned, atkBleeding, atkSlowed, atkSilenced, atkDisarmed, atkCursed,
-                        atkBuffsUsed, round, atkAbsorb, defAbsorb, true);
-                if (defHp <= 0) { defHp = checkRevive(defHp, defSecondWind, defDeathWard, defender.getName(), log); defSecondWind = false; defDeathWard = false; }
-                if (defHp <= 0) break;
-
-                // 상태이상 체크 (공격자→방어자)
-                if (proc(atkEffects, EquipmentEffect.STUN_STRIKE, random)) {
-                    if (!hasEffect(defEffects, EquipmentEffect.STUN_RESISTANCE) && !hasEffect(defEffects, EquipmentEffect.PERSEVERANCE)) {
-                        defStunned = true; log.add(attacker.getName() + "의 효과! " + defender.getName() + " 기절!");
-                    } else { log.add(defender.getName() + " 기절 저항!"); }
-                }
-                if (proc(atkEffects, EquipmentEffect.BLEEDING, random)) { defBleeding = true; log.add(defender.getName() + "에게 출혈!"); }
-                if (proc(atkEffects, EquipmentEffect.SLOW, random)) { defSlowed = true; log.add(defender.getName() + " 속도 감소!"); }
-                if (proc(atkEffects, EquipmentEffect.SILENCE, random)) { defSilenced = true; log.add(defender.getName() + " 침묵!"); }
-                if (proc(atkEffects, EquipmentEffect.DISARM, random)) { defDisarmed = true; log.add(defender.getName() + " 무장 해제!"); }
-                if (proc(atkEffects, EquipmentEffect.KNOCKBACK, random)) { log.add(defender.getName() + " 넉백! 다음 공격 명중률 감소"); defAccuracy -= 2; }
-
-                // 방어자 턴
-                atkHp = doTurn(defender, attacker, defHp, atkHp, defMaxHp, atkMaxHp, atkAC,
-                        log, random, defEffects, atkEffects, defDebuff, defAccuracy, defWeapon, atkWeapon,
-                        defStunned, defBleeding, defSlowed, defSilenced, defDisarmed, defCursed,
-                        defBuffsUsed, round, defAbsorb, atkAbsorb, true);
-                if (atkHp <= 0) { atkHp = checkRevive(atkHp, atkSecondWind, atkDeathWard, attacker.getName(), log); atkSecondWind = false; atkDeathWard = false; }
-                if (atkHp <= 0) break;
-
-                if (proc(defEffects, EquipmentEffect.STUN_STRIKE, random)) {
-                    if (!hasEffect(atkEffects, EquipmentEffect.STUN_RESISTANCE) && !hasEffect(atkEffects, EquipmentEffect.PERSEVERANCE)) {
-                        atkStunned = true; log.add(defender.getName() + "의 효과! " + attacker.getName() + " 기절!");
-                    } else { log.add(attacker.getName() + " 기절 저항!"); }
-                }
-                if (proc(defEffects, EquipmentEffect.BLEEDING, random)) { atkBleeding = true; log.add(attacker.getName() + "에게 출혈!"); }
-                if (proc(defEffects, EquipmentEffect.SLOW, random)) { atkSlowed = true; log.add(attacker.getName() + " 속도 감소!"); }
-                if (proc(defEffects, EquipmentEffect.SILENCE, random)) { atkSilenced = true; log.add(attacker.getName() + " 침묵!"); }
-                if (proc(defEffects, EquipmentEffect.DISARM, random)) { atkDisarmed = true; log.add(attacker.getName() + " 무장 해제!"); }
-            } else {
-                // 방어자 선공 (mirror)
-                atkHp = doTurn(defender, attacker, defHp, atkHp, defMaxHp, atkMaxHp, atkAC,
-                        log, random, defEffects, atkEffects, defDebuff, defAccuracy, defWeapon, atkWeapon,
-                        defStunned, defBleeding, defSlowed, defSilenced, defDisarmed, defCursed,
-                        defBuffsUsed, round, defAbsorb, atkAbsorb, true);
-                if (atkHp <= 0) { atkHp = checkRevive(atkHp, atkSecondWind, atkDeathWard, attacker.getName(), log); atkSecondWind = false; atkDeathWard = false; }
-                if (atkHp <= 0) break;
-                if (proc(defEffects, EquipmentEffect.STUN_STRIKE, random)) {
-                    if (!hasEffect(atkEffects, EquipmentEffect.STUN_RESISTANCE) && !hasEffect(atkEffects, EquipmentEffect.PERSEVERANCE)) {
-                        atkStunned = true; log.add(defender.getName() + "의 효과! " + attacker.getName() + " 기절!");
-                    }
-                }
-                if (proc(defEffects, EquipmentEffect.BLEEDING, random)) atkBleeding = true;
-                if (proc(defEffects, EquipmentEffect.SLOW, random)) atkSlowed = true;
-
-                defHp = doTurn(attacker, defender, atkHp, defHp, atkMaxHp, defMaxHp, defAC,
-                        log, random, atkEffects, defEffects, atkDebuff, atkAccuracy, atkWeapon, defWeapon,
-                        atkStunned, atkBleeding, atkSlowed, atkSilenced, atkDisarmed, atkCursed,
-                        atkBuffsUsed, round, atkAbsorb, defAbsorb, true);
-                if (defHp <= 0) { defHp = checkRevive(defHp, defSecondWind, defDeathWard, defender.getName(), log); defSecondWind = false; defDeathWard = false; }
-                if (defHp <= 0) break;
-                if (proc(atkEffects, EquipmentEffect.STUN_STRIKE, random)) {
-                    if (!hasEffect(defEffects, EquipmentEffect.STUN_RESISTANCE) && !hasEffect(defEffects, EquipmentEffect.PERSEVERANCE)) {
-                        defStunned = true; log.add(attacker.getName() + "의 효과! " + defender.getName() + " 기절!");
-                    }
-                }
-                if (proc(atkEffects, EquipmentEffect.BLEEDING, random)) defBleeding = true;
-                if (proc(atkEffects, EquipmentEffect.SLOW, random)) defSlowed = true;
-            }
+        characterRepository.saveAll(touched.values());
+        battleLogRepository.saveAll(logs);
 
-            // 라운드 종료 효과
-            // 출혈 데미지
-            if (atkBleeding) { int bleed = 2; atkHp -= bleed; log.add(attacker.getName() + " 출혈 데미지 " + bleed + "! (남은HP:" + Math.max(0, atkHp) + ")"); }
-            if (defBleeding) { int bleed = 2; defHp -= bleed; log.add(defender.getName() + " 출혈 데미지 " + bleed + "! (남은HP:" + Math.max(0, defHp) + ")"); }
-            // 독 데미지
-            if (proc(atkEffects, EquipmentEffect.POISON, random)) { int v = val(atkEffects, EquipmentEffect.POISON); defHp -= v; log.add(defender.getName() + " 독 데미지 " + v + "! (남은HP:" + Math.max(0, defHp) + ")"); }
-            if (proc(defEffects, EquipmentEffect.POISON, random)) { int v = val(defEffects, EquipmentEffect.POISON); atkHp -= v; log.add(attacker.getName() + " 독 데미지 " + v + "! (남은HP:" + Math.max(0, atkHp) + ")"); }
-            // HP 재생
-            if (hasEffect(atkEffects, EquipmentEffect.HP_REGEN) && atkHp > 0) { int v = val(atkEffects, EquipmentEffect.HP_REGEN); atkHp = Math.min(atkHp + v, atkMaxHp); log.add(attacker.getName() + " HP 재생 +" + v + " (HP:" + atkHp + ")"); }
-            if (hasEffect(defEffects, EquipmentEffect.HP_REGEN) && defHp > 0) { int v = val(defEffects, EquipmentEffect.HP_REGEN); defHp = Math.min(defHp + v, defMaxHp); log.add(defender.getName() + " HP 재생 +" + v + " (HP:" + defHp + ")"); }
-            // HEALING_AURA
-            if (hasEffect(atkEffects, EquipmentEffect.HEALING_AURA) && atkHp > 0) { int v = 1; atkHp = Math.min(atkHp + v, atkMaxHp); log.add(attacker.getName() + " 치유 오라 +" + v + " (HP:" + atkHp + ")"); }
-            if (hasEffect(defEffects, EquipmentEffect.HEALING_AURA) && defHp > 0) { int v = 1; defHp = Math.min(defHp + v, defMaxHp); log.add(defender.getName() + " 치유 오라 +" + v + " (HP:" + defHp + ")"); }
-            // 성직자 힐
-            atkHp = applyClassHeal(attacker, atkHp, atkMaxHp, log);
-            defHp = applyClassHeal(defender, defHp, defMaxHp, log);
-            // SPIRIT_LINK (공유 HP 밸런싱 - 자신 HP 1 회복)
-            if (hasEffect(atkEffects, EquipmentEffect.SPIRIT_LINK) && atkHp > 0 && atkHp < atkMaxHp) { atkHp++; log.add(attacker.getName() + " 영혼 연결 +1 (HP:" + atkHp + ")"); }
-            if (hasEffect(defEffects, EquipmentEffect.SPIRIT_LINK) && defHp > 0 && defHp < defMaxHp) { defHp++; log.add(defender.getName() + " 영혼 연결 +1 (HP:" + defHp + ")"); }
-
-            // 상태이상 해제 (1턴 후)
-            if (atkStunned) atkStunned = false;
-            if (defStunned) defStunned = false;
-            if (atkSlowed) atkSlowed = false;
-            if (defSlowed) defSlowed = false;
-            if (atkSilenced) atkSilenced = false;
-            if (defSilenced) defSilenced = false;
-            if (atkDisarmed) atkDisarmed = false;
-            if (defDisarmed) defDisarmed = false;
-
-            round++;
-        }
+        int failed = (int) Arrays.stream(results).filter(r -> r.getError() != null).count();
+        return BattleBatchResponse.builder()
+                .succeeded(results.length - failed)
+                .failed(failed)
+                .results(Arrays.asList(results))
+                .build();
+    }
 
-        // 물약 소모 저장
-        List<Inventory> allPotions = new ArrayList<>();
-        allPotions.addAll(atkPotions);
-        allPotions.addAll(defPotions);
-        List<Inventory> depleted = allPotions.stream().filter(inv -> inv.getQuantity() <= 0).toList();
-        List<Inventory> remaining = allPotions.stream().filter(inv -> inv.getQuantity() > 0).toList();
-        if (!remaining.isEmpty()) inventoryRepository.saveAll(remaining);
-        if (!depleted.isEmpty()) inventoryRepository.deleteAll(depleted);
-
-        // 결과
-        GameCharacter winner, loser;
-        if (defHp <= 0) { winner = attacker; loser = defender; }
-        else if (atkHp <= 0) { winner = defender; loser = attacker; }
-        else {
-            winner = atkHp >= defHp ? attacker : defender;
-            loser = winner == attacker ? defender : attacker;
-            log.add("20라운드 경과! HP가 더 많은 " + winner.getName() + " 판정승! ("
-                    + attacker.getName() + " HP:" + Math.max(0, atkHp) + "/" + atkMaxHp
-                    + " vs " + defender.getName() + " HP:" + Math.max(0, defHp) + "/" + defMaxHp + ")");
-        }
+    private String validatePair(BattleRequest r, Map<Long, GameCharacter> characters) {
+        if (r.getAttackerId() == null || !characters.containsKey(r.getAttackerId())) return "공격자를 찾을 수 없습니다.";
+        if (r.getDefenderId() == null || !characters.containsKey(r.getDefenderId())) return "방어자를 찾을 수 없습니다.";
+        if (r.getAttackerId().equals(r.getDefenderId())) return "자기 자신과 전투할 수 없습니다.";
+        return null;
+    }
 
-        int goldReward = calcGoldReward(winner.getEloRate(), loser.getEloRate(), random);
-        winner.setGold(winner.getGold() + goldReward);
+    private PreparedBattle prepare(int index, BattleRequest r, Map<Long, CombatantLoader.Participant> participants) {
+        CombatantLoader.Participant atk = participants.get(r.getAttackerId());
+        CombatantLoader.Participant def = participants.get(r.getDefenderId());
+        GameCharacter attacker = atk.character();
+        GameCharacter defender = def.character();
+        // 앞 웨이브에서 다 쓴 물약은 빼고, 남은 수량으로 다시 만든다 (프로필은 그대로)
+        List<Inventory> atkPotions = usablePotions(atk.potions());
+        List<Inventory> defPotions = usablePotions(def.potions());
+        BattleSnapshot snapshot = new BattleSnapshot(
+                CombatantLoader.combatant(atk.combatant().profile(), atkPotions),
+                CombatantLoader.combatant(def.combatant().profile(), defPotions),
+                attacker.getEloRate(), defender.getEloRate());
+        return new PreparedBattle(index, attacker, defender, atkPotions, defPotions, snapshot,
+                ThreadLocalRandom.current().nextLong());
+    }
 
-        int loserGoldReward = calcLoserGoldReward(loser.getEloRate(), winner.getEloRate(), random);
-        if (loserGoldReward > 0) {
-            loser.setGold(loser.getGold() + loserGoldReward);
+    /** 참가자 조회 + 스냅샷 (listener가 있으면 시작 정보도 여기서 보낸다) */
+    private QueuedBattle prepare(BattleRequest request, BattleListener listener) {
+        // 참가자 + 장착 장비/효과 + 장착 물약 (고정 횟수 쿼리)
+        CombatantLoader.Pair pair = combatantLoader.loadPair(request.getAttackerId(), request.getDefenderId());
+        if (listener != null) {
+            listener.onStart(participants(pair.attacker().character(), pair.defender().character(), pair.snapshot()).build());
         }
+        return toQueued(pair, request);
+    }
 
-        // SOUL_HARVEST
-        if (winner == attacker && hasEffect(atkEffects, EquipmentEffect.SOUL_HARVEST)) {
-            int heal = 5; log.add(attacker.getName() + "의 영혼 수확! HP +" + heal);
-        } else if (winner == defender && hasEffect(defEffects, EquipmentEffect.SOUL_HARVEST)) {
-            int heal = 5; log.add(defender.getName() + "의 영혼 수확! HP +" + heal);
-        }
+    /** 전투 진행 (seed + 스냅샷만 있으면 같은 전투를 다시 만들 수 있다) */
+    private SeededBattle.Result fight(QueuedBattle battle, BattleListener listener) {
+        BattleSnapshot snapshot = battle.snapshot();
+        List<BattleEvent> events = new ArrayList<>();
+        Consumer<BattleEvent> sink = events::add;
+        RoundBatcher batcher = null;
+        if (listener != null) {
+            BattleLogRenderer renderer = new BattleLogRenderer(snapshot.attacker(), snapshot.defender());
+            batcher = new RoundBatcher(batch -> listener.onRound(toRound(batch, renderer)));
+            sink = sink.andThen(batcher);
+        }
+        SeededBattle.Result result = SeededBattle.run(snapshot, battle.seed(), battle.verbosity(), sink);
+        if (batcher != null) batcher.finish();
+        return new SeededBattle.Result(result.outcome(), result.settlement(), events);
+    }
 
-        // ELO 레이팅 (K=32)
-        double expectedW = 1.0 / (1 + Math.pow(10, (loser.getEloRate() - winner.getEloRate()) / 400.0));
-        int winnerDelta = (int) Math.round(32 * (1 - expectedW));
-        int loserDelta = (int) Math.round(32 * (0 - (1 - expectedW)));
-        winner.setEloRate(winner.getEloRate() + winnerDelta);
-        loser.setEloRate(Math.max(0, loser.getEloRate() + loserDelta));
-        characterRepository.save(winner);
-        characterRepository.save(loser);
-
-        log.add("=== 전투 종료 ===");
-        log.add(winner.getName() + " 승리! +" + goldReward + " 골드");
-        if (loserGoldReward > 0) {
-            log.add(loser.getName() + " 패배 위로금 +" + loserGoldReward + " 골드");
-        }
-        log.add("ELO: " + winner.getName() + " +" + winnerDelta + " (" + winner.getEloRate() + ") | "
-                + loser.getName() + " " + loserDelta + " (" + loser.getEloRate() + ")");
+    private BattleResponse toResponse(GameCharacter attacker, GameCharacter defender, BattleSnapshot snapshot,
+                                      SeededBattle.Result result, int loserEloChange, List<BattleEvent> events) {
+        if (events == null) events = List.of();
+        BattleOutcome outcome = result.outcome();
+        BattleSettlement settlement = result.settlement();
+        GameCharacter winner = outcome.attackerWon() ? attacker : defender;
+        GameCharacter loser = outcome.attackerWon() ? defender : attacker;
 
-        try {
-            battleLogRepository.save(BattleLog.builder()
-                    .attackerId(request.getAttackerId())
-                    .defenderId(request.getDefenderId())
-                    .winnerId(winner.getId())
-                    .log(String.join("\n", log))
-                    .build());
-        } catch (Exception ignored) {}
+        // 텍스트 로그는 여기서 한 번만 렌더링
+        List<String> battleLog = BattleLogRenderer.render(snapshot.attacker(), snapshot.defender(), events);
 
-        return BattleResponse.builder()
+        return participants(attacker, defender, snapshot)
                 .winnerId(winner.getId()).winnerName(winner.getName())
                 .loserId(loser.getId()).loserName(loser.getName())
-                .battleLog(log).goldReward(goldReward).loserGoldReward(loserGoldReward)
-                .attackerName(attacker.getName()).defenderName(defender.getName())
-                .attackerAvatar(attacker.getAvatar()).defenderAvatar(defender.getAvatar())
-                .attackerClass(attacker.getCharacterClass() != null ? attacker.getCharacterClass().name() : null)
-                .defenderClass(defender.getCharacterClass() != null ? defender.getCharacterClass().name() : null)
-                .attackerMaxHp(atkMaxHp).defenderMaxHp(defMaxHp)
-                .attackerFinalHp(Math.max(0, atkHp)).defenderFinalHp(Math.max(0, defHp))
-                .attackerPotions(atkPotionInfos).defenderPotions(defPotionInfos)
+                .battleLog(battleLog).events(events)
+                .goldReward(settlement.goldReward()).loserGoldReward(settlement.loserGoldReward())
+                .winnerEloChange(settlement.winnerDelta()).loserEloChange(loserEloChange)
+                .attackerFinalHp(Math.max(0, outcome.attackerHp())).defenderFinalHp(Math.max(0, outcome.defenderHp()))
                 .build();
     }
 
-    private List<BattleResponse.PotionInfo> buildPotionInfos(List<Inventory> potions) {
-        return potions.stream()
-                .filter(inv -> inv.getQuantity() > 0 && inv.getShopItem() != null)
-                .map(inv -> BattleResponse.PotionInfo.builder()
-                        .name(inv.getShopItem().getName())
-                        .buffType(inv.getShopItem().getBuffType().name())
-                        .quantity(inv.getQuantity())
-                        .build())
-                .toList();
+    /** 두 캐릭터의 현재 스냅샷 (장비 + 장착 물약, 저장 없음) */
+    @Transactional(readOnly = true)
+    public BattleSnapshot snapshot(Long attackerId, Long defenderId) {
+        return combatantLoader.loadPair(attackerId, defenderId).snapshot();
     }
 
-    /** 한 캐릭터의 턴 처리 */
-    private int doTurn(GameCharacter atk, GameCharacter def, int atkHp, int defHp,
-                       int atkMaxHp, int defMaxHp, int defAC,
-                       List<String> log, ThreadLocalRandom random,
-                       Map<EquipmentEffect, int[]> atkEffects, Map<EquipmentEffect, int[]> defEffects,
-                       int atkDebuff, int accuracy, Equipment atkWeapon, Equipment defWeapon,
-                       boolean stunned, boolean bleeding, boolean slowed, boolean silenced, boolean disarmed, boolean cursed,
-                       Set<BuffType> buffsUsed, int round,
-                       int atkAbsorb, int defAbsorb, boolean canAct) {
-        if (stunned) {
-            log.add(atk.getName() + "은(는) 기절 상태! 턴을 넘깁니다.");
-            return defHp;
-        }
-        if (slowed && random.nextBoolean()) {
-            log.add(atk.getName() + "은(는) 속도 감소로 행동 지연!");
-            return defHp;
-        }
-
-        int attackCount = 1;
-        // 더블 어택 (장비 또는 물약)
-        if (proc(atkEffects, EquipmentEffect.DOUBLE_ATTACK, random) || buffsUsed.contains(BuffType.DOUBLE_ATTACK)) {
-            attackCount = 2; log.add(atk.getName() + " 더블 어택!");
-        }
-        // HASTE 추가 공격
-        if (hasEffect(atkEffects, EquipmentEffect.HASTE) && random.nextInt(100) < 30) {
-            attackCount = 2; log.add(atk.getName() + " 가속 추가 공격!");
-        }
-        // 궁수 + 활
-        if (atk.getCharacterClass() == CharacterClass.RANGER
-                && atkWeapon != null && atkWeapon.getWeaponCategory() == WeaponCategory.BOW
-                && random.nextInt(100) < 50) {
-            attackCount = 2; log.add(atk.getName() + " 속사!");
-        }
-
-        int atkMod = disarmed ? 0 : getAttackModifier(atk, atkWeapon);
-        int weaponHitBonus = disarmed ? 0 : getTotalAttack(atk) / 2;
-        boolean shieldActive = buffsUsed.contains(BuffType.SHIELD);
-
-        // 관통
-        int penetration = getEffectValue(atkEffects, EquipmentEffect.ARMOR_PENETRATION);
-        int effectiveAC = Math.max(5, defAC - penetration);
-
-        for (int i = 0; i < attackCount; i++) {
-            int attackRoll = roll(20);
-            boolean isNat20 = attackRoll == 20;
-            boolean crit = isNat20 || (buffsUsed.contains(BuffType.CRIT_DOUBLE) && attackRoll >= 19);
-            // CRITICAL_BOOST
-            if (!crit && hasEffect(atkEffects, EquipmentEffect.CRITICAL_BOOST) && attackRoll >= 18) crit = true;
-            // LUCK
-            if (!crit && hasEffect(atkEffects, EquipmentEffect.LUCK) && attackRoll >= 19) crit = true;
-
-            int totalAttack = attackRoll + atkMod + weaponHitBonus - atkDebuff + accuracy;
-
-            if (isNat20 || totalAttack >= effectiveAC) {
-                // 방패
-                if (shieldActive) { log.add(def.getName() + "의 방패 발동! 차단!"); shieldActive = false; continue; }
-                // BLOCK_CHANCE
-                if (proc(defEffects, EquipmentEffect.BLOCK_CHANCE, random)) { log.add(def.getName() + " 공격 차단!"); continue; }
-                // EVASION
-                if (proc(defEffects, EquipmentEffect.EVASION, random)) { log.add(def.getName() + " 완전 회피!"); continue; }
-                // MANA_SHIELD
-                if (proc(defEffects, EquipmentEffect.MANA_SHIELD, random)) {
-                    int absorbed = val(defEffects, EquipmentEffect.MANA_SHIELD);
-                    log.add(def.getName() + "의 마나 보호막! " + absorbed + " 데미지 흡수"); continue;
-                }
-
-                // 데미지 계산
-                int damage = disarmed ? 1 : (rollWeaponDamage(atkWeapon, random) + atkMod + getWeaponAttack(atk) - atkDebuff);
-                damage += getClassDamageBonus(atk, atkWeapon, round, random);
-                if (damage < 1) damage = 1;
-                if (crit) { damage = (int)(damage * 1.5); log.add("크리티컬 히트!"); }
-                if (cursed) damage = (int)(damage * 0.7); // 허약 저주
-
-                // 원소 추가 데미지
-                damage += calcElementalDamage(atkEffects, defEffects, log, atk.getName(), def.getName(), random, silenced);
-
-                // DAMAGE_REDUCTION
-                int reduction = getEffectValue(defEffects, EquipmentEffect.DAMAGE_REDUCTION);
-                // HEAVY_ARMOR
-                reduction += getEffectValue(defEffects, EquipmentEffect.HEAVY_ARMOR);
-                // IRON_SKIN (%)
-                if (hasEffect(defEffects, EquipmentEffect.IRON_SKIN)) damage = (int)(damage * 0.85);
-                damage = Math.max(1, damage - reduction);
-
-                // 흡수 보호막
-                if (defAbsorb > 0) {
-                    int absorbed = Math.min(defAbsorb, damage);
-                    damage -= absorbed;
-                    defAbsorb -= absorbed;
-                    if (absorbed > 0) log.add(def.getName() + "의 보호막이 " + absorbed + " 흡수!");
-                }
-
-                defHp -= damage;
-                log.add(atk.getName() + " -> " + def.getName() + " (" + totalAttack + " vs AC" + effectiveAC + ") 명중! "
-                        + damage + " 데미지 (남은HP:" + Math.max(0, defHp) + ")");
-
-                // EXECUTE (HP 20% 이하 즉사)
-                if (hasEffect(atkEffects, EquipmentEffect.EXECUTE) && defHp > 0 && defHp <= defMaxHp * 0.2) {
-                    if (random.nextInt(100) < 30) { defHp = 0; log.add(atk.getName() + "의 처형! " + def.getName() + " 즉사!"); }
-                }
-                // VORPAL (크리 시 추가 대미지)
-                if (crit && hasEffect(atkEffects, EquipmentEffect.VORPAL)) {
-                    int vorpal = damage / 2; defHp -= vorpal; log.add(atk.getName() + "의 참수! 추가 " + vorpal + " 데미지!");
-                }
+    /**
+     * 단판 전투 준비물 (비동기 큐, 동기/스트림 공용): 조회 → 엔진 → 저장을 서로 다른 트랜잭션/스레드에서 하도록 나눈 단위.
+     * 물약은 스냅샷과 같은 순서의 인벤토리 ID로 들고 있다가 저장 시점에 다시 읽는다.
+     */
+    public record QueuedBattle(Long attackerId, Long defenderId, BattleSnapshot snapshot, long seed,
+                               List<Long> atkPotionIds, List<Long> defPotionIds, LogVerbosity verbosity) {}
+
+    /** 큐 워커: 참가자 조회 + 스냅샷 (호출 측이 참가자 락을 잡고 있어야 한다) */
+    @Transactional(readOnly = true)
+    public QueuedBattle prepareQueued(BattleRequest request) {
+        return toQueued(combatantLoader.loadPair(request.getAttackerId(), request.getDefenderId()), request);
+    }
 
-                // 흡혈
-                if (proc(atkEffects, EquipmentEffect.LIFE_STEAL, random)) {
-                    int heal = damage / 3; if (heal > 0) log.add(atk.getName() + " 흡혈! +" + heal + " HP");
-                }
-                // VAMPIRIC_AURA
-                if (hasEffect(atkEffects, EquipmentEffect.VAMPIRIC_AURA)) {
-                    int heal = damage / 5; if (heal > 0) log.add(atk.getName() + " 흡혈 오라! +" + heal + " HP");
-                }
-                // MANA_DRAIN
-                if (proc(atkEffects, EquipmentEffect.MANA_DRAIN, random)) {
-                    log.add(atk.getName() + "의 마나 흡수! " + def.getName() + " 약화!");
-                }
+    private static QueuedBattle toQueued(CombatantLoader.Pair pair, BattleRequest request) {
+        return new QueuedBattle(pair.attacker().character().getId(), pair.defender().character().getId(),
+                pair.snapshot(), ThreadLocalRandom.current().nextLong(),
+                pair.attacker().potions().stream().map(Inventory::getId).toList(),
+                pair.defender().potions().stream().map(Inventory::getId).toList(),
+                LogVerbosity.orDefault(request.getVerbosity()));
+    }
 
-                // THORNS (피격 시 반사)
-                if (hasEffect(defEffects, EquipmentEffect.THORNS)) {
-                    int thorns = val(defEffects, EquipmentEffect.THORNS);
-                    log.add(def.getName() + "의 가시! " + atk.getName() + "에게 반사 " + thorns + " 데미지");
-                }
-                // REFLECT_MAGIC
-                if (proc(defEffects, EquipmentEffect.REFLECT_MAGIC, random)) {
-                    int reflect = damage / 4;
-                    log.add(def.getName() + "의 마법 반사! " + reflect + " 데미지 반사");
-                }
-                // COUNTER_ATTACK
-                if (proc(defEffects, EquipmentEffect.COUNTER_ATTACK, random)) {
-                    int counter = damage / 2;
-                    log.add(def.getName() + "의 반격! " + counter + " 데미지!");
-                }
-                // CHAOS_STRIKE
-                if (proc(atkEffects, EquipmentEffect.CHAOS_STRIKE, random)) {
-                    int chaos = random.nextInt(1, 8);
-                    defHp -= chaos; log.add(atk.getName() + "의 혼돈 일격! 추가 " + chaos + " 데미지!");
-                }
+    /**
+     * 저장 작업 (비동기 큐, 동기/스트림 전투 공용): 엔진 결과를 반영하고 저장.
+     * BattleWriteBehind의 묶음 트랜잭션 안에서 실행되며, 락은 조회부터 커밋이 끝날 때까지 호출 측이 보유한다.
+     */
+    public BattleResponse commitQueued(QueuedBattle battle, SeededBattle.Result result) {
+        GameCharacter attacker = characterRepository.findById(battle.attackerId())
+                .orElseThrow(() -> new NoSuchElementException("공격자를 찾을 수 없습니다."));
+        GameCharacter defender = characterRepository.findById(battle.defenderId())
+                .orElseThrow(() -> new NoSuchElementException("방어자를 찾을 수 없습니다."));
+        List<Inventory> atkPotions = potionsById(battle.atkPotionIds());
+        List<Inventory> defPotions = potionsById(battle.defPotionIds());
 
-                if (defHp <= 0) break;
-            } else {
-                log.add(atk.getName() + " -> " + def.getName() + " (" + totalAttack + " vs AC" + effectiveAC + ") 빗나감!");
-            }
-        }
+        int loserEloChange = applyOutcome(attacker, defender, atkPotions, defPotions, result.outcome(), result.settlement());
+        characterRepository.save(attacker);
+        characterRepository.save(defender);
+        GameCharacter winner = result.outcome().attackerWon() ? attacker : defender;
+        battleLogRepository.save(newBattleLog(attacker, defender, winner, battle.seed(), battle.snapshot()));
 
-        return defHp;
+        return toResponse(attacker, defender, battle.snapshot(), result, loserEloChange, result.events());
     }
 
-    /** 원소 추가 데미지 계산 */
-    private int calcElementalDamage(Map<EquipmentEffect, int[]> atkEffects, Map<EquipmentEffect, int[]> defEffects,
-                                     List<String> log, String atkName, String defName,
-                                     ThreadLocalRandom random, boolean silenced) {
-        int extra = 0;
-        // SILENCE 상태면 마법 원소 데미지 비활성
-        if (proc(atkEffects, EquipmentEffect.FIRE_DAMAGE, random)) {
-            int v = val(atkEffects, EquipmentEffect.FIRE_DAMAGE);
-            if (hasEffect(defEffects, EquipmentEffect.FIRE_RESISTANCE)) { v /= 2; log.add(defName + " 화염 저항!"); }
-            extra += v; log.add(atkName + " 화염 +" + v);
-        }
-        if (proc(atkEffects, EquipmentEffect.ICE_DAMAGE, random)) {
-            int v = val(atkEffects, EquipmentEffect.ICE_DAMAGE);
-            if (hasEffect(defEffects, EquipmentEffect.ICE_RESISTANCE)) { v /= 2; log.add(defName + " 빙결 저항!"); }
-            extra += v; log.add(atkName + " 빙결 +" + v);
-        }
-        if (proc(atkEffects, EquipmentEffect.LIGHTNING_DAMAGE, random)) {
-            int v = val(atkEffects, EquipmentEffect.LIGHTNING_DAMAGE);
-            if (hasEffect(defEffects, EquipmentEffect.LIGHTNING_RESISTANCE)) { v /= 2; log.add(defName + " 번개 저항!"); }
-            extra += v; log.add(atkName + " 번개 +" + v);
-        }
-        if (!silenced && proc(atkEffects, EquipmentEffect.HOLY_DAMAGE, random)) {
-            int v = val(atkEffects, EquipmentEffect.HOLY_DAMAGE);
-            if (hasEffect(defEffects, EquipmentEffect.MAGIC_RESISTANCE)) v /= 2;
-            extra += v; log.add(atkName + " 신성 +" + v);
-        }
-        if (!silenced && proc(atkEffects, EquipmentEffect.DARK_DAMAGE, random)) {
-            int v = val(atkEffects, EquipmentEffect.DARK_DAMAGE);
-            if (hasEffect(defEffects, EquipmentEffect.MAGIC_RESISTANCE)) v /= 2;
-            extra += v; log.add(atkName + " 암흑 +" + v);
-        }
-        if (proc(atkEffects, EquipmentEffect.ACID_DAMAGE, random)) {
-            int v = val(atkEffects, EquipmentEffect.ACID_DAMAGE);
-            extra += v; log.add(atkName + " 산성 +" + v);
-        }
-        // ELEMENTAL_BOOST
-        if (extra > 0 && hasEffect(atkEffects, EquipmentEffect.ELEMENTAL_BOOST)) {
-            int bonus = extra / 3;
-            extra += bonus; log.add(atkName + " 원소 강화 +" + bonus);
-        }
-        // ARCANE_FOCUS
-        if (extra > 0 && hasEffect(atkEffects, EquipmentEffect.ARCANE_FOCUS)) {
-            int bonus = extra / 4;
-            extra += bonus;
-        }
-        // DIVINE_FAVOR
-        if (hasEffect(atkEffects, EquipmentEffect.DIVINE_FAVOR) && proc(atkEffects, EquipmentEffect.DIVINE_FAVOR, random)) {
-            extra += 2; log.add(atkName + " 신의 은총!");
-        }
-        return extra;
+    /** 토너먼트 참가자 (시작 시점 스냅샷) */
+    public record Entrant(Long id, String name, Combatant combatant, int eloRate) {}
+
+    /** 토너먼트 한 경기 결과 (entrants 인덱스 기준) */
+    public record TournamentMatch(int attacker, int defender, long seed, SeededBattle.Result result) {}
+
+    /** 토너먼트 참가자별 누적 결과 (entrants와 같은 순서) */
+    public record TournamentStanding(Long id, String name, int wins, int losses, int eloChange, int goldEarned) {}
+
+    /**
+     * 토너먼트 참가자 스냅샷 (ids가 비어 있으면 전체 캐릭터).
+     * 물약은 쓰지 않는다 - 경기 수만큼 소모시킬 수 없으므로 장비/스탯만으로 겨룬다.
+     */
+    @Transactional(readOnly = true)
+    public List<Entrant> snapshotEntrants(Collection<Long> ids) {
+        List<GameCharacter> characters = ids == null || ids.isEmpty()
+                ? characterRepository.findAll()
+                : characterRepository.findAllById(ids);
+        return combatantLoader.load(characters, false).values().stream()
+                .sorted(Comparator.comparing(p -> p.character().getId()))
+                .map(p -> new Entrant(p.character().getId(), p.character().getName(), p.combatant(), p.character().getEloRate()))
+                .toList();
     }
 
-    /** 물약 자동 사용 */
-    private int usePotions(List<Inventory> potions, Set<BuffType> usedBuffs, int hp, int maxHp,
-                           GameCharacter character, List<String> log, ThreadLocalRandom random, int round) {
-        for (Inventory inv : potions) {
-            if (inv.getQuantity() <= 0) continue;
-            ShopItem item = inv.getShopItem();
-            if (item == null) continue;
-            BuffType buff = item.getBuffType();
-
-            if (buff.isHealType()) {
-                // 치유 물약: HP 25% 이하일 때 자동 사용
-                if (hp <= maxHp * 0.25 && hp > 0) {
-                    int heal = 5 + mod(character.getConstitution());
-                    if (buff == BuffType.GREATER_HEAL) heal = 10 + mod(character.getConstitution()) * 2;
-                    hp = Math.min(hp + heal, maxHp);
-                    inv.setQuantity(inv.getQuantity() - 1);
-                    log.add(character.getName() + "의 " + item.getName() + " 사용! HP +" + heal + " (HP:" + hp + ")");
-                }
-            } else {
-                // 버프 물약: 1라운드에 1회 사용
-                if (round == 1 && !usedBuffs.contains(buff)) {
-                    usedBuffs.add(buff);
-                    inv.setQuantity(inv.getQuantity() - 1);
-                    log.add(character.getName() + "의 " + item.getName() + " 사용! (" + buff.getKoreanName() + ")");
+    /**
+     * 토너먼트 결과를 한 트랜잭션으로 반영.
+     * ELO 변동은 모든 경기가 시작 시점 레이팅으로 정산된 값을 참가자별로 합산해서 한 번에 더하고,
+     * 그 사이에 있었던 일반 전투의 변동은 현재 값 위에 그대로 남는다. 도중에 삭제된 캐릭터의 경기는 버린다.
+     * 락은 트랜잭션 밖에서 잡고 커밋 후에 푼다.
+     */
+    public List<TournamentStanding> commitTournament(List<Entrant> entrants, List<TournamentMatch> matches) {
+        Long[] ids = entrants.stream().map(Entrant::id).toArray(Long[]::new);
+        try (BattleLockManager.Lease ignored = lockManager.lock(ids)) {
+            List<TournamentStanding> standings = transaction.execute(status -> doCommitTournament(entrants, matches, ids));
+            // 커밋된 경기만 센다 (도중에 삭제된 캐릭터의 경기는 standings에 없다)
+            Set<Long> kept = new HashSet<>();
+            for (TournamentStanding s : standings) kept.add(s.id());
+            for (TournamentMatch m : matches) {
+                if (kept.contains(entrants.get(m.attacker()).id()) && kept.contains(entrants.get(m.defender()).id())) {
+                    metrics.rounds(m.result().outcome().rounds());
                 }
             }
+            return standings;
         }
-        return hp;
     }
 
-    private void showPotions(List<Inventory> potions, String name, List<String> log) {
-        List<String> items = new ArrayList<>();
-        for (Inventory inv : potions) {
-            if (inv.getQuantity() > 0 && inv.getShopItem() != null) {
-                items.add(inv.getShopItem().getName() + " x" + inv.getQuantity());
-            }
-        }
-        if (!items.isEmpty()) {
-            log.add(name + "의 보유 아이템: " + String.join(", ", items));
-        }
+    private List<TournamentStanding> doCommitTournament(List<Entrant> entrants, List<TournamentMatch> matches, Long[] ids) {
+        Map<Long, GameCharacter> characters = new HashMap<>();
+        for (GameCharacter c : characterRepository.findAllById(Arrays.asList(ids))) characters.put(c.getId(), c);
+
+        int n = entrants.size();
+        int[] wins = new int[n], losses = new int[n], elo = new int[n], gold = new int[n];
+        List<BattleLog> logs = new ArrayList<>(matches.size());
+        for (TournamentMatch m : matches) {
+            Entrant atk = entrants.get(m.attacker());
+            Entrant def = entrants.get(m.defender());
+            GameCharacter attacker = characters.get(atk.id());
+            GameCharacter defender = characters.get(def.id());
+            if (attacker == null || defender == null) continue;
+
+            boolean attackerWon = m.result().outcome().attackerWon();
+            int w = attackerWon ? m.attacker() : m.defender();
+            int l = attackerWon ? m.defender() : m.attacker();
+            BattleSettlement settlement = m.result().settlement();
+            wins[w]++;
+            losses[l]++;
+            elo[w] += settlement.winnerDelta();
+            elo[l] += settlement.loserDelta();
+            gold[w] += settlement.goldReward();
+            gold[l] += settlement.loserGoldReward();
+
+            BattleSnapshot snapshot = new BattleSnapshot(atk.combatant(), def.combatant(), atk.eloRate(), def.eloRate());
+            logs.add(newBattleLog(attacker, defender, attackerWon ? attacker : defender, m.seed(), snapshot));
+        }
+
+        List<GameCharacter> touched = new ArrayList<>();
+        List<TournamentStanding> standings = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            GameCharacter c = characters.get(entrants.get(i).id());
+            if (c == null) continue;
+            int eloBefore = c.getEloRate();
+            c.setEloRate(Math.max(0, eloBefore + elo[i]));
+            c.setGold(c.getGold() + gold[i]);
+            touched.add(c);
+            standings.add(new TournamentStanding(c.getId(), c.getName(), wins[i], losses[i],
+                    c.getEloRate() - eloBefore, gold[i]));
+        }
+        characterRepository.saveAll(touched);
+        ratingIndex.update(touched.toArray(GameCharacter[]::new));
+        battleLogRepository.saveAll(logs);
+        return standings;
     }
 
-    private int checkRevive(int hp, boolean secondWind, boolean deathWard, String name, List<String> log) {
-        if (hp <= 0 && secondWind) { hp = 1; log.add(name + "의 재기! HP 1로 부활!"); }
-        if (hp <= 0 && deathWard) { hp = 1; log.add(name + "의 죽음의 보호! 즉사 방지!"); }
-        return hp;
+    /** 읽기 전용 트랜잭션 (읽기 풀로 간다) */
+    private <T> T readOnly(TransactionCallback<T> work) {
+        return new TransactionTemplate(transaction.getTransactionManager(), READ_ONLY).execute(work);
     }
 
-    // ===== 유틸리티 =====
-
-    /** effect 보유 여부 (확률 무시) */
-    private boolean hasEffect(Map<EquipmentEffect, int[]> effects, EquipmentEffect effect) {
-        return effects.containsKey(effect);
+    /** ID 순서를 유지한 인벤토리 목록 (그 사이 삭제된 항목은 null) */
+    private List<Inventory> potionsById(List<Long> ids) {
+        Map<Long, Inventory> found = new HashMap<>();
+        for (Inventory inv : inventoryRepository.findAllById(ids)) found.put(inv.getId(), inv);
+        List<Inventory> potions = new ArrayList<>(ids.size());
+        for (Long id : ids) potions.add(found.get(id));
+        return potions;
     }
 
-    /** effectValue 가져오기 (없으면 0) */
-    private int getEffectValue(Map<EquipmentEffect, int[]> effects, EquipmentEffect effect) {
-        int[] v = effects.get(effect);
-        return v != null ? v[1] : 0;
+    /**
+     * 물약 소모 + 골드/ELO를 엔티티에 반영하고 패자의 실제 ELO 변동폭을 돌려준다 (캐릭터 저장은 호출 측).
+     * 엔티티는 저장 트랜잭션 안에서 새로 읽은 것이어야 한다.
+     */
+    private int applyOutcome(GameCharacter attacker, GameCharacter defender, List<Inventory> atkPotions, List<Inventory> defPotions,
+                             BattleOutcome outcome, BattleSettlement settlement) {
+        consumePotions(atkPotions, outcome.attackerPotionsUsed());
+        consumePotions(defPotions, outcome.defenderPotionsUsed());
+
+        GameCharacter winner = outcome.attackerWon() ? attacker : defender;
+        GameCharacter loser = outcome.attackerWon() ? defender : attacker;
+        int loserEloBefore = loser.getEloRate(); // ELO 하한(0) 때문에 실제 변동폭은 loserDelta와 다를 수 있다
+        winner.setGold(winner.getGold() + settlement.goldReward());
+        if (settlement.loserGoldReward() > 0) {
+            loser.setGold(loser.getGold() + settlement.loserGoldReward());
+        }
+        // 절대값(settlement.winnerElo/loserElo)은 스냅샷 시점 ELO 기준이므로 방금 읽은 값에 변동폭만 더한다 (토너먼트와 동일)
+        winner.setEloRate(winner.getEloRate() + settlement.winnerDelta());
+        loser.setEloRate(Math.max(0, loserEloBefore + settlement.loserDelta()));
+        ratingIndex.update(winner, loser);
+        return loser.getEloRate() - loserEloBefore;
     }
 
-    /** 효과 확률 발동 체크 */
-    private boolean proc(Map<EquipmentEffect, int[]> effects, EquipmentEffect effect, ThreadLocalRandom random) {
-        int[] v = effects.get(effect);
-        return v != null && random.nextInt(100) < v[0];
-    }
-
-    /** effectValue (shorthand) */
-    private int val(Map<EquipmentEffect, int[]> effects, EquipmentEffect effect) {
-        int[] v = effects.get(effect);
-        return v != null ? v[1] : 0;
+    private BattleLog newBattleLog(GameCharacter attacker, GameCharacter defender, GameCharacter winner,
+                                   long seed, BattleSnapshot snapshot) {
+        return BattleLog.builder()
+                .attackerId(attacker.getId())
+                .defenderId(defender.getId())
+                .winnerId(winner.getId())
+                .seed(seed)
+                .rulesVersion(SeededBattle.RULES_VERSION)
+                .snapshot(snapshot.encode())
+                .build();
     }
 
-    /** 장착된 장비 효과 수집 → {effect: [chance, value]} (기본 + 강화 효과) */
-    private Map<EquipmentEffect, int[]> collectEffects(GameCharacter character) {
-        Map<EquipmentEffect, int[]> effects = new HashMap<>();
-        for (Equipment eq : character.getEquipments()) {
-            if (!eq.isEquipped()) continue;
-            // 레거시 단일 효과
-            if (eq.getEffect() != null) {
-                effects.merge(eq.getEffect(),
-                        new int[]{eq.getEffectChance(), eq.getEffectValue()},
-                        (a, b) -> new int[]{Math.max(a[0], b[0]), a[1] + b[1]});
-            }
-            // 기본 효과 (등급별)
-            for (var be : eq.getBaseEffects()) {
-                effects.merge(be.getEffect(),
-                        new int[]{be.getEffectChance(), be.getEffectValue()},
-                        (a, b) -> new int[]{Math.max(a[0], b[0]), a[1] + b[1]});
-            }
-            // 강화 효과
-            for (var ee : eq.getEnhanceEffects()) {
-                effects.merge(ee.getEffect(),
-                        new int[]{ee.getEffectChance(), ee.getEffectValue()},
-                        (a, b) -> new int[]{Math.max(a[0], b[0]), a[1] + b[1]});
-            }
-        }
-        return effects;
+    /** 전투 전에 알 수 있는 참가자 정보 (스트리밍 시작 이벤트와 최종 응답 공용) */
+    private BattleResponse.BattleResponseBuilder participants(GameCharacter attacker, GameCharacter defender, BattleSnapshot snapshot) {
+        return BattleResponse.builder()
+                .attackerName(attacker.getName()).defenderName(defender.getName())
+                .attackerAvatar(attacker.getAvatar()).defenderAvatar(defender.getAvatar())
+                .attackerClass(attacker.getCharacterClass() != null ? attacker.getCharacterClass().name() : null)
+                .defenderClass(defender.getCharacterClass() != null ? defender.getCharacterClass().name() : null)
+                .attackerMaxHp(BattleEngine.effectiveMaxHp(snapshot.attacker().profile()))
+                .defenderMaxHp(BattleEngine.effectiveMaxHp(snapshot.defender().profile()))
+                .attackerPotions(buildPotionInfos(snapshot.attacker())).defenderPotions(buildPotionInfos(snapshot.defender()));
     }
 
-    private Equipment getEquippedWeapon(GameCharacter character) {
-        return character.getEquipments().stream()
-                .filter(e -> e.isEquipped() && e.getType() == EquipmentType.WEAPON)
-                .findFirst().orElse(null);
+    private BattleRoundResponse toRound(List<BattleEvent> batch, BattleLogRenderer renderer) {
+        BattleEvent first = batch.get(0);
+        return BattleRoundResponse.builder()
+                .round(first.type() == BattleEventType.ROUND ? first.amount() : 0)
+                .events(batch)
+                .lines(batch.stream().map(renderer::render).toList())
+                .build();
     }
 
-    private int getAttackModifier(GameCharacter character, Equipment weapon) {
-        if (weapon == null || weapon.getScalingStat() == null) return mod(character.getStrength());
-        return switch (weapon.getScalingStat()) {
-            case STR -> mod(character.getStrength()) + mod(character.getDexterity()); // 힘 + 민첩 보정
-            case DEX -> mod(character.getDexterity()) + 2;   // 민첩 무기 명중 보정
-            case INT -> mod(character.getIntelligence()) + 2; // 마법 무기 명중 보정
-            case WIS -> mod(character.getWisdom()) + 2;       // 신성 무기 명중 보정
-        };
+    /** 전투 시작 시점의 물약 (스냅샷 기준) */
+    private List<BattleResponse.PotionInfo> buildPotionInfos(Combatant combatant) {
+        return combatant.potions().stream()
+                .map(p -> BattleResponse.PotionInfo.builder()
+                        .name(p.name())
+                        .buffType(p.buffType().name())
+                        .quantity(p.quantity())
+                        .build())
+                .toList();
     }
 
-    private int rollWeaponDamage(Equipment weapon, ThreadLocalRandom random) {
-        if (weapon == null || weapon.getBaseDamageMax() == 0) return 1;
-        return random.nextInt(weapon.getBaseDamageMin(), weapon.getBaseDamageMax() + 1);
+    private List<Inventory> usablePotions(List<Inventory> equipped) {
+        return equipped.stream()
+                .filter(inv -> inv.getQuantity() > 0 && inv.getShopItem() != null)
+                .toList();
     }
 
-    private int getClassDamageBonus(GameCharacter atk, Equipment weapon, int round, ThreadLocalRandom random) {
-        if (atk.getCharacterClass() == null) return 0;
-        return switch (atk.getCharacterClass()) {
-            case WARRIOR -> (weapon != null && weapon.getWeaponCategory() != null
-                    && !weapon.getWeaponCategory().isMagical()
-                    && weapon.getWeaponCategory() != WeaponCategory.BOW) ? 2 : 0;
-            case ROGUE -> round == 1 ? random.nextInt(1, 7) : 0;
-            case MAGE -> (weapon != null && weapon.getWeaponCategory() != null
-                    && weapon.getWeaponCategory().isMagical()) ? 3 : 0;
-            case RANGER -> (weapon != null && weapon.getWeaponCategory() == WeaponCategory.BOW) ? 2 : 0;
-            case CLERIC -> (weapon != null && weapon.getWeaponCategory() != null
-                    && (weapon.getWeaponCategory() == WeaponCategory.MACE
-                    || weapon.getWeaponCategory() == WeaponCategory.FLAIL
-                    || weapon.getWeaponCategory() == WeaponCategory.WAND))
-                    ? 1 + mod(atk.getWisdom()) : 0;
-        };
+    /** 전투 중 사용한 물약 수량 차감 (0개가 되면 삭제) */
+    private void consumePotions(List<Inventory> potions, int[] used) {
+        for (int i = 0; i < potions.size(); i++) {
+            if (used[i] == 0) continue;
+            Inventory inv = potions.get(i);
+            if (inv == null) continue;
+            inv.setQuantity(inv.getQuantity() - used[i]);
+            if (inv.getQuantity() <= 0) inventoryRepository.delete(inv);
+            else inventoryRepository.save(inv);
+        }
     }
 
-    private int applyClassHeal(GameCharacter character, int hp, int maxHp, List<String> log) {
-        if (hp <= 0) return hp;
-        if (character.getCharacterClass() == CharacterClass.CLERIC) {
-            int heal = 1 + mod(character.getWisdom());
-            if (heal > 0 && hp < maxHp) {
-                hp = Math.min(hp + heal, maxHp);
-                log.add(character.getName() + "의 신성한 힘! HP +" + heal + " 회복 (HP:" + hp + ")");
+    /**
+     * 캐릭터 전투 기록 (최신 순, 커서 = 마지막 항목의 "createdAt,id").
+     * 공격/방어 기록을 각각 인덱스로 size+1개씩 읽어 합치므로 기록이 많아도 페이지 크기만큼만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public BattleLogPageResponse getLogs(Long characterId, String cursor, int size) {
+        if (size < 1 || size > MAX_LOG_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_LOG_PAGE_SIZE + "이어야 합니다.");
+        }
+        // 첫 페이지: 가장 먼 미래부터 (LocalDateTime.MAX는 SQLite 텍스트 비교에서 자릿수가 달라 쓰지 않는다)
+        LocalDateTime beforeAt = LocalDateTime.now().plusYears(100);
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int sep = cursor.lastIndexOf(',');
+            try {
+                if (sep < 0) throw new IllegalArgumentException();
+                beforeAt = LocalDateTime.parse(cursor.substring(0, sep));
+                beforeId = Long.parseLong(cursor.substring(sep + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
             }
         }
-        return hp;
-    }
 
-    private int getTotalAttack(GameCharacter c) {
-        return c.getEquipments().stream().filter(Equipment::isEquipped).mapToInt(Equipment::getAttackBonus).sum();
-    }
-
-    private int getWeaponAttack(GameCharacter c) {
-        return c.getEquipments().stream()
-                .filter(e -> e.isEquipped() && e.getType() == EquipmentType.WEAPON)
-                .mapToInt(Equipment::getAttackBonus).sum();
-    }
-
-    private int getTotalDefense(GameCharacter c) {
-        return c.getEquipments().stream().filter(Equipment::isEquipped).mapToInt(Equipment::getDefenseBonus).sum();
-    }
-
-    /** ELO 기반 골드 보상: 높은 ELO일수록 보상 증가, 상대 ELO가 높을수록 보너스 */
-    private int calcGoldReward(int winnerElo, int loserElo, ThreadLocalRandom random) {
-        // 기본 보상: ELO 구간별
-        int base;
-        if (winnerElo >= 1500) base = 160;
-        else if (winnerElo >= 1200) base = 100;
-        else base = 60;
+        Limit limit = Limit.of(size + 1);
+        List<BattleLogSummary> rows = new ArrayList<>(2 * size + 2);
+        rows.addAll(battleLogRepository.findAttacksBefore(characterId, beforeAt, beforeId, limit));
+        rows.addAll(battleLogRepository.findDefencesBefore(characterId, beforeAt, beforeId, limit));
+        rows.sort(LOG_ORDER);
 
-        // 상대가 나보다 강할수록 보너스 (최대 +100)
-        int eloDiff = loserElo - winnerElo;
-        int bonus = Math.max(0, Math.min(100, eloDiff / 10));
-
-        return base + bonus + random.nextInt(40);
-    }
-
-    /** 패배 시 위로 골드: ELO 차이 30 이상일 때 (차이-30)*3 골드 */
-    private int calcLoserGoldReward(int loserElo, int winnerElo, ThreadLocalRandom random) {
-        int eloDiff = winnerElo - loserElo;
-        if (eloDiff < 30) return 0;
-        return (eloDiff - 30) * 3;
+        boolean more = rows.size() > size;
+        if (more) rows = rows.subList(0, size);
+        BattleLogSummary last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return BattleLogPageResponse.builder()
+                .items(rows.stream().map(BattleLogSummaryResponse::from).toList())
+                .nextCursor(more ? last.getCreatedAt() + "," + last.getId() : null)
+                .build();
     }
 
-    /** 장착된 장비의 특정 스탯 보너스 합계 */
-    private int getEquipStatBonus(GameCharacter c, java.util.function.ToIntFunction<Equipment> getter) {
-        return c.getEquipments().stream().filter(Equipment::isEquipped).mapToInt(getter).sum();
+    /** 전투 기록 하나 (로그 본문 포함, seed 기록은 여기서 재생) */
+    @Transactional(readOnly = true)
+    public BattleLogResponse getLog(Long logId) {
+        BattleLog bl = battleLogRepository.findById(logId)
+                .orElseThrow(() -> new NoSuchElementException("전투 기록을 찾을 수 없습니다."));
+        return BattleLogResponse.builder()
+                .id(bl.getId())
+                .attackerId(bl.getAttackerId())
+                .defenderId(bl.getDefenderId())
+                .winnerId(bl.getWinnerId())
+                .log(replayLog(bl))
+                .createdAt(bl.getCreatedAt())
+                .build();
     }
 
-    private int mod(int stat) { return (stat - 10) / 2; }
-    private int roll(int sides) { return ThreadLocalRandom.current().nextInt(1, sides + 1); }
-
-    public List<BattleLog> getLogs(Long characterId) {
-        return battleLogRepository.findByAttackerIdOrDefenderIdOrderByCreatedAtDesc(characterId, characterId);
+    /** seed 기록은 다시 돌려서 로그를 만들고, 레거시 기록은 저장된 텍스트를 그대로 쓴다 */
+    private String replayLog(BattleLog bl) {
+        if (bl.getSeed() == null || bl.getSnapshot() == null) return bl.getLog();
+        if (bl.getRulesVersion() == null || bl.getRulesVersion() != SeededBattle.RULES_VERSION) {
+            return "이전 전투 규칙(v" + bl.getRulesVersion() + ")으로 진행된 전투라 로그를 재생할 수 없습니다.";
+        }
+        try {
+            BattleSnapshot snapshot = BattleSnapshot.decode(bl.getSnapshot());
+            SeededBattle.Result result = SeededBattle.run(snapshot, bl.getSeed(), LogVerbosity.FULL);
+            return String.join("\n", BattleLogRenderer.render(snapshot.attacker(), snapshot.defender(), result.events()));
+        } catch (RuntimeException e) {
+            log.warn("전투 로그 재생 실패 (battleLogId={}): {}", bl.getId(), e.getMessage());
+            return "전투 로그를 재생할 수 없습니다.";
+        }
     }
 }
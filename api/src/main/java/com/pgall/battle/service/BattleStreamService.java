@@ -0,0 +1,97 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.dto.BattleRequest;
+import com.pgall.battle.dto.BattleResponse;
+import com.pgall.battle.dto.BattleRoundResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 스트리밍 전투 (SSE).
+ * 전투는 가상 스레드에서 BattleService로 진행하고, 라운드가 계산될 때마다 큐에 넣는다.
+ * 실제 전송은 별도 스레드가 큐를 비우면서 하므로 느린 클라이언트가 전투 락/트랜잭션을 붙잡지 않는다.
+ *
+ * 이벤트 순서: start(참가자 정보) → round(라운드별 이벤트+로그) * N → summary(승패/골드/ELO, 저장 완료 후)
+ * 실패 시 error 이벤트 하나를 보내고 종료한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BattleStreamService {
+
+    private static final long STREAM_TIMEOUT_MS = 30_000L;
+
+    private final BattleService battleService;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private record Message(String name, Object data) {}
+
+    private static final Message END = new Message(null, null);
+
+    public SseEmitter stream(BattleRequest request) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        BlockingQueue<Message> outbox = new LinkedBlockingQueue<>();
+
+        executor.execute(() -> send(emitter, outbox));
+        executor.execute(() -> {
+            try {
+                BattleResponse summary = battleService.battle(request, new BattleService.BattleListener() {
+                    @Override
+                    public void onStart(BattleResponse header) {
+                        outbox.add(new Message("start", header));
+                    }
+
+                    @Override
+                    public void onRound(BattleRoundResponse round) {
+                        outbox.add(new Message("round", round));
+                    }
+                });
+                // 로그는 round 이벤트로 이미 보냈으므로 요약만
+                summary.setBattleLog(null);
+                summary.setEvents(null);
+                outbox.add(new Message("summary", summary));
+            } catch (NoSuchElementException | IllegalArgumentException | IllegalStateException | SecurityException e) {
+                outbox.add(new Message("error", Map.of("error", e.getMessage())));
+            } catch (RuntimeException e) {
+                log.warn("스트리밍 전투 실패: {}", e.getMessage(), e);
+                outbox.add(new Message("error", Map.of("error", "전투 처리 중 오류가 발생했습니다.")));
+            } finally {
+                outbox.add(END);
+            }
+        });
+        return emitter;
+    }
+
+    /** 큐에 쌓인 메시지를 순서대로 전송 (클라이언트가 끊기면 남은 메시지는 버린다) */
+    private void send(SseEmitter emitter, BlockingQueue<Message> outbox) {
+        try {
+            for (Message m = outbox.take(); m != END; m = outbox.take()) {
+                emitter.send(SseEmitter.event().name(m.name()).data(m.data()));
+            }
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료/타임아웃 - 전투는 그대로 끝까지 진행/저장되고 전송만 중단
+            log.debug("전투 스트림 전송 중단: {}", e.getMessage());
+            emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
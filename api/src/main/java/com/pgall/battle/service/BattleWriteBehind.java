@@ -0,0 +1,175 @@
+package com.pgall.battle.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 전투 결과 저장용 단일 writer (group commit).
+ * 저장 작업을 제한된 대기열에 모았다가 최대 max-batch건 또는 첫 건 이후 max-delay-ms까지 모인 만큼을
+ * SQLite 트랜잭션 하나로 커밋한다. 커밋(= fsync) 한 번을 여러 전투가 나눠 쓰므로 동시 전투가 많을수록 이득이다.
+ * 각 작업의 future는 커밋이 끝난 뒤에 완료되므로 호출 측이 결과를 받았다면 이미 저장된 것이다
+ * (디스크 동기화 수준은 데이터소스 URL의 synchronous 설정을 따른다).
+ * 묶음 중 하나가 실패하면 묶음 전체를 롤백하고 작업마다 따로 다시 커밋해서 실패한 작업만 실패시킨다.
+ * 종료 시에는 새 작업을 받지 않고 대기열에 남은 작업을 모두 커밋한 뒤 멈춘다.
+ * 단판 전투(동기/스트림/비동기)가 모두 여기로 저장한다. 배치 전투와 토너먼트는 요청 하나가 이미 트랜잭션 하나이고
+ * 그 안에서 엔진을 돌리므로 writer 스레드를 붙잡지 않도록 직접 커밋한다.
+ */
+@Slf4j
+@Component
+public class BattleWriteBehind {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private record Pending<T>(Supplier<T> work, CompletableFuture<T> future) {}
+
+    private final TransactionTemplate transaction;
+    private final GameMetrics metrics;
+    private final BlockingQueue<Pending<?>> queue;
+    private final int maxBatch;
+    private final long maxDelayNanos;
+    private final long drainTimeoutMs;
+    private final Thread thread = new Thread(this::loop, "battle-writer");
+    private volatile boolean closed;
+
+    public BattleWriteBehind(PlatformTransactionManager transactionManager, GameMetrics metrics,
+                             @Value("${battle.write-behind.capacity:1000}") int capacity,
+                             @Value("${battle.write-behind.max-batch:64}") int maxBatch,
+                             @Value("${battle.write-behind.max-delay-ms:2}") long maxDelayMs,
+                             @Value("${battle.write-behind.drain-timeout-ms:30000}") long drainTimeoutMs) {
+        if (capacity < 1 || maxBatch < 1 || maxDelayMs < 0) {
+            throw new IllegalArgumentException("battle.write-behind 설정이 잘못되었습니다.");
+        }
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.drainTimeoutMs = drainTimeoutMs;
+        metrics.pendingWrites(queue);
+    }
+
+    @PostConstruct
+    void start() {
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 저장 작업 접수. work는 writer 스레드의 트랜잭션 안에서 실행되며 (엔티티는 그 안에서 다시 읽을 것),
+     * 반환된 future는 그 트랜잭션이 커밋된 뒤 완료된다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        if (closed) throw new IllegalStateException("저장 대기열이 종료되었습니다.");
+        Pending<T> pending = new Pending<>(work, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new IllegalStateException("저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        // 종료 직전에 들어와서 writer가 이미 멈췄다면 처리될 수 없으므로 되돌린다
+        if (closed && !thread.isAlive() && queue.remove(pending)) {
+            throw new IllegalStateException("저장 대기열이 종료되었습니다.");
+        }
+        return pending.future();
+    }
+
+    /** 커밋 대기 중인 작업 수 */
+    public int pending() {
+        return queue.size();
+    }
+
+    private void loop() {
+        List<Pending<?>> batch = new ArrayList<>(maxBatch);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Pending<?> first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 종료 대기 시간 초과: 남은 작업은 shutdown이 실패 처리한다
+                break;
+            } catch (RuntimeException e) {
+                log.error("전투 저장 writer 오류", e);
+                for (Pending<?> p : batch) p.future().completeExceptionally(e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** 첫 작업 이후 max-batch건이 차거나 max-delay-ms가 지날 때까지 더 모은다 (종료 중에는 기다리지 않는다) */
+    private void collect(List<Pending<?>> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatch) {
+            if (queue.drainTo(batch, maxBatch - batch.size()) > 0) continue;
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || closed) return;
+            Pending<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Pending<?>> batch) {
+        long start = System.nanoTime();
+        Object[] results = new Object[batch.size()];
+        try {
+            transaction.executeWithoutResult(status -> {
+                for (int i = 0; i < batch.size(); i++) results[i] = batch.get(i).work().get();
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                log.debug("묶음 커밋 실패, 작업별로 다시 커밋 ({}건): {}", batch.size(), e.getMessage());
+            }
+            for (Pending<?> p : batch) commitAlone(p);
+            metrics.writeFlush(batch.size(), System.nanoTime() - start);
+            return;
+        }
+        metrics.writeFlush(batch.size(), System.nanoTime() - start);
+        for (int i = 0; i < batch.size(); i++) complete(batch.get(i), results[i]);
+    }
+
+    private <T> void commitAlone(Pending<T> p) {
+        try {
+            p.future().complete(transaction.execute(status -> p.work().get()));
+        } catch (RuntimeException e) {
+            p.future().completeExceptionally(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void complete(Pending<T> p, Object result) {
+        p.future().complete((T) result);
+    }
+
+    /** 새 작업을 막고 남은 작업을 커밋할 때까지 기다린다 (drain-timeout-ms 초과분은 실패 처리) */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        closed = true;
+        thread.join(drainTimeoutMs);
+        if (thread.isAlive()) {
+            thread.interrupt();
+            thread.join();
+        }
+        List<Pending<?>> left = new ArrayList<>();
+        queue.drainTo(left);
+        if (!left.isEmpty()) {
+            log.warn("종료 시간 초과로 저장하지 못한 전투 {}건", left.size());
+            IllegalStateException e = new IllegalStateException("저장 대기열이 종료되었습니다.");
+            for (Pending<?> p : left) p.future().completeExceptionally(e);
+        }
+    }
+}
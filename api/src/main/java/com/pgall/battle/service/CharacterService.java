@@ -4,10 +4,12 @@ import com.pgall.battle.dto.*;
 import com.pgall.battle.entity.GameCharacter;
 import com.pgall.battle.enums.CharacterClass;
 import com.pgall.battle.repository.BattleLogRepository;
+import com.pgall.battle.repository.CharacterSummary;
 import com.pgall.battle.repository.GameCharacterRepository;
 import com.pgall.battle.repository.InventoryRepository;
 import com.pgall.battle.repository.ShopItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +26,11 @@ public class CharacterService {
     private final BattleLogRepository battleLogRepository;
     private final InventoryRepository inventoryRepository;
     private final ShopItemRepository shopItemRepository;
+    private final CombatProfileCache profileCache;
+    private final RatingIndex ratingIndex;
 
     private static final int STAT_TOTAL_LIMIT = 72;
+    private static final int MAX_PAGE_SIZE = 100;
 
     public RandomStatsResponse generateRandomStats() {
         ThreadLocalRandom random = ThreadLocalRandom.current();
@@ -82,6 +87,7 @@ public class CharacterService {
                 .build();
 
         character = characterRepository.save(character);
+        ratingIndex.update(character);
         return CharacterResponse.from(character);
     }
 
@@ -92,10 +98,67 @@ public class CharacterService {
         return CharacterResponse.from(character);
     }
 
-    public List<CharacterResponse> getAllCharacters() {
-        return characterRepository.findAll().stream()
-                .map(CharacterResponse::from)
-                .toList();
+    /** 캐릭터 목록 (id 순, 커서 = 마지막 id) */
+    public CharacterPageResponse getCharacters(String cursor, int size) {
+        checkPageSize(size);
+        long afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        List<CharacterSummary> rows = characterRepository.findSummariesByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1));
+        boolean more = rows.size() > size;
+        if (more) rows = rows.subList(0, size);
+        return CharacterPageResponse.builder()
+                .items(rows.stream().map(CharacterSummaryResponse::from).toList())
+                .nextCursor(more ? String.valueOf(rows.get(rows.size() - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * ELO 랭킹 (커서 = 마지막 항목의 "eloRate:id").
+     * 순서는 메모리 인덱스에서 잘라 오고, 화면에 쓸 값은 그 페이지 ID만 프로젝션으로 읽는다.
+     */
+    public CharacterPageResponse getRanking(String cursor, int size) {
+        checkPageSize(size);
+        Integer afterElo = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(":");
+            try {
+                if (parts.length != 2) throw new NumberFormatException();
+                afterElo = Integer.parseInt(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        List<RatingIndex.Rated> page = ratingIndex.ranking(afterElo, afterId, size + 1);
+        boolean more = page.size() > size;
+        if (more) page = page.subList(0, size);
+
+        Map<Long, CharacterSummary> rows = new HashMap<>();
+        for (CharacterSummary s : characterRepository.findSummariesByIdIn(page.stream().map(RatingIndex.Rated::id).toList())) {
+            rows.put(s.getId(), s);
+        }
+        RatingIndex.Rated last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CharacterPageResponse.builder()
+                .items(page.stream()
+                        .map(r -> rows.get(r.id()))
+                        .filter(Objects::nonNull) // 방금 삭제된 캐릭터
+                        .map(CharacterSummaryResponse::from)
+                        .toList())
+                .nextCursor(more ? last.eloRate() + ":" + last.id() : null)
+                .build();
+    }
+
+    private void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + "이어야 합니다.");
+        }
     }
 
     public CharacterResponse getCharacter(Long id) {
@@ -116,11 +179,12 @@ public class CharacterService {
         shopItemRepository.deleteAllById(shopItemIds);
 
         // 전투 기록 삭제
-        var battleLogs = battleLogRepository.findByAttackerIdOrDefenderIdOrderByCreatedAtDesc(id, id);
-        battleLogRepository.deleteAll(battleLogs);
+        battleLogRepository.deleteByCharacterId(id);
 
         // 캐릭터 삭제 (equipment는 cascade로 자동 삭제)
         characterRepository.delete(character);
+        profileCache.evict(id);
+        ratingIndex.remove(id);
     }
 
     @Transactional
@@ -0,0 +1,44 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.engine.CombatProfile;
+import com.pgall.battle.entity.GameCharacter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐릭터별 전투 프로필 캐시.
+ * 캐릭터의 loadoutVersion이 같으면 장비 컬렉션을 다시 읽지 않고 캐시된 프로필을 사용한다.
+ */
+@Component
+public class CombatProfileCache {
+
+    private final Map<Long, CombatProfile> profiles;
+
+    public CombatProfileCache(@Value("${battle.profile.cache-size:10000}") int cacheSize) {
+        // 접근 순서 LRU (한동안 전투하지 않은 캐릭터부터 밀려난다)
+        this.profiles = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CombatProfile> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /** loadoutVersion이 같은 캐시 프로필 (없거나 오래됐으면 null - 채우는 쪽은 CombatantLoader) */
+    public CombatProfile peek(GameCharacter character) {
+        CombatProfile cached = profiles.get(character.getId());
+        return cached != null && cached.getLoadoutVersion() == character.getLoadoutVersion() ? cached : null;
+    }
+
+    public void put(CombatProfile profile) {
+        profiles.put(profile.getCharacterId(), profile);
+    }
+
+    public void evict(Long characterId) {
+        profiles.remove(characterId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.engine.CombatProfile;
+import com.pgall.battle.entity.Equipment;
+import com.pgall.battle.entity.GameCharacter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔티티 → battle-core 프로필 변환.
+ * 엔진은 엔티티를 모르므로, 영속성 컨텍스트 안에서 필요한 값(효과 컬렉션 포함)을 모두 읽어 불변 값으로 넘긴다.
+ */
+public final class CombatProfileMapper {
+
+    private CombatProfileMapper() {}
+
+    /** 현재 장착 상태 기준 프로필 */
+    public static CombatProfile from(GameCharacter c) {
+        return of(c, c.getEquipments().stream().filter(Equipment::isEquipped).toList());
+    }
+
+    /** 주어진 장비 목록을 장착했다고 가정한 프로필 */
+    public static CombatProfile of(GameCharacter c, List<Equipment> equipped) {
+        return CombatProfile.of(base(c), equipped.stream().map(CombatProfileMapper::gear).toList());
+    }
+
+    public static CombatProfile.Base base(GameCharacter c) {
+        return new CombatProfile.Base(c.getId(), c.getLoadoutVersion(), c.getName(), c.getCharacterClass(),
+                c.getStrength(), c.getDexterity(), c.getConstitution(),
+                c.getIntelligence(), c.getWisdom(), c.getCharisma(), c.getMaxHp());
+    }
+
+    public static CombatProfile.Gear gear(Equipment eq) {
+        // 레거시 단일 효과 → 기본 효과 → 강화 효과
+        List<CombatProfile.Effect> effects = new ArrayList<>(
+                eq.getBaseEffects().size() + eq.getEnhanceEffects().size() + 1);
+        if (eq.getEffect() != null) {
+            effects.add(new CombatProfile.Effect(eq.getEffect(), eq.getEffectChance(), eq.getEffectValue()));
+        }
+        for (var be : eq.getBaseEffects()) {
+            effects.add(new CombatProfile.Effect(be.getEffect(), be.getEffectChance(), be.getEffectValue()));
+        }
+        for (var ee : eq.getEnhanceEffects()) {
+            effects.add(new CombatProfile.Effect(ee.getEffect(), ee.getEffectChance(), ee.getEffectValue()));
+        }
+        return new CombatProfile.Gear(eq.getType(), eq.getName(), eq.getAttackBonus(), eq.getDefenseBonus(),
+                eq.getWeaponCategory(), eq.getScalingStat(), eq.getBaseDamageMin(), eq.getBaseDamageMax(),
+                eq.getBonusStrength(), eq.getBonusDexterity(), eq.getBonusConstitution(),
+                eq.getBonusIntelligence(), eq.getBonusWisdom(), eq.getBonusCharisma(),
+                effects);
+    }
+}
@@ -0,0 +1,116 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.engine.BattleSnapshot;
+import com.pgall.battle.engine.CombatProfile;
+import com.pgall.battle.engine.Combatant;
+import com.pgall.battle.entity.Equipment;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.entity.Inventory;
+import com.pgall.battle.repository.EquipmentRepository;
+import com.pgall.battle.repository.GameCharacterRepository;
+import com.pgall.battle.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 전투 참가자 로더 (트랜잭션 안에서 호출).
+ * 참가자 수와 장비/효과/물약 개수에 상관없이 쿼리 수가 고정된다:
+ * 캐릭터 1회 + 장착 물약(상점 아이템 포함) 1회 + 프로필 캐시 미스가 있을 때만 장착 장비 2회(기본/강화 효과).
+ * 장착하지 않은 장비와 물약은 읽지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CombatantLoader {
+
+    private final GameCharacterRepository characterRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final InventoryRepository inventoryRepository;
+    private final CombatProfileCache profileCache;
+
+    /** 참가자 한 명 (potions는 수량이 남은 장착 물약, 스냅샷의 물약과 같은 순서) */
+    public record Participant(GameCharacter character, List<Inventory> potions, Combatant combatant) {}
+
+    /** 1:1 전투 준비물 */
+    public record Pair(Participant attacker, Participant defender, BattleSnapshot snapshot) {}
+
+    public Pair loadPair(Long attackerId, Long defenderId) {
+        // findById: 컨트롤러에서 이미 읽은 공격자는 영속성 컨텍스트에서 바로 나온다
+        GameCharacter attacker = characterRepository.findById(attackerId)
+                .orElseThrow(() -> new NoSuchElementException("공격자를 찾을 수 없습니다."));
+        GameCharacter defender = characterRepository.findById(defenderId)
+                .orElseThrow(() -> new NoSuchElementException("방어자를 찾을 수 없습니다."));
+        if (attacker.getId().equals(defender.getId())) {
+            throw new IllegalArgumentException("자기 자신과 전투할 수 없습니다.");
+        }
+        Map<Long, Participant> loaded = load(List.of(attacker, defender), true);
+        Participant atk = loaded.get(attacker.getId());
+        Participant def = loaded.get(defender.getId());
+        return new Pair(atk, def, new BattleSnapshot(atk.combatant(), def.combatant(),
+                attacker.getEloRate(), defender.getEloRate()));
+    }
+
+    /** ID로 여러 참가자 로드 (없는 ID는 결과에서 빠진다) */
+    public Map<Long, Participant> load(Collection<Long> ids, boolean withPotions) {
+        return load(characterRepository.findAllById(ids), withPotions);
+    }
+
+    /** 이미 읽은 캐릭터들의 참가자 정보 (캐릭터 ID → 참가자, 입력 순서 유지) */
+    public Map<Long, Participant> load(List<GameCharacter> characters, boolean withPotions) {
+        Map<Long, CombatProfile> profiles = profiles(characters);
+        Map<Long, List<Inventory>> potions = withPotions ? equippedPotions(profiles.keySet()) : Map.of();
+        Map<Long, Participant> result = new LinkedHashMap<>();
+        for (GameCharacter c : characters) {
+            List<Inventory> own = potions.getOrDefault(c.getId(), List.of());
+            result.put(c.getId(), new Participant(c, own, combatant(profiles.get(c.getId()), own)));
+        }
+        return result;
+    }
+
+    /** 캐릭터별 전투 프로필 (캐시 미스인 캐릭터만 모아서 장착 장비를 한 번에 읽는다) */
+    public Map<Long, CombatProfile> profiles(Collection<GameCharacter> characters) {
+        Map<Long, CombatProfile> profiles = new HashMap<>();
+        Map<Long, GameCharacter> misses = new HashMap<>();
+        for (GameCharacter c : characters) {
+            CombatProfile cached = profileCache.peek(c);
+            if (cached != null) profiles.put(c.getId(), cached);
+            else misses.put(c.getId(), c);
+        }
+        if (misses.isEmpty()) return profiles;
+
+        List<Equipment> equipped = equipmentRepository.findWithBaseEffectsByCharacterIdInAndEquippedTrueOrderByIdAsc(misses.keySet());
+        if (!equipped.isEmpty()) {
+            equipmentRepository.findWithEnhanceEffectsByCharacterIdInAndEquippedTrue(misses.keySet());
+        }
+        Map<Long, List<CombatProfile.Gear>> gear = new HashMap<>();
+        for (Equipment eq : equipped) {
+            gear.computeIfAbsent(eq.getCharacter().getId(), k -> new ArrayList<>()).add(CombatProfileMapper.gear(eq));
+        }
+        for (GameCharacter c : misses.values()) {
+            CombatProfile profile = CombatProfile.of(CombatProfileMapper.base(c), gear.getOrDefault(c.getId(), List.of()));
+            profileCache.put(profile);
+            profiles.put(c.getId(), profile);
+        }
+        return profiles;
+    }
+
+    /** 수량이 남은 장착 물약 (캐릭터별, 인벤토리 ID 순서) */
+    public Map<Long, List<Inventory>> equippedPotions(Collection<Long> characterIds) {
+        Map<Long, List<Inventory>> potions = new HashMap<>();
+        if (characterIds.isEmpty()) return potions;
+        List<Inventory> equipped = new ArrayList<>(inventoryRepository.findByCharacterIdInAndEquipped(characterIds, true));
+        equipped.sort(Comparator.comparing(Inventory::getId));
+        for (Inventory inv : equipped) {
+            if (inv.getQuantity() <= 0 || inv.getShopItem() == null) continue;
+            potions.computeIfAbsent(inv.getCharacter().getId(), k -> new ArrayList<>()).add(inv);
+        }
+        return potions;
+    }
+
+    public static Combatant combatant(CombatProfile profile, List<Inventory> potions) {
+        return new Combatant(profile, potions.stream()
+                .map(inv -> new Combatant.Potion(inv.getShopItem().getName(), inv.getShopItem().getBuffType(), inv.getQuantity()))
+                .toList());
+    }
+}
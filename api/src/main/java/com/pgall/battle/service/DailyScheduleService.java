@@ -23,6 +23,7 @@ public class DailyScheduleService {
     private final GameCharacterRepository characterRepository;
     private final ShopService shopService;
     private final HeroService heroService;
+    private final GameMetrics metrics;
 
     /** 서버 시작 시 용사 초기화 */
     @EventListener(ApplicationReadyEvent.class)
@@ -33,19 +34,21 @@ public class DailyScheduleService {
     /** 매일 0시: 모든 일일 작업 */
     @Scheduled(cron = "0 0 0 * * *")
     public void dailyReset() {
-        log.info("=== 일일 초기화 시작 ===");
+        metrics.dailyJob("all", () -> {
+            log.info("=== 일일 초기화 시작 ===");
 
-        // 1. 상점 세션 리셋
-        shopService.resetSessions();
-        log.info("상점 세션 초기화 완료.");
+            // 1. 상점 세션 리셋
+            metrics.dailyJob("shop-reset", shopService::resetSessions);
+            log.info("상점 세션 초기화 완료.");
 
-        // 2. 모든 캐릭터에게 300골드 지급
-        grantDailyGold();
+            // 2. 모든 캐릭터에게 300골드 지급
+            metrics.dailyJob("daily-gold", this::grantDailyGold);
 
-        // 3. 용사 일일 가챠
-        heroService.dailyHeroGacha();
+            // 3. 용사 일일 가챠
+            metrics.dailyJob("hero-gacha", heroService::dailyHeroGacha);
 
-        log.info("=== 일일 초기화 완료 ===");
+            log.info("=== 일일 초기화 완료 ===");
+        });
     }
 
     @Transactional
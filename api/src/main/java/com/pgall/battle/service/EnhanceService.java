@@ -21,6 +21,8 @@ public class EnhanceService {
     private final EquipmentRepository equipmentRepository;
     private final GameCharacterRepository characterRepository;
     private final GachaService gachaService;
+    private final EntityCache entityCache;
+    private final GameMetrics metrics;
 
     @Transactional
     public EnhanceResponse enhance(Long characterId, Long equipmentId) {
@@ -95,6 +97,7 @@ public class EnhanceService {
                             .effectChance(candidate.getEffectChance())
                             .effectValue(candidate.getEffectValue())
                             .build());
+                    entityCache.effectsChanged(eq.getId());
                     builder.message("강화 성공! +" + newLevel + " [" + candidate.getEffectName() + " 효과 추가]");
                 } else if (!candidates.isEmpty()) {
                     // 슬롯 꽉 참 → 기존 + 후보 중 선택 필요
@@ -107,6 +110,8 @@ public class EnhanceService {
             }
 
             equipmentRepository.save(eq);
+            character.bumpLoadoutVersion();
+            metrics.enhance("success");
 
             return builder.build();
         } else {
@@ -116,6 +121,9 @@ public class EnhanceService {
                 // 장비 파괴!
                 character.getEquipments().remove(eq);
                 equipmentRepository.delete(eq);
+                entityCache.equipmentsChanged(character.getId());
+                character.bumpLoadoutVersion();
+                metrics.enhance("broken");
 
                 return EnhanceResponse.builder()
                         .success(false).broken(true)
@@ -123,6 +131,7 @@ public class EnhanceService {
                         .message("강화 실패! 장비가 파괴되었습니다!")
                         .build();
             } else {
+                metrics.enhance("fail");
                 return EnhanceResponse.builder()
                         .success(false).broken(false)
                         .newLevel(currentLevel).cost(cost)
@@ -163,9 +172,12 @@ public class EnhanceService {
         }
 
         equipmentRepository.save(eq);
+        entityCache.effectsChanged(eq.getId());
+        eq.getCharacter().bumpLoadoutVersion();
     }
 
     /** 강화 정보 조회 */
+    @Transactional(readOnly = true)
     public EnhanceResponse getInfo(Long equipmentId) {
         Equipment eq = equipmentRepository.findById(equipmentId)
                 .orElseThrow(() -> new NoSuchElementException("장비를 찾을 수 없습니다."));
@@ -0,0 +1,66 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.entity.Equipment;
+import com.pgall.battle.entity.GameCharacter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate 2차 캐시 (캐릭터/장비/효과/상점 아이템, 영역별 크기는 application.conf).
+ * 엔티티 행의 저장/삭제는 Hibernate가 READ_WRITE 전략으로 캐시를 갱신하지만, mappedBy 쪽 컬렉션
+ * (캐릭터의 장비 목록, 장비의 효과 목록)은 자식 엔티티만 저장/삭제하면 옛 목록이 캐시에 남는다.
+ * 그래서 목록 구성이 바뀌는 쓰기 경로(가챠, 판매, 강화 파괴/효과 변경, 용사 장비 정리)는
+ * 소유자 컬렉션을 직접 고쳤는지와 상관없이 여기 메서드로 해당 컬렉션 캐시를 지운다.
+ * 커밋 전에 지우면 다른 요청이 커밋 전 목록으로 다시 채울 수 있으므로 트랜잭션 안에서는 커밋 직후에 지운다.
+ */
+@Component
+public class EntityCache {
+
+    private static final String CHARACTER_EQUIPMENTS = GameCharacter.class.getName() + ".equipments";
+    private static final String EQUIPMENT_BASE_EFFECTS = Equipment.class.getName() + ".baseEffects";
+    private static final String EQUIPMENT_ENHANCE_EFFECTS = Equipment.class.getName() + ".enhanceEffects";
+
+    private final Cache cache;
+
+    public EntityCache(EntityManagerFactory entityManagerFactory, GameMetrics metrics) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.cache = sessionFactory.getCache();
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            metrics.entityCache(region, statistics);
+        }
+    }
+
+    /** 캐릭터의 장비가 생기거나 삭제됨 (장비 목록 캐시 무효화) */
+    public void equipmentsChanged(Long characterId) {
+        if (characterId == null) return;
+        afterCommit(() -> cache.evictCollectionData(CHARACTER_EQUIPMENTS, characterId));
+    }
+
+    /** 장비의 효과가 생기거나 삭제됨 (기본/강화 효과 목록 캐시 무효화) */
+    public void effectsChanged(Long equipmentId) {
+        if (equipmentId == null) return;
+        afterCommit(() -> {
+            cache.evictCollectionData(EQUIPMENT_BASE_EFFECTS, equipmentId);
+            cache.evictCollectionData(EQUIPMENT_ENHANCE_EFFECTS, equipmentId);
+        });
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -15,9 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +32,10 @@ public class EquipService {
     private final GameCharacterRepository characterRepository;
     private final InventoryRepository inventoryRepository;
     private final ShopItemRepository shopItemRepository;
+    private final LoadoutOptimizer loadoutOptimizer;
+    private final EntityCache entityCache;
 
-    /** 장비 점수 산출: 강화 레벨, 등급, 공/방 종합 */
+    /** 장비 점수 산출: 강화 레벨, 등급, 공/방 종합 (효과는 보지 않는 간이 점수 - 슬롯이 찼을 때 해제할 장비 선택용) */
     public static double equipScore(Equipment e) {
         int gradeVal = switch (e.getGrade()) {
             case COMMON -> 0;
@@ -102,6 +107,8 @@ public class EquipService {
         // 장착 처리
         equipment.setEquipped(true);
         equipmentRepository.save(equipment);
+        character.bumpLoadoutVersion();
+        characterRepository.save(character);
         return EquipmentResponse.from(equipment);
     }
 
@@ -124,6 +131,7 @@ public class EquipService {
         character.setGold(character.getGold() + price);
         character.getEquipments().remove(equipment);
         equipmentRepository.delete(equipment);
+        entityCache.equipmentsChanged(characterId);
         characterRepository.save(character);
         return price;
     }
@@ -143,9 +151,52 @@ public class EquipService {
 
         equipment.setEquipped(false);
         equipmentRepository.save(equipment);
+        equipment.getCharacter().bumpLoadoutVersion();
         return EquipmentResponse.from(equipment);
     }
 
+    // ===== 장비 조합 최적화 =====
+
+    /** 최적화 입력 (트랜잭션 밖에서 탐색할 수 있도록 효과 컬렉션까지 읽어 둔 상태) */
+    public record LoadoutProblem(GameCharacter character, List<Equipment> owned, List<Equipment> equipped,
+                                 List<LoadoutOptimizer.Opponent> opponents) {}
+
+    @Transactional(readOnly = true)
+    public LoadoutProblem loadoutProblem(Long characterId) {
+        GameCharacter character = characterRepository.findById(characterId)
+                .orElseThrow(() -> new NoSuchElementException("캐릭터를 찾을 수 없습니다."));
+        List<Equipment> owned = List.copyOf(character.getEquipments());
+        CombatProfileMapper.of(character, owned); // 장비별 기본/강화 효과 컬렉션 초기화
+        return new LoadoutProblem(character, owned,
+                owned.stream().filter(Equipment::isEquipped).toList(),
+                loadoutOptimizer.referenceOpponents(characterId));
+    }
+
+    /** 주어진 장비만 장착한 상태로 바꾼다 (그 사이 판매된 장비는 무시) */
+    @Transactional
+    public List<EquipmentResponse> applyLoadout(Long characterId, Collection<Long> equipmentIds) {
+        GameCharacter character = characterRepository.findById(characterId)
+                .orElseThrow(() -> new NoSuchElementException("캐릭터를 찾을 수 없습니다."));
+        Set<Long> ids = new HashSet<>(equipmentIds);
+        List<Equipment> changed = new ArrayList<>();
+        for (Equipment e : character.getEquipments()) {
+            boolean equip = ids.contains(e.getId());
+            if (e.isEquipped() != equip) {
+                e.setEquipped(equip);
+                changed.add(e);
+            }
+        }
+        if (!changed.isEmpty()) {
+            equipmentRepository.saveAll(changed);
+            character.bumpLoadoutVersion();
+            characterRepository.save(character);
+        }
+        return character.getEquipments().stream()
+                .filter(Equipment::isEquipped)
+                .map(EquipmentResponse::from)
+                .toList();
+    }
+
     // ===== 물약 장착/해제/판매 =====
 
     @Transactional
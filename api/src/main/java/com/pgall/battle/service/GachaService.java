@@ -25,6 +25,8 @@ public class GachaService {
 
     private final GameCharacterRepository characterRepository;
     private final EquipmentRepository equipmentRepository;
+    private final EntityCache entityCache;
+    private final GameMetrics metrics;
 
     // 슬롯별 효과 풀
     private static final List<EquipmentEffect> WEAPON_EFFECTS =
@@ -52,8 +54,9 @@ public class GachaService {
         EquipmentGrade grade = rollGrade();
         EquipmentType type = rollType();
         Equipment equipment = generateEquipment(grade, type, character);
+        metrics.gachaPull("paid", grade.name());
 
-        equipmentRepository.save(equipment);
+        saveNew(equipment);
         characterRepository.save(character);
 
         return EquipmentResponse.from(equipment);
@@ -65,7 +68,8 @@ public class GachaService {
         EquipmentGrade grade = rollGrade();
         EquipmentType type = rollType();
         Equipment equipment = generateEquipment(grade, type, character);
-        return equipmentRepository.save(equipment);
+        metrics.gachaPull("free", grade.name());
+        return saveNew(equipment);
     }
 
     /** 골드 차감 없이 특정 타입 가챠 (용사 시스템용) */
@@ -73,7 +77,8 @@ public class GachaService {
     public Equipment pullFreeForType(GameCharacter character, EquipmentType type) {
         EquipmentGrade grade = rollGrade();
         Equipment equipment = generateEquipment(grade, type, character);
-        return equipmentRepository.save(equipment);
+        metrics.gachaPull("free", grade.name());
+        return saveNew(equipment);
     }
 
     /** 골드 차감 없이 특정 타입 + 최소 등급 보장 가챠 (용사 RARE+ 보장용) */
@@ -84,7 +89,8 @@ public class GachaService {
             grade = rollGrade();
         } while (grade.ordinal() < minGrade.ordinal());
         Equipment equipment = generateEquipment(grade, type, character);
-        return equipmentRepository.save(equipment);
+        metrics.gachaPull("free", grade.name());
+        return saveNew(equipment);
     }
 
     /** 골드 차감 없이 특정 무기 카테고리 + 최소 등급 보장 가챠 (용사 전용 무기용) */
@@ -112,11 +118,19 @@ public class GachaService {
 
         int effectCount = getGradeEffectCount(grade);
         addBaseEffects(equipment, EquipmentType.WEAPON, grade, effectCount, random);
+        metrics.gachaPull("free", grade.name());
 
-        return equipmentRepository.save(equipment);
+        return saveNew(equipment);
     }
 
-    private EquipmentGrade rollGrade() {
+    /** 새 장비 저장 (캐릭터의 장비 목록에는 넣지 않으므로 목록 캐시를 지운다) */
+    private Equipment saveNew(Equipment equipment) {
+        Equipment saved = equipmentRepository.save(equipment);
+        entityCache.equipmentsChanged(equipment.getCharacter().getId());
+        return saved;
+    }
+
+    EquipmentGrade rollGrade() {
         int roll = ThreadLocalRandom.current().nextInt(100);
         if (roll < 1) return EquipmentGrade.LEGENDARY;
         if (roll < 6) return EquipmentGrade.EPIC;
@@ -125,7 +139,7 @@ public class GachaService {
         return EquipmentGrade.COMMON;
     }
 
-    private EquipmentType rollType() {
+    EquipmentType rollType() {
         EquipmentType[] types = EquipmentType.values();
         return types[ThreadLocalRandom.current().nextInt(types.length)];
     }
@@ -157,7 +171,7 @@ public class GachaService {
         };
     }
 
-    private Equipment generateEquipment(EquipmentGrade grade, EquipmentType type, GameCharacter character) {
+    Equipment generateEquipment(EquipmentGrade grade, EquipmentType type, GameCharacter character) {
         ThreadLocalRandom random = ThreadLocalRandom.current();
         int gradeMultiplier = grade.ordinal() + 1;
 
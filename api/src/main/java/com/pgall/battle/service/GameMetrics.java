@@ -0,0 +1,134 @@
+package com.pgall.battle.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * 게임 지표 (Micrometer, /actuator/prometheus로 노출).
+ * HTTP 지연시간과 Hikari 커넥션 대기는 Spring Boot가 자동으로 수집하므로 여기서는 게임 도메인 지표만 다룬다.
+ * 태그 값은 고정된 소수(모드/등급/결과/작업명)만 쓴다.
+ */
+@Component
+public class GameMetrics {
+
+    private final MeterRegistry registry;
+    private final Timer battleLockWait;
+    private final Timer shopLockWait;
+    private final DistributionSummary battleRounds;
+    private final DistributionSummary writeBatchSize;
+    private final Timer writeFlushTime;
+
+    public GameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.battleLockWait = Timer.builder("battle.lock.wait")
+                .description("전투 참가자 락 대기 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.shopLockWait = Timer.builder("shop.lock.wait")
+                .description("상점 락 대기 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.battleRounds = DistributionSummary.builder("battle.rounds")
+                .description("전투 한 판의 라운드 수")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.writeBatchSize = DistributionSummary.builder("battle.write.batch.size")
+                .description("트랜잭션 하나로 커밋한 전투 저장 수")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.writeFlushTime = Timer.builder("battle.write.flush")
+                .description("전투 저장 묶음 하나의 커밋 시간 (실행 + 커밋, 재시도 포함)")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /** 전투 요청 처리 시간 (mode: sync, stream, async, batch - batch는 요청 한 건 전체) */
+    public void battle(String mode, long nanos) {
+        Timer.builder("battle.duration")
+                .description("전투 요청 처리 시간 (락 대기 + 조회 + 엔진 + 저장)")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void rounds(int rounds) {
+        battleRounds.record(rounds);
+    }
+
+    public void battleLockWait(long nanos) {
+        battleLockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void shopLockWait(long nanos) {
+        shopLockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 전투 저장 묶음 커밋 (묶음 크기 + 소요 시간) */
+    public void writeFlush(int batchSize, long nanos) {
+        writeBatchSize.record(batchSize);
+        writeFlushTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 커밋 대기 중인 전투 저장 수 */
+    public void pendingWrites(Collection<?> queue) {
+        Gauge.builder("battle.write.pending", queue, Collection::size)
+                .description("커밋 대기 중인 전투 저장 수")
+                .register(registry);
+    }
+
+    /** 2차 캐시 영역 하나의 조회 결과 (result: hit, miss) / 적재 수 - Hibernate 통계를 읽기만 한다 */
+    public void entityCache(String region, Statistics statistics) {
+        regionCounter("entity.cache.requests", region, statistics, CacheRegionStatistics::getHitCount)
+                .tag("result", "hit").register(registry);
+        regionCounter("entity.cache.requests", region, statistics, CacheRegionStatistics::getMissCount)
+                .tag("result", "miss").register(registry);
+        regionCounter("entity.cache.puts", region, statistics, CacheRegionStatistics::getPutCount)
+                .register(registry);
+    }
+
+    private static FunctionCounter.Builder<Statistics> regionCounter(String name, String region, Statistics statistics,
+                                                                     ToLongFunction<CacheRegionStatistics> count) {
+        return FunctionCounter.builder(name, statistics, s -> {
+                    CacheRegionStatistics stats = s.getCacheRegionStatistics(region);
+                    return stats != null ? count.applyAsLong(stats) : 0;
+                })
+                .tag("region", region);
+    }
+
+    /** 가챠 결과 (source: paid = 유저 뽑기, free = 용사 시스템) */
+    public void gachaPull(String source, String grade) {
+        Counter.builder("gacha.pulls")
+                .tag("source", source)
+                .tag("grade", grade)
+                .register(registry)
+                .increment();
+    }
+
+    /** 강화 시도 결과 (success, fail, broken) */
+    public void enhance(String outcome) {
+        Counter.builder("enhance.attempts")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /** 일일 작업 실행 시간 (예외가 나도 기록) */
+    public void dailyJob(String job, Runnable work) {
+        Timer.builder("daily.job.duration")
+                .tag("job", job)
+                .register(registry)
+                .record(work);
+    }
+}
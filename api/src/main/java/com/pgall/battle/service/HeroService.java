@@ -8,11 +8,17 @@ import com.pgall.battle.repository.GameCharacterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
+/**
+ * 용사(NPC) 생성과 일일 가챠.
+ * 용사마다 가챠(쓰기 트랜잭션) → 장비 탐색(트랜잭션 밖, 몬테카를로 시뮬레이션) → 장착/정리(쓰기 트랜잭션)로 나눠서
+ * 탐색하는 동안 단일 writer 커넥션을 잡고 있지 않는다 (플레이어용 LoadoutService와 같은 순서).
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -46,9 +52,14 @@ public class HeroService {
     private final GameCharacterRepository characterRepository;
     private final EquipmentRepository equipmentRepository;
     private final GachaService gachaService;
+    private final RatingIndex ratingIndex;
+    private final LoadoutOptimizer loadoutOptimizer;
+    private final EntityCache entityCache;
+    private final EquipService equipService;
+    private final BattleLockManager lockManager;
+    private final TransactionTemplate transaction;
 
     /** 서버 시작 시 용사가 없으면 생성 */
-    @Transactional
     public void initHeroes() {
         List<GameCharacter> existingHeroes = characterRepository.findByNameContaining(HERO_SUFFIX);
         if (!existingHeroes.isEmpty()) {
@@ -59,35 +70,55 @@ public class HeroService {
         log.info("용사 캐릭터를 초기 생성합니다...");
         int heroIndex = 1;
         for (CharacterClass charClass : CharacterClass.values()) {
-            GameCharacter hero = createHero(charClass, heroIndex++);
-            initialGachaAndEquip(hero);
+            int index = heroIndex++;
+            Long heroId = transaction.execute(status -> initialGacha(createHero(charClass, index)));
+            Set<Long> best = bestLoadout(heroId);
+            GameCharacter hero = transaction.execute(status -> initialEquip(findHero(heroId), best));
             log.info("  {} 생성 완료 (ID: {}, 능력치합: {})", hero.getName(), hero.getId(), statTotal(hero));
         }
         log.info("용사 캐릭터 {}명 생성 완료.", CharacterClass.values().length);
     }
 
-    /** 매일 0시: 모든 용사에게 가챠 5회 + 자동 장착 */
-    @Transactional
+    /** 매일 0시: 모든 용사에게 가챠 5회 + 자동 장착 (용사마다 짧은 트랜잭션 두 개) */
     public void dailyHeroGacha() {
-        List<GameCharacter> heroes = characterRepository.findByNameContaining(HERO_SUFFIX);
-        if (heroes.isEmpty()) return;
-
-        log.info("용사 일일 가챠 시작 ({}명)...", heroes.size());
-        for (GameCharacter hero : heroes) {
-            if (hero.getAvatar() == null || !hero.getAvatar().contains("_")) {
-                hero.setAvatar(pickAvatarForClass(hero.getCharacterClass(), ThreadLocalRandom.current()));
-            }
-            for (int i = 0; i < DAILY_GACHA_COUNT; i++) {
-                gachaService.pullFree(hero);
+        List<Long> heroIds = characterRepository.findByNameContaining(HERO_SUFFIX).stream()
+                .map(GameCharacter::getId).toList();
+        if (heroIds.isEmpty()) return;
+
+        log.info("용사 일일 가챠 시작 ({}명)...", heroIds.size());
+        for (Long heroId : heroIds) {
+            // 아바타는 랭킹 인덱스에도 있으므로 전투와 같은 락 → 트랜잭션 순서로 바꾼다 (인덱스 갱신 순번 = 커밋 순서)
+            try (BattleLockManager.Lease ignored = lockManager.lock(heroId)) {
+                transaction.executeWithoutResult(status -> {
+                    GameCharacter hero = findHero(heroId);
+                    if (hero.getAvatar() == null || !hero.getAvatar().contains("_")) {
+                        hero.setAvatar(pickAvatarForClass(hero.getCharacterClass(), ThreadLocalRandom.current()));
+                        ratingIndex.update(hero);
+                    }
+                    for (int i = 0; i < DAILY_GACHA_COUNT; i++) {
+                        gachaService.pullFree(hero);
+                    }
+                    characterRepository.save(hero);
+                });
             }
-            autoEquipBest(hero);
-            ensureClassWeapon(hero);
-            deleteUnequipped(hero);
-            characterRepository.save(hero);
+            Set<Long> best = bestLoadout(heroId);
+            transaction.executeWithoutResult(status -> {
+                GameCharacter hero = findHero(heroId);
+                equip(hero, best);
+                ensureClassWeapon(hero);
+                deleteUnequipped(hero);
+                hero.bumpLoadoutVersion();
+                characterRepository.save(hero);
+            });
         }
         log.info("용사 일일 가챠 완료.");
     }
 
+    private GameCharacter findHero(Long heroId) {
+        return characterRepository.findById(heroId)
+                .orElseThrow(() -> new NoSuchElementException("용사를 찾을 수 없습니다."));
+    }
+
     private GameCharacter createHero(CharacterClass charClass, int index) {
         ThreadLocalRandom random = ThreadLocalRandom.current();
 
@@ -119,7 +150,9 @@ public class HeroService {
                 .intelligence(stats[3]).wisdom(stats[4]).charisma(stats[5])
                 .gold(HERO_GOLD)
                 .build();
-        return characterRepository.save(hero);
+        hero = characterRepository.save(hero);
+        ratingIndex.update(hero);
+        return hero;
     }
 
     /** 클래스별 메인 스탯 인덱스 (STR=0, DEX=1, CON=2, INT=3, WIS=4, CHA=5) */
@@ -132,14 +165,17 @@ public class HeroService {
         };
     }
 
-    private void initialGachaAndEquip(GameCharacter hero) {
-        // 50번 가챠
+    /** 50번 가챠 (장착은 탐색이 끝난 뒤 initialEquip에서) */
+    private Long initialGacha(GameCharacter hero) {
         for (int i = 0; i < INITIAL_GACHA_COUNT; i++) {
             gachaService.pullFree(hero);
         }
+        return hero.getId();
+    }
 
+    private GameCharacter initialEquip(GameCharacter hero, Set<Long> best) {
         // 최적 장비 장착
-        autoEquipBest(hero);
+        equip(hero, best);
 
         // 빈 슬롯 확인 후 해당 타입 가챠로 채우기
         Set<EquipmentType> missingTypes = findMissingSlotTypes(hero);
@@ -157,7 +193,8 @@ public class HeroService {
 
         // 남은 미장착 장비 삭제
         deleteUnequipped(hero);
-        characterRepository.save(hero);
+        hero.bumpLoadoutVersion();
+        return characterRepository.save(hero);
     }
 
     /** 클래스 전용 무기가 장착되어 있지 않으면 생성하여 교체 */
@@ -202,36 +239,22 @@ public class HeroService {
         }
     }
 
-    /** 모든 슬롯에 최고 등급 장비를 장착 */
-    private void autoEquipBest(GameCharacter hero) {
+    /**
+     * 보유 장비 중 ELO 상위 상대에게 승률이 가장 높은 조합 (상대가 없으면 등급순).
+     * 조회만 읽기 트랜잭션이고 탐색은 트랜잭션 밖에서 하므로 쓰기 트랜잭션 안에서 부르지 않는다.
+     */
+    private Set<Long> bestLoadout(Long heroId) {
+        EquipService.LoadoutProblem problem = equipService.loadoutProblem(heroId);
+        LoadoutOptimizer.Result result = loadoutOptimizer.optimize(
+                problem.character(), problem.owned(), null, problem.opponents());
+        return result.loadout().stream().map(Equipment::getId).collect(Collectors.toSet());
+    }
+
+    /** 주어진 장비만 장착 (탐색 이후 새로 생긴 장비는 미장착으로 남아 deleteUnequipped에서 정리된다) */
+    private void equip(GameCharacter hero, Set<Long> best) {
         List<Equipment> allEquip = equipmentRepository.findByCharacterId(hero.getId());
-        for (Equipment eq : allEquip) eq.setEquipped(false);
+        for (Equipment eq : allEquip) eq.setEquipped(best.contains(eq.getId()));
         equipmentRepository.saveAll(allEquip);
-
-        Map<EquipmentType, List<Equipment>> byType = new LinkedHashMap<>();
-        for (Equipment eq : allEquip) {
-            byType.computeIfAbsent(eq.getType(), k -> new ArrayList<>()).add(eq);
-        }
-        byType.values().forEach(list -> list.sort(
-                Comparator.comparingInt((Equipment e) -> e.getGrade().ordinal()).reversed()
-                        .thenComparingInt((Equipment e) -> e.getAttackBonus() + e.getDefenseBonus()).reversed()
-        ));
-
-        Map<EquipmentType, Integer> equipped = new HashMap<>();
-        boolean hasTwoHandedWeapon = false;
-        for (EquipmentType slotType : ALL_SLOT_TYPES) {
-            int count = equipped.getOrDefault(slotType, 0);
-            if (slotType == EquipmentType.WEAPON && hasTwoHandedWeapon) continue;
-            List<Equipment> candidates = byType.getOrDefault(slotType, List.of());
-            if (count < candidates.size()) {
-                Equipment best = candidates.get(count);
-                if (slotType == EquipmentType.WEAPON && best.isTwoHanded() && count > 0) continue;
-                best.setEquipped(true);
-                equipmentRepository.save(best);
-                equipped.put(slotType, count + 1);
-                if (slotType == EquipmentType.WEAPON && best.isTwoHanded()) hasTwoHandedWeapon = true;
-            }
-        }
     }
 
     private Set<EquipmentType> findMissingSlotTypes(GameCharacter hero) {
@@ -250,8 +273,10 @@ public class HeroService {
         return missing;
     }
 
+    /** 가챠/교체가 끝난 뒤 마지막에 부르므로 장비 목록 캐시도 여기서 한 번 지운다 */
     private void deleteUnequipped(GameCharacter hero) {
         equipmentRepository.deleteAll(equipmentRepository.findByCharacterIdAndEquipped(hero.getId(), false));
+        entityCache.equipmentsChanged(hero.getId());
     }
 
     private int statTotal(GameCharacter h) {
@@ -0,0 +1,268 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.engine.BattleSimulator;
+import com.pgall.battle.engine.CombatProfile;
+import com.pgall.battle.engine.Combatant;
+import com.pgall.battle.entity.Equipment;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.enums.EquipmentType;
+import com.pgall.battle.repository.GameCharacterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 시뮬레이션 기반 장비 조합 탐색.
+ * 보유 장비로 만들 수 있는 슬롯 배치(부위별 최대 슬롯, 양손 무기 규칙)를 장비 한 개 교체 단위로 탐색하며,
+ * 각 후보는 ELO 상위 상대들과 공격/방어 양쪽으로 시뮬레이션한 평균 승률로 평가한다.
+ * <ul>
+ *   <li>공통 난수: 상대/역할마다 seed를 한 번 정해 모든 후보가 같은 난수열로 싸우므로 후보 간 차이가 잡음에 덜 묻힌다.</li>
+ *   <li>가지치기: 라운드마다 모든 후보를 짧게 돌려 보고, 선두와 오차 범위 밖인 후보는 버린 뒤 남은 후보만 본 평가한다.</li>
+ *   <li>후보 평가는 병렬 스트림 + BattleSimulator(fork-join)로 나눠 돌린다.</li>
+ * </ul>
+ * DB는 참조 상대 조회(referenceOpponents)에서만 쓰고, 탐색 자체는 엔티티를 읽기만 한다
+ * (장비의 효과 컬렉션은 호출 측 트랜잭션에서 초기화되어 있어야 한다).
+ */
+@Slf4j
+@Component
+public class LoadoutOptimizer {
+
+    /** 교체 라운드 최대 수 (라운드마다 가장 좋은 교체 하나를 적용) */
+    private static final int MAX_ROUNDS = 8;
+    /** 본 평가에 올리는 후보 수 상한 */
+    private static final int MAX_FINALISTS = 8;
+    /** 이 이상 좋아져야 교체한다 (승률) */
+    private static final double MIN_GAIN = 0.002;
+
+    private final GameCharacterRepository characterRepository;
+    private final CombatantLoader combatantLoader;
+    private final RatingIndex ratingIndex;
+    private final BattleSimulator simulator = new BattleSimulator();
+    private final int opponentCount;
+    private final int iterations;
+
+    public LoadoutOptimizer(GameCharacterRepository characterRepository, CombatantLoader combatantLoader,
+                            RatingIndex ratingIndex,
+                            @Value("${battle.optimizer.opponents:5}") int opponentCount,
+                            @Value("${battle.optimizer.iterations:200}") int iterations) {
+        this.characterRepository = characterRepository;
+        this.combatantLoader = combatantLoader;
+        this.ratingIndex = ratingIndex;
+        this.opponentCount = Math.max(1, opponentCount);
+        this.iterations = Math.max(20, iterations);
+    }
+
+    /** 참조 상대 (ELO 상위, 자신 제외, 물약 없이 장비만) */
+    public record Opponent(Long id, Combatant combatant) {}
+
+    /**
+     * 탐색 결과.
+     * winRate는 참조 상대 평균 승률이며 상대가 없으면 null (이때 loadout은 시작 배치 그대로).
+     */
+    public record Result(List<Equipment> loadout, Double winRateBefore, Double winRateAfter,
+                         List<Long> opponentIds, int evaluations) {}
+
+    /** ELO 상위 캐릭터를 참조 상대로 읽는다 (트랜잭션 안에서 호출) */
+    public List<Opponent> referenceOpponents(Long selfId) {
+        List<Long> ids = ratingIndex.top(opponentCount + 1).stream()
+                .filter(id -> !id.equals(selfId))
+                .limit(opponentCount)
+                .toList();
+        Map<Long, CombatProfile> profiles = combatantLoader.profiles(characterRepository.findAllById(ids));
+        List<Opponent> opponents = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            CombatProfile profile = profiles.get(id);
+            if (profile != null) opponents.add(new Opponent(id, Combatant.of(profile)));
+        }
+        return opponents;
+    }
+
+    /** 부위별로 등급 → 공/방 합 순으로 채운 기본 배치 (탐색 시작점, 참조 상대가 없을 때의 결과) */
+    public static List<Equipment> byGrade(List<Equipment> owned) {
+        Map<EquipmentType, List<Equipment>> byType = new EnumMap<>(EquipmentType.class);
+        for (Equipment eq : owned) byType.computeIfAbsent(eq.getType(), k -> new ArrayList<>()).add(eq);
+        byType.values().forEach(list -> list.sort(
+                Comparator.comparingInt((Equipment e) -> e.getGrade().ordinal())
+                        .thenComparingDouble(EquipService::equipScore)
+                        .reversed()));
+
+        List<Equipment> loadout = new ArrayList<>();
+        for (Map.Entry<EquipmentType, List<Equipment>> entry : byType.entrySet()) {
+            List<Equipment> candidates = entry.getValue();
+            if (entry.getKey() == EquipmentType.WEAPON) {
+                // 가장 좋은 무기가 양손이면 그것 하나, 아니면 한손 무기 두 개
+                if (candidates.get(0).isTwoHanded()) {
+                    loadout.add(candidates.get(0));
+                } else {
+                    candidates.stream().filter(e -> !e.isTwoHanded())
+                            .limit(EquipmentType.WEAPON.getMaxSlots()).forEach(loadout::add);
+                }
+            } else {
+                candidates.stream().limit(entry.getKey().getMaxSlots()).forEach(loadout::add);
+            }
+        }
+        return sorted(loadout);
+    }
+
+    /**
+     * start에서 출발해 장비 한 개 교체(빈 슬롯이면 추가)를 반복하며 평균 승률이 가장 높은 배치를 찾는다.
+     * start가 null이면 byGrade(owned)에서 시작한다.
+     */
+    public Result optimize(GameCharacter character, List<Equipment> owned, List<Equipment> start,
+                           List<Opponent> opponents) {
+        List<Equipment> current = start != null ? sorted(start) : byGrade(owned);
+        List<Long> opponentIds = opponents.stream().map(Opponent::id).toList();
+        if (opponents.isEmpty() || owned.isEmpty()) {
+            return new Result(current, null, null, opponentIds, 0);
+        }
+
+        // 공통 난수: 상대별 공격/방어 seed를 탐색 내내 고정
+        SplittableRandom random = new SplittableRandom();
+        long[] seeds = new long[opponents.size() * 2];
+        for (int i = 0; i < seeds.length; i++) seeds[i] = random.nextLong();
+        // 엔티티는 여기서 한 번만 읽고, 탐색 중에는 불변 값(Base/Gear)으로만 프로필을 만든다
+        CombatProfile.Base base = CombatProfileMapper.base(character);
+        Map<Equipment, CombatProfile.Gear> gear = new IdentityHashMap<>();
+        for (Equipment eq : owned) gear.put(eq, CombatProfileMapper.gear(eq));
+        for (Equipment eq : current) gear.computeIfAbsent(eq, CombatProfileMapper::gear);
+        Evaluator full = new Evaluator(base, gear, opponents, seeds, iterations);
+        Evaluator screen = new Evaluator(base, gear, opponents, seeds, Math.max(10, iterations / 4));
+
+        double currentScore = full.score(current);
+        double before = currentScore;
+        int evaluations = 1;
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            List<List<Equipment>> candidates = neighbours(current, owned);
+            if (candidates.isEmpty()) break;
+
+            // 1차: 짧게 돌려 보고 선두(현재 배치 포함)와 오차 범위 안의 후보만 남긴다
+            double[] screened = screen.scoreAll(candidates);
+            double currentScreened = screen.score(current);
+            evaluations += candidates.size() + 1;
+            double bestScreened = currentScreened;
+            for (double s : screened) bestScreened = Math.max(bestScreened, s);
+            double margin = 2 * screen.standardError();
+            List<List<Equipment>> finalists = new ArrayList<>();
+            Integer[] order = new Integer[candidates.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Double.compare(screened[b], screened[a]));
+            for (int i : order) {
+                if (finalists.size() >= MAX_FINALISTS || screened[i] < bestScreened - margin) break;
+                finalists.add(candidates.get(i));
+            }
+            if (finalists.isEmpty()) break;
+
+            // 2차: 남은 후보만 본 평가
+            double[] scores = full.scoreAll(finalists);
+            evaluations += finalists.size();
+            int best = 0;
+            for (int i = 1; i < scores.length; i++) if (scores[i] > scores[best]) best = i;
+            if (scores[best] < currentScore + MIN_GAIN) break;
+            current = finalists.get(best);
+            currentScore = scores[best];
+        }
+
+        log.debug("장비 조합 탐색 (캐릭터={}, 평가={}회): 승률 {} → {}",
+                character.getId(), evaluations, String.format("%.3f", before), String.format("%.3f", currentScore));
+        return new Result(current, before, currentScore, opponentIds, evaluations);
+    }
+
+    /** 장비 하나를 바꾼(또는 빈 슬롯에 더한) 유효한 배치들 */
+    private static List<List<Equipment>> neighbours(List<Equipment> current, List<Equipment> owned) {
+        Set<Equipment> equipped = Collections.newSetFromMap(new IdentityHashMap<>());
+        equipped.addAll(current);
+        Set<Set<Long>> seen = new HashSet<>();
+        List<List<Equipment>> result = new ArrayList<>();
+
+        for (Equipment x : owned) {
+            if (equipped.contains(x)) continue;
+            EquipmentType type = x.getType();
+            List<Equipment> sameType = current.stream().filter(e -> e.getType() == type).toList();
+            List<Equipment> others = current.stream().filter(e -> e.getType() != type).toList();
+
+            if (type == EquipmentType.WEAPON && (x.isTwoHanded() || sameType.stream().anyMatch(Equipment::isTwoHanded))) {
+                // 양손 무기가 끼면 무기 슬롯을 통째로 바꾼다 (양손 → 한손이면 한손 한 개 또는 두 개)
+                add(result, seen, others, List.of(x));
+                if (!x.isTwoHanded()) {
+                    for (Equipment y : owned) {
+                        if (y.getType() == EquipmentType.WEAPON && !y.isTwoHanded() && y != x
+                                && !equipped.contains(y) && y.getId() > x.getId()) {
+                            add(result, seen, others, List.of(x, y));
+                        }
+                    }
+                }
+            } else if (sameType.size() < type.getMaxSlots()) {
+                add(result, seen, current, List.of(x));
+            } else {
+                for (Equipment s : sameType) {
+                    List<Equipment> kept = new ArrayList<>(current);
+                    kept.remove(s);
+                    add(result, seen, kept, List.of(x));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void add(List<List<Equipment>> result, Set<Set<Long>> seen, List<Equipment> base, List<Equipment> extra) {
+        List<Equipment> loadout = new ArrayList<>(base);
+        loadout.addAll(extra);
+        Set<Long> key = new HashSet<>();
+        for (Equipment e : loadout) key.add(e.getId());
+        if (seen.add(key)) result.add(sorted(loadout));
+    }
+
+    /** 캐릭터 장비 컬렉션과 같은 ID 순서 (CombatProfile은 첫 번째 무기를 주무기로 쓴다) */
+    private static List<Equipment> sorted(List<Equipment> loadout) {
+        List<Equipment> list = new ArrayList<>(loadout);
+        list.sort(Comparator.comparing(Equipment::getId));
+        return list;
+    }
+
+    /** 배치 → 참조 상대 평균 승률 (공격/방어 각각, 상대/역할별 seed 고정) */
+    private final class Evaluator {
+        private final CombatProfile.Base base;
+        private final Map<Equipment, CombatProfile.Gear> gear;
+        private final List<Opponent> opponents;
+        private final long[] seeds;
+        private final int iterations;
+
+        Evaluator(CombatProfile.Base base, Map<Equipment, CombatProfile.Gear> gear,
+                  List<Opponent> opponents, long[] seeds, int iterations) {
+            this.base = base;
+            this.gear = gear;
+            this.opponents = opponents;
+            this.seeds = seeds;
+            this.iterations = iterations;
+        }
+
+        double score(List<Equipment> loadout) {
+            return score(combatant(loadout));
+        }
+
+        double[] scoreAll(List<List<Equipment>> loadouts) {
+            return loadouts.parallelStream().mapToDouble(this::score).toArray();
+        }
+
+        private Combatant combatant(List<Equipment> loadout) {
+            return Combatant.of(CombatProfile.of(base, loadout.stream().map(gear::get).toList()));
+        }
+
+        private double score(Combatant self) {
+            double total = 0;
+            for (int i = 0; i < opponents.size(); i++) {
+                Combatant opponent = opponents.get(i).combatant();
+                total += simulator.simulate(self, opponent, iterations, seeds[2 * i]).attackerWinRate();
+                total += 1 - simulator.simulate(opponent, self, iterations, seeds[2 * i + 1]).attackerWinRate();
+            }
+            return total / (2 * opponents.size());
+        }
+
+        /** 승률 추정치의 표준오차 상한 (p = 0.5 기준) */
+        double standardError() {
+            return Math.sqrt(0.25 / (2.0 * opponents.size() * iterations));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.dto.EquipmentResponse;
+import com.pgall.battle.dto.LoadoutOptimizeResponse;
+import com.pgall.battle.entity.Equipment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 플레이어용 장비 최적화.
+ * 조회(읽기 트랜잭션) → 탐색(트랜잭션 밖, 시뮬레이션 수 초) → 장착(쓰기 트랜잭션)으로 나눠서
+ * 탐색하는 동안 DB 커넥션을 잡고 있지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoadoutService {
+
+    private final EquipService equipService;
+    private final LoadoutOptimizer loadoutOptimizer;
+
+    public LoadoutOptimizeResponse optimize(Long characterId, boolean apply) {
+        EquipService.LoadoutProblem problem = equipService.loadoutProblem(characterId);
+        LoadoutOptimizer.Result result = loadoutOptimizer.optimize(
+                problem.character(), problem.owned(), problem.equipped(), problem.opponents());
+
+        Set<Long> before = problem.equipped().stream().map(Equipment::getId).collect(Collectors.toSet());
+        List<Long> after = result.loadout().stream().map(Equipment::getId).toList();
+        boolean changed = before.size() != after.size() || !before.containsAll(after);
+
+        List<EquipmentResponse> equipment = apply && changed
+                ? equipService.applyLoadout(characterId, after)
+                : result.loadout().stream().map(EquipmentResponse::from).toList();
+        return LoadoutOptimizeResponse.builder()
+                .characterId(characterId)
+                .applied(apply && changed)
+                .changed(changed)
+                .winRateBefore(result.winRateBefore())
+                .winRateAfter(result.winRateAfter())
+                .opponentIds(result.opponentIds())
+                .evaluations(result.evaluations())
+                .equipment(equipment)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.pgall.battle.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 순위 트리 (서브트리 크기를 단 트립).
+ * 삽입/삭제/순위 조회/k번째 조회가 모두 O(log n) (기대값). 같은 ELO가 몰려 있어도 id로 순서가 정해지므로 느려지지 않는다.
+ * 캐릭터당 항목 하나 (put은 이전 값을 바꾼다). 스레드 안전하지 않다 - 동기화는 RatingIndex가 맡는다.
+ */
+final class RankTree {
+
+    private static final class Node {
+        final RatingIndex.Rated value;
+        final int priority;
+        Node left, right;
+        int size = 1;
+
+        Node(RatingIndex.Rated value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    private final Comparator<RatingIndex.Rated> order;
+    private final SplittableRandom random = new SplittableRandom();
+    private final Map<Long, RatingIndex.Rated> byId = new HashMap<>();
+    private Node root;
+
+    /** order: 1등이 가장 앞에 오는 순서 */
+    RankTree(Comparator<RatingIndex.Rated> order) {
+        this.order = order;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    RatingIndex.Rated get(Long id) {
+        return byId.get(id);
+    }
+
+    void put(RatingIndex.Rated value) {
+        RatingIndex.Rated old = byId.put(value.id(), value);
+        if (old != null) root = remove(root, old);
+        root = insert(root, new Node(value, random.nextInt()));
+    }
+
+    void remove(Long id) {
+        RatingIndex.Rated old = byId.remove(id);
+        if (old != null) root = remove(root, old);
+    }
+
+    /** 1부터 시작하는 순위 (없으면 0) */
+    int rank(Long id) {
+        RatingIndex.Rated value = byId.get(id);
+        if (value == null) return 0;
+        int ahead = 0;
+        Node t = root;
+        while (t != null) {
+            int c = order.compare(value, t.value);
+            if (c < 0) {
+                t = t.left;
+            } else if (c == 0) {
+                return ahead + size(t.left) + 1;
+            } else {
+                ahead += size(t.left) + 1;
+                t = t.right;
+            }
+        }
+        return 0;
+    }
+
+    /** k등 (1부터, 범위 밖이면 null) */
+    RatingIndex.Rated select(int k) {
+        Node t = root;
+        while (t != null) {
+            int left = size(t.left);
+            if (k <= left) {
+                t = t.left;
+            } else if (k == left + 1) {
+                return t.value;
+            } else {
+                k -= left + 1;
+                t = t.right;
+            }
+        }
+        return null;
+    }
+
+    private Node insert(Node t, Node n) {
+        if (t == null) return n;
+        if (n.priority > t.priority) {
+            Node[] parts = split(t, n.value);
+            n.left = parts[0];
+            n.right = parts[1];
+            return update(n);
+        }
+        if (order.compare(n.value, t.value) < 0) t.left = insert(t.left, n);
+        else t.right = insert(t.right, n);
+        return update(t);
+    }
+
+    private Node remove(Node t, RatingIndex.Rated value) {
+        if (t == null) return null;
+        int c = order.compare(value, t.value);
+        if (c == 0) return merge(t.left, t.right);
+        if (c < 0) t.left = remove(t.left, value);
+        else t.right = remove(t.right, value);
+        return update(t);
+    }
+
+    /** [key보다 앞, key 이후] */
+    private Node[] split(Node t, RatingIndex.Rated key) {
+        if (t == null) return new Node[2];
+        if (order.compare(t.value, key) < 0) {
+            Node[] parts = split(t.right, key);
+            t.right = parts[0];
+            parts[0] = update(t);
+            return parts;
+        }
+        Node[] parts = split(t.left, key);
+        t.left = parts[1];
+        parts[1] = update(t);
+        return parts;
+    }
+
+    private Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            return update(a);
+        }
+        b.left = merge(a, b.left);
+        return update(b);
+    }
+
+    private static Node update(Node t) {
+        t.size = 1 + size(t.left) + size(t.right);
+        return t;
+    }
+
+    private static int size(Node t) {
+        return t != null ? t.size : 0;
+    }
+}
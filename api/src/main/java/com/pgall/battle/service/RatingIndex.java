@@ -0,0 +1,260 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.dto.MatchResponse;
+import com.pgall.battle.dto.RankResponse;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.enums.CharacterClass;
+import com.pgall.battle.repository.GameCharacterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ELO 정렬 인덱스 (메모리).
+ * (eloRate, id) 순 스킵 리스트로 들고 있어서 매칭 상대를 DB 조회 없이 O(log n)으로 찾는다.
+ * 같은 순서의 순위 트리(RankTree)도 함께 갱신해서 "몇 등인지"와 "내 주변 순위"도 O(log n)으로 답한다.
+ * 서버 시작 시 한 번 적재하고, 이후에는 캐릭터 생성/삭제, 전투 ELO 반영, 표시 정보(아바타 등) 변경이 커밋될 때마다 갱신한다.
+ * 커밋 후 콜백은 커밋 순서와 다르게 실행될 수 있으므로 갱신마다 호출 시점 순번을 매기고,
+ * 캐릭터별로 이미 반영한 순번보다 오래된 갱신은 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingIndex {
+
+    /** 매칭 범위: 50부터 두 배씩 넓혀 상대를 채운다 */
+    private static final int INITIAL_WINDOW = 50;
+    private static final int MAX_MATCH_LIMIT = 20;
+    private static final int MAX_AROUND = 50;
+
+    /** 인덱스 항목 (정렬 키: eloRate 오름차순 → id 내림차순, 역순으로 읽으면 랭킹 순서) */
+    public record Rated(Long id, int eloRate, String name, String avatar, CharacterClass characterClass) {
+        static Rated of(GameCharacter c) {
+            return new Rated(c.getId(), c.getEloRate(), c.getName(), c.getAvatar(), c.getCharacterClass());
+        }
+    }
+
+    private static final Comparator<Rated> ORDER = Comparator.comparingInt(Rated::eloRate)
+            .thenComparing(Rated::id, Comparator.reverseOrder());
+
+    private final GameCharacterRepository characterRepository;
+
+    private final ConcurrentSkipListSet<Rated> byRating = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Rated> byId = new ConcurrentHashMap<>();
+    /** 순위 트리 (자기 자신을 락으로 쓴다) */
+    private final RankTree ranks = new RankTree(ORDER.reversed());
+    /** 갱신 순번과 캐릭터별 마지막 반영 순번 (삭제된 캐릭터도 남겨서 늦게 도착한 갱신이 되살리지 않게 한다) */
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /** 서버 시작 시 전체 적재 (이후로는 DB를 읽지 않는다) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<GameCharacter> all = characterRepository.findAll();
+        long version = sequence.incrementAndGet();
+        for (GameCharacter c : all) put(Rated.of(c), version);
+        log.info("ELO 인덱스 적재 완료 ({}명)", all.size());
+    }
+
+    /**
+     * 캐릭터 생성/ELO/표시 정보 변경 반영 (트랜잭션 안이면 커밋 후, 값과 순번은 호출 시점 기준).
+     * 같은 캐릭터를 바꾸는 쓰기는 전투 락을 잡고 트랜잭션 안에서 호출하므로 순번 순서가 곧 커밋 순서다.
+     */
+    public void update(GameCharacter... characters) {
+        long version = sequence.incrementAndGet();
+        List<Rated> rated = Arrays.stream(characters).map(Rated::of).toList();
+        afterCommit(() -> rated.forEach(r -> put(r, version)));
+    }
+
+    /** 캐릭터 삭제 반영 (트랜잭션 안이면 커밋 후) */
+    public void remove(Long characterId) {
+        long version = sequence.incrementAndGet();
+        afterCommit(() -> byId.compute(characterId, (id, old) -> {
+            if (!claim(id, version)) return old;
+            if (old != null) {
+                byRating.remove(old);
+                synchronized (ranks) {
+                    ranks.remove(id);
+                }
+            }
+            return null;
+        }));
+    }
+
+    private void put(Rated rated, long version) {
+        // 같은 캐릭터의 갱신끼리는 키 단위로 직렬화된다
+        byId.compute(rated.id(), (id, old) -> {
+            if (!claim(id, version)) return old;
+            if (old != null) byRating.remove(old);
+            byRating.add(rated);
+            synchronized (ranks) {
+                ranks.put(rated);
+            }
+            return rated;
+        });
+    }
+
+    /** version이 마지막 반영보다 새것이면 기록하고 true (byId.compute 안에서만 불러서 같은 id끼리 직렬화) */
+    private boolean claim(Long id, long version) {
+        Long last = versions.get(id);
+        if (last != null && last > version) return false;
+        versions.put(id, version);
+        return true;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * ELO가 가까운 상대 찾기.
+     * 자기 위치에서 위/아래로 동시에 걸어가며 더 가까운 쪽을 고르므로 O(log n + limit)이다.
+     * window는 찾은 상대를 모두 포함하는 범위 (50 → 100 → 200 → ...)로 알려준다.
+     */
+    public MatchResponse match(Long characterId, int limit) {
+        if (limit < 1 || limit > MAX_MATCH_LIMIT) {
+            throw new IllegalArgumentException("매칭 상대 수는 1~" + MAX_MATCH_LIMIT + "명이어야 합니다.");
+        }
+        Rated self = byId.get(characterId);
+        if (self == null) throw new NoSuchElementException("캐릭터를 찾을 수 없습니다: " + characterId);
+
+        Iterator<Rated> lower = byRating.headSet(self, false).descendingIterator();
+        Iterator<Rated> higher = byRating.tailSet(self, false).iterator();
+        Rated down = next(lower);
+        Rated up = next(higher);
+
+        List<MatchResponse.Opponent> opponents = new ArrayList<>(limit);
+        int window = INITIAL_WINDOW;
+        while (opponents.size() < limit && (down != null || up != null)) {
+            Rated pick;
+            if (up == null || (down != null && self.eloRate() - down.eloRate() <= up.eloRate() - self.eloRate())) {
+                pick = down;
+                down = next(lower);
+            } else {
+                pick = up;
+                up = next(higher);
+            }
+            int diff = pick.eloRate() - self.eloRate();
+            while (Math.abs(diff) > window) window *= 2;
+            opponents.add(toOpponent(pick, diff));
+        }
+
+        return MatchResponse.builder()
+                .characterId(self.id())
+                .eloRate(self.eloRate())
+                .window(window)
+                .opponents(opponents)
+                .build();
+    }
+
+    /** ELO 상위 limit명의 ID (높은 순) */
+    public List<Long> top(int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        Iterator<Rated> it = byRating.descendingIterator();
+        while (ids.size() < limit && it.hasNext()) ids.add(it.next().id());
+        return ids;
+    }
+
+    /**
+     * 랭킹 한 페이지 (ELO 높은 순, 같은 ELO는 id 작은 순).
+     * afterElo/afterId는 이전 페이지 마지막 항목의 키 (첫 페이지면 null). 그 사이 순위가 바뀌어도 키 위치부터 이어서 읽는다.
+     */
+    public List<Rated> ranking(Integer afterElo, Long afterId, int limit) {
+        Iterator<Rated> it = afterElo == null || afterId == null
+                ? byRating.descendingIterator()
+                : byRating.headSet(new Rated(afterId, afterElo, null, null, null), false).descendingIterator();
+        List<Rated> page = new ArrayList<>(limit);
+        while (page.size() < limit && it.hasNext()) page.add(it.next());
+        return page;
+    }
+
+    /** 현재 순위 */
+    public RankResponse rank(Long characterId) {
+        return rank(characterId, 0);
+    }
+
+    /** 현재 순위 + 위아래 n명 */
+    public RankResponse around(Long characterId, int n) {
+        if (n < 1 || n > MAX_AROUND) {
+            throw new IllegalArgumentException("주변 순위 범위는 1~" + MAX_AROUND + "명이어야 합니다.");
+        }
+        return rank(characterId, n);
+    }
+
+    private RankResponse rank(Long characterId, int n) {
+        Rated self;
+        int rank, total;
+        List<RankResponse.Entry> around = null;
+        // 순위와 주변 목록이 같은 시점 값이 되도록 한 번에 읽는다
+        synchronized (ranks) {
+            self = ranks.get(characterId);
+            if (self == null) throw new NoSuchElementException("캐릭터를 찾을 수 없습니다: " + characterId);
+            rank = ranks.rank(characterId);
+            total = ranks.size();
+            if (n > 0) {
+                around = new ArrayList<>(2 * n + 1);
+                for (int k = Math.max(1, rank - n); k <= Math.min(total, rank + n); k++) {
+                    around.add(toEntry(k, ranks.select(k)));
+                }
+            }
+        }
+        return RankResponse.builder()
+                .characterId(self.id())
+                .eloRate(self.eloRate())
+                .rank(rank)
+                .total(total)
+                .around(around)
+                .build();
+    }
+
+    private static RankResponse.Entry toEntry(int rank, Rated r) {
+        return RankResponse.Entry.builder()
+                .rank(rank)
+                .id(r.id())
+                .name(r.name())
+                .avatar(r.avatar())
+                .characterClass(r.characterClass() != null ? r.characterClass().name() : null)
+                .eloRate(r.eloRate())
+                .build();
+    }
+
+    private static Rated next(Iterator<Rated> it) {
+        return it.hasNext() ? it.next() : null;
+    }
+
+    private static MatchResponse.Opponent toOpponent(Rated r, int diff) {
+        return MatchResponse.Opponent.builder()
+                .id(r.id())
+                .name(r.name())
+                .avatar(r.avatar())
+                .characterClass(r.characterClass() != null ? r.characterClass().name() : null)
+                .eloRate(r.eloRate())
+                .eloDiff(diff)
+                .expectedWinRate(1.0 / (1 + Math.pow(10, diff / 400.0)))
+                .build();
+    }
+}
@@ -28,6 +28,7 @@ public class ShopService {
     private final GameCharacterRepository characterRepository;
     private final InventoryRepository inventoryRepository;
     private final ShopItemRepository shopItemRepository;
+    private final GameMetrics metrics;
 
     // 캐릭터별 상점 세션 (인메모리)
     private final Map<Long, ShopSession> sessions = new ConcurrentHashMap<>();
@@ -67,6 +68,7 @@ public class ShopService {
 
     record PotionTemplate(String name, String description, int basePrice, BuffType buffType) {}
 
+    @Transactional(readOnly = true)
     public ShopResponse getShop(Long characterId) {
         GameCharacter character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new NoSuchElementException("캐릭터를 찾을 수 없습니다."));
@@ -74,9 +76,16 @@ public class ShopService {
         return buildResponse(session, character);
     }
 
+    /** 상점 락 (대기 시간은 shop.lock.wait로 기록) */
+    private void lockShop() {
+        long start = System.nanoTime();
+        shopLock.lock();
+        metrics.shopLockWait(System.nanoTime() - start);
+    }
+
     @Transactional
     public ShopResponse refresh(Long characterId) {
-        shopLock.lock();
+        lockShop();
         try {
             GameCharacter character = characterRepository.findById(characterId)
                     .orElseThrow(() -> new NoSuchElementException("캐릭터를 찾을 수 없습니다."));
@@ -106,7 +115,7 @@ public class ShopService {
 
     @Transactional
     public ShopResponse buyItem(Long characterId, int index) {
-        shopLock.lock();
+        lockShop();
         try {
             GameCharacter character = characterRepository.findById(characterId)
                     .orElseThrow(() -> new NoSuchElementException("캐릭터를 찾을 수 없습니다."));
@@ -0,0 +1,224 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.dto.TournamentResponse;
+import com.pgall.battle.engine.BattleSnapshot;
+import com.pgall.battle.engine.LogVerbosity;
+import com.pgall.battle.engine.SeededBattle;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 리그전(라운드 로빈) 토너먼트.
+ * 참가자 전원을 한 번에 스냅샷하고, 모든 대진을 fork-join 풀에서 엔진만으로 돌린 뒤
+ * 결과(골드/ELO/전투 기록)를 마지막에 한 트랜잭션으로 반영한다.
+ * 경기 중에는 DB와 전투 락을 쓰지 않으므로 일반 전투는 그대로 진행되고, 진행률은 /tournaments/{id}로 조회한다.
+ * 동시에 하나만 진행한다.
+ */
+@Slf4j
+@Service
+public class TournamentService {
+
+    /** 참가자 상한 (n(n-1)/2 경기 = 32,640) */
+    private static final int MAX_PARTICIPANTS = 256;
+    /** fork-join 분할 단위 (경기 수) */
+    private static final int LEAF_SIZE = 64;
+    private static final long RESULT_TTL_HOURS = 24;
+
+    public enum Status { PREPARING, RUNNING, COMMITTING, DONE, FAILED }
+
+    private static class Tournament {
+        final String id = UUID.randomUUID().toString();
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicInteger completedMatches = new AtomicInteger();
+        volatile Status status = Status.PREPARING;
+        volatile int participants;
+        volatile int totalMatches;
+        volatile LocalDateTime completedAt;
+        volatile List<TournamentResponse.Standing> standings;
+        volatile String error;
+    }
+
+    private final BattleService battleService;
+    private final ForkJoinPool pool;
+    private final ExecutorService coordinator = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, Tournament> tournaments = new ConcurrentHashMap<>();
+    private final AtomicReference<Tournament> current = new AtomicReference<>();
+
+    public TournamentService(BattleService battleService,
+                             @Value("${battle.tournament.parallelism:0}") int parallelism) {
+        this.battleService = battleService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /** 토너먼트 시작 (characterIds가 비어 있으면 전체 캐릭터, 즉시 반환) */
+    public TournamentResponse start(List<Long> characterIds) {
+        Tournament tournament = new Tournament();
+        if (!current.compareAndSet(null, tournament)) {
+            throw new IllegalStateException("이미 진행 중인 토너먼트가 있습니다.");
+        }
+        tournaments.put(tournament.id, tournament);
+        try {
+            coordinator.execute(() -> run(tournament, characterIds));
+        } catch (RejectedExecutionException e) {
+            tournaments.remove(tournament.id);
+            current.set(null);
+            throw new IllegalStateException("토너먼트 실행기가 종료되었습니다.");
+        }
+        return toResponse(tournament);
+    }
+
+    /** 정기 리그전 (battle.tournament.cron, 기본 비활성) */
+    @Scheduled(cron = "${battle.tournament.cron:-}")
+    public void scheduledTournament() {
+        try {
+            log.info("정기 토너먼트 시작: {}", start(List.of()).getTournamentId());
+        } catch (IllegalStateException e) {
+            log.warn("정기 토너먼트 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    private void run(Tournament tournament, List<Long> characterIds) {
+        try {
+            List<BattleService.Entrant> entrants = battleService.snapshotEntrants(
+                    characterIds != null ? new LinkedHashSet<>(characterIds) : Set.of());
+            if (entrants.size() < 2) {
+                throw new IllegalArgumentException("토너먼트에는 2명 이상의 캐릭터가 필요합니다.");
+            }
+            if (entrants.size() > MAX_PARTICIPANTS) {
+                throw new IllegalArgumentException("토너먼트는 최대 " + MAX_PARTICIPANTS + "명까지 참가할 수 있습니다.");
+            }
+
+            // 대진표: 모든 쌍 한 번씩, 선공은 번갈아 가며 / seed는 미리 뽑아서 실행 순서와 무관하게 고정
+            int n = entrants.size();
+            int[][] pairs = new int[n * (n - 1) / 2][];
+            long[] seeds = new long[pairs.length];
+            SplittableRandom random = new SplittableRandom();
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    pairs[k] = (i + j) % 2 == 0 ? new int[]{i, j} : new int[]{j, i};
+                    seeds[k] = random.nextLong();
+                    k++;
+                }
+            }
+            tournament.participants = n;
+            tournament.totalMatches = pairs.length;
+            tournament.status = Status.RUNNING;
+
+            BattleService.TournamentMatch[] matches = new BattleService.TournamentMatch[pairs.length];
+            pool.invoke(new Fight(entrants, pairs, seeds, matches, tournament.completedMatches, 0, pairs.length));
+
+            tournament.status = Status.COMMITTING;
+            List<BattleService.TournamentStanding> standings = battleService.commitTournament(entrants, Arrays.asList(matches));
+            tournament.standings = standings.stream()
+                    .map(s -> TournamentResponse.Standing.builder()
+                            .characterId(s.id()).name(s.name())
+                            .wins(s.wins()).losses(s.losses())
+                            .eloChange(s.eloChange()).goldEarned(s.goldEarned())
+                            .build())
+                    .sorted(Comparator.comparingInt(TournamentResponse.Standing::getWins).reversed()
+                            .thenComparing(Comparator.comparingInt(TournamentResponse.Standing::getEloChange).reversed()))
+                    .toList();
+            tournament.completedAt = LocalDateTime.now();
+            tournament.status = Status.DONE;
+            log.info("토너먼트 완료 (id={}, 참가자={}, 경기={})", tournament.id, n, pairs.length);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            fail(tournament, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("토너먼트 실패 (id={}): {}", tournament.id, e.getMessage(), e);
+            fail(tournament, "토너먼트 처리 중 오류가 발생했습니다.");
+        } finally {
+            current.compareAndSet(tournament, null);
+        }
+    }
+
+    private void fail(Tournament tournament, String error) {
+        tournament.error = error;
+        tournament.completedAt = LocalDateTime.now();
+        tournament.status = Status.FAILED;
+    }
+
+    /** 대진 구간 [from, to)를 반으로 나눠 가며 실행 (엔진만, 결과는 인덱스 자리에 기록) */
+    private static class Fight extends RecursiveAction {
+        private final List<BattleService.Entrant> entrants;
+        private final int[][] pairs;
+        private final long[] seeds;
+        private final BattleService.TournamentMatch[] matches;
+        private final AtomicInteger progress;
+        private final int from;
+        private final int to;
+
+        Fight(List<BattleService.Entrant> entrants, int[][] pairs, long[] seeds,
+              BattleService.TournamentMatch[] matches, AtomicInteger progress, int from, int to) {
+            this.entrants = entrants;
+            this.pairs = pairs;
+            this.seeds = seeds;
+            this.matches = matches;
+            this.progress = progress;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Fight(entrants, pairs, seeds, matches, progress, from, mid),
+                        new Fight(entrants, pairs, seeds, matches, progress, mid, to));
+                return;
+            }
+            for (int k = from; k < to; k++) {
+                BattleService.Entrant atk = entrants.get(pairs[k][0]);
+                BattleService.Entrant def = entrants.get(pairs[k][1]);
+                BattleSnapshot snapshot = new BattleSnapshot(atk.combatant(), def.combatant(), atk.eloRate(), def.eloRate());
+                matches[k] = new BattleService.TournamentMatch(pairs[k][0], pairs[k][1], seeds[k],
+                        SeededBattle.run(snapshot, seeds[k], LogVerbosity.NONE));
+            }
+            progress.addAndGet(to - from);
+        }
+    }
+
+    public TournamentResponse get(String tournamentId) {
+        Tournament tournament = tournaments.get(tournamentId);
+        if (tournament == null) throw new NoSuchElementException("토너먼트를 찾을 수 없습니다.");
+        return toResponse(tournament);
+    }
+
+    /** 끝난 지 오래된 토너먼트 결과 정리 */
+    @Scheduled(fixedDelay = 600_000)
+    public void evictExpiredTournaments() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(RESULT_TTL_HOURS);
+        tournaments.values().removeIf(t -> t.completedAt != null && t.completedAt.isBefore(threshold));
+    }
+
+    private TournamentResponse toResponse(Tournament tournament) {
+        Status status = tournament.status;
+        return TournamentResponse.builder()
+                .tournamentId(tournament.id)
+                .status(status.name())
+                .participants(tournament.participants)
+                .totalMatches(tournament.totalMatches)
+                .completedMatches(tournament.completedMatches.get())
+                .startedAt(tournament.startedAt)
+                .completedAt(tournament.completedAt)
+                .standings(status == Status.DONE ? tournament.standings : null)
+                .error(tournament.error)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdown();
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,100 @@
+-- 기준 스키마 (엔티티 기준). 기존 DB(ddl-auto: update로 만든 DB)에서는 전부 건너뛴다.
+
+CREATE TABLE IF NOT EXISTS game_character (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    name VARCHAR(255) NOT NULL,
+    avatar VARCHAR(255),
+    character_class VARCHAR(255),
+    strength INTEGER NOT NULL DEFAULT 0,
+    dexterity INTEGER NOT NULL DEFAULT 0,
+    constitution INTEGER NOT NULL DEFAULT 0,
+    intelligence INTEGER NOT NULL DEFAULT 0,
+    wisdom INTEGER NOT NULL DEFAULT 0,
+    charisma INTEGER NOT NULL DEFAULT 0,
+    level INTEGER NOT NULL DEFAULT 1,
+    hp INTEGER NOT NULL DEFAULT 0,
+    max_hp INTEGER NOT NULL DEFAULT 0,
+    gold INTEGER NOT NULL DEFAULT 100,
+    elo_rate INTEGER NOT NULL DEFAULT 1000,
+    ip_address VARCHAR(255),
+    last_daily_gold_date DATE,
+    loadout_version INTEGER DEFAULT 0,
+    created_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS equipment (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    name VARCHAR(255) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    grade VARCHAR(255) NOT NULL,
+    attack_bonus INTEGER NOT NULL DEFAULT 0,
+    defense_bonus INTEGER NOT NULL DEFAULT 0,
+    effect VARCHAR(255),
+    effect_chance INTEGER NOT NULL DEFAULT 0,
+    effect_value INTEGER NOT NULL DEFAULT 0,
+    weapon_category VARCHAR(255),
+    base_damage_min INTEGER NOT NULL DEFAULT 0,
+    base_damage_max INTEGER NOT NULL DEFAULT 0,
+    scaling_stat VARCHAR(255),
+    two_handed BOOLEAN NOT NULL DEFAULT 0,
+    equipped BOOLEAN NOT NULL DEFAULT 0,
+    enhance_level INTEGER DEFAULT 0,
+    character_id BIGINT,
+    enhance_effect_slots INTEGER DEFAULT 0,
+    bonus_strength INTEGER DEFAULT 0,
+    bonus_dexterity INTEGER DEFAULT 0,
+    bonus_constitution INTEGER DEFAULT 0,
+    bonus_intelligence INTEGER DEFAULT 0,
+    bonus_wisdom INTEGER DEFAULT 0,
+    bonus_charisma INTEGER DEFAULT 0,
+    FOREIGN KEY (character_id) REFERENCES game_character(id)
+);
+
+CREATE TABLE IF NOT EXISTS base_effect (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    equipment_id BIGINT NOT NULL,
+    effect VARCHAR(50) NOT NULL,
+    effect_chance INTEGER DEFAULT 0,
+    effect_value INTEGER DEFAULT 0,
+    FOREIGN KEY (equipment_id) REFERENCES equipment(id)
+);
+
+CREATE TABLE IF NOT EXISTS enhance_effect (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    equipment_id BIGINT NOT NULL,
+    effect VARCHAR(50) NOT NULL,
+    effect_chance INTEGER DEFAULT 0,
+    effect_value INTEGER DEFAULT 0,
+    FOREIGN KEY (equipment_id) REFERENCES equipment(id)
+);
+
+CREATE TABLE IF NOT EXISTS shop_item (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    price INTEGER NOT NULL DEFAULT 0,
+    buff_type VARCHAR(255) NOT NULL,
+    buff_chance INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS inventory (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    character_id BIGINT NOT NULL,
+    shop_item_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL DEFAULT 1,
+    equipped BOOLEAN DEFAULT 0,
+    FOREIGN KEY (character_id) REFERENCES game_character(id),
+    FOREIGN KEY (shop_item_id) REFERENCES shop_item(id)
+);
+
+CREATE TABLE IF NOT EXISTS battle_log (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    attacker_id BIGINT NOT NULL,
+    defender_id BIGINT NOT NULL,
+    winner_id BIGINT,
+    log VARCHAR(255),
+    seed BIGINT,
+    rules_version INTEGER,
+    snapshot BLOB,
+    created_at TIMESTAMP
+);
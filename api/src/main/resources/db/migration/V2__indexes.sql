@@ -0,0 +1,16 @@
+-- 조회 경로별 인덱스
+
+-- ELO 랭킹 (ELO 높은 순, 동점은 id 작은 순)
+CREATE INDEX IF NOT EXISTS idx_game_character_ranking ON game_character (elo_rate DESC, id);
+
+-- 캐릭터별 전투 기록 키셋 페이지 (BattleLogRepository.findAttacksBefore/findDefencesBefore)
+CREATE INDEX IF NOT EXISTS idx_battle_log_attacker ON battle_log (attacker_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_battle_log_defender ON battle_log (defender_id, created_at, id);
+
+-- 장착 장비/물약 (CombatantLoader, 장착/해제)
+CREATE INDEX IF NOT EXISTS idx_equipment_character_equipped ON equipment (character_id, equipped);
+CREATE INDEX IF NOT EXISTS idx_inventory_character_equipped ON inventory (character_id, equipped);
+
+-- 장비별 효과 (fetch join)
+CREATE INDEX IF NOT EXISTS idx_base_effect_equipment ON base_effect (equipment_id);
+CREATE INDEX IF NOT EXISTS idx_enhance_effect_equipment ON enhance_effect (equipment_id);
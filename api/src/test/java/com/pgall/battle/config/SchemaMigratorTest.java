@@ -0,0 +1,146 @@
+package com.pgall.battle.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 임시 파일 SQLite DB에 실제 db/migration 스크립트를 적용한다 */
+class SchemaMigratorTest {
+
+    @TempDir
+    Path dir;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:sqlite:" + dir.resolve("test.db"));
+    }
+
+    @Test
+    void freshDatabaseGetsAllMigrations() throws Exception {
+        new SchemaMigrator(dataSource).afterPropertiesSet();
+
+        assertEquals(List.of(1, 2), versions());
+        Set<String> tables = names("table");
+        assertTrue(tables.containsAll(List.of("game_character", "equipment", "base_effect", "enhance_effect",
+                "shop_item", "inventory", "battle_log")), tables.toString());
+        assertTrue(names("index").containsAll(List.of("idx_battle_log_attacker", "idx_battle_log_defender",
+                "idx_game_character_ranking")));
+    }
+
+    @Test
+    void restartAppliesNothing() throws Exception {
+        new SchemaMigrator(dataSource).afterPropertiesSet();
+        execute("INSERT INTO game_character (name, elo_rate) VALUES ('용사', 1234)");
+
+        new SchemaMigrator(dataSource).afterPropertiesSet();
+
+        assertEquals(List.of(1, 2), versions());
+        assertEquals(1234, queryInt("SELECT elo_rate FROM game_character WHERE name = '용사'"));
+    }
+
+    @Test
+    void changedScriptIsRejected() throws Exception {
+        new SchemaMigrator(dataSource).afterPropertiesSet();
+        execute("UPDATE schema_version SET checksum = checksum + 1 WHERE version = 2");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new SchemaMigrator(dataSource).afterPropertiesSet());
+        assertTrue(e.getMessage().contains("V2"), e.getMessage());
+    }
+
+    @Test
+    void legacyDatabaseIsUpgradedInPlace() throws Exception {
+        // schema_version 도입 전 DB: 나중에 붙은 컬럼들이 없다
+        execute("CREATE TABLE game_character (id INTEGER PRIMARY KEY AUTOINCREMENT, name VARCHAR(255) NOT NULL,"
+                + " elo_rate INTEGER NOT NULL DEFAULT 1000)");
+        execute("CREATE TABLE equipment (id INTEGER PRIMARY KEY AUTOINCREMENT, name VARCHAR(255) NOT NULL,"
+                + " equipped BOOLEAN NOT NULL DEFAULT 0, character_id BIGINT)");
+        execute("CREATE TABLE inventory (id INTEGER PRIMARY KEY AUTOINCREMENT, character_id BIGINT NOT NULL,"
+                + " shop_item_id BIGINT NOT NULL, quantity INTEGER NOT NULL DEFAULT 1)");
+        execute("CREATE TABLE battle_log (id INTEGER PRIMARY KEY AUTOINCREMENT, attacker_id BIGINT NOT NULL,"
+                + " defender_id BIGINT NOT NULL, winner_id BIGINT, log VARCHAR(255), created_at TIMESTAMP)");
+        execute("INSERT INTO game_character (name, elo_rate) VALUES ('고인물', 1500)");
+        execute("INSERT INTO equipment (name, character_id) VALUES ('낡은 검', 1)");
+        execute("INSERT INTO battle_log (attacker_id, defender_id, winner_id, log) VALUES (1, 2, 1, '옛 기록')");
+
+        new SchemaMigrator(dataSource).afterPropertiesSet();
+
+        assertEquals(List.of(1, 2), versions());
+        assertTrue(columns("game_character").contains("loadout_version"));
+        assertTrue(columns("equipment").containsAll(List.of("enhance_level", "enhance_effect_slots",
+                "bonus_strength", "bonus_dexterity", "bonus_constitution",
+                "bonus_intelligence", "bonus_wisdom", "bonus_charisma")));
+        assertTrue(columns("inventory").contains("equipped"));
+        assertTrue(columns("battle_log").containsAll(List.of("seed", "rules_version", "snapshot")));
+        // 기존 데이터는 그대로, 새 컬럼은 기본값
+        assertEquals(1500, queryInt("SELECT elo_rate FROM game_character WHERE name = '고인물'"));
+        assertEquals(0, queryInt("SELECT loadout_version FROM game_character WHERE name = '고인물'"));
+        assertEquals(0, queryInt("SELECT enhance_level FROM equipment WHERE name = '낡은 검'"));
+        assertEquals(1, queryInt("SELECT count(*) FROM battle_log WHERE seed IS NULL AND log = '옛 기록'"));
+        // 없던 테이블은 V1이 만든다
+        assertTrue(names("table").containsAll(List.of("shop_item", "base_effect", "enhance_effect")));
+        assertTrue(names("index").contains("idx_battle_log_attacker"));
+    }
+
+    private List<Integer> versions() throws SQLException {
+        List<Integer> versions = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version FROM schema_version ORDER BY version")) {
+            while (rs.next()) versions.add(rs.getInt(1));
+        }
+        return versions;
+    }
+
+    private Set<String> names(String type) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type = '" + type + "'")) {
+            while (rs.next()) names.add(rs.getString(1));
+        }
+        return names;
+    }
+
+    private Set<String> columns(String table) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) columns.add(rs.getString("name"));
+        }
+        return columns;
+    }
+
+    private int queryInt(String sql) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            assertTrue(rs.next(), sql);
+            return rs.getInt(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.pgall.battle.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleLockManagerTest {
+
+    private SimpleMeterRegistry registry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private BattleLockManager manager(int stripes) {
+        return new BattleLockManager(stripes, new GameMetrics(registry));
+    }
+
+    @Test
+    void stripeCountRoundsUpToPowerOfTwo() {
+        assertEquals(1024, manager(1024).getStripeCount());
+        assertEquals(1024, manager(1000).getStripeCount());
+        assertEquals(4, manager(3).getStripeCount());
+    }
+
+    @Test
+    void oppositeOrderDoesNotDeadlock() throws Exception {
+        BattleLockManager locks = manager(1024);
+        int rounds = 20_000;
+        int[] shared = new int[1];
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+            boolean reversed = w % 2 == 1;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < rounds; i++) {
+                    try (BattleLockManager.Lease ignored = reversed ? locks.lock(2L, 1L) : locks.lock(1L, 2L)) {
+                        shared[0]++;
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : workers) f.get(30, TimeUnit.SECONDS); // 데드락이면 TimeoutException
+
+        // 모두 같은 두 캐릭터의 락을 잡으므로 증가가 유실되지 않아야 한다
+        assertEquals(4 * rounds, shared[0]);
+        assertEquals(4L * rounds, locks.getAcquisitions());
+    }
+
+    @Test
+    void waitsForHolderOfSameCharacter() throws Exception {
+        BattleLockManager locks = manager(1024);
+        BattleLockManager.Lease held = locks.lock(1L, 2L);
+
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Long> waiter = executor.submit(() -> {
+            started.countDown();
+            try (BattleLockManager.Lease lease = locks.lock(3L, 2L)) {
+                return lease.waitNanos();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertThrows(TimeoutException.class, () -> waiter.get(200, TimeUnit.MILLISECONDS));
+
+        held.close();
+        long waited = waiter.get(5, TimeUnit.SECONDS);
+        // 대기 측정은 lock() 안에서 시작하므로 스레드 시작 지연만큼 200ms보다 짧을 수 있다
+        assertTrue(waited >= TimeUnit.MILLISECONDS.toNanos(100), "대기 " + waited + "ns");
+        assertEquals(2, locks.getAcquisitions());
+        assertTrue(locks.getMaxWaitNanos() >= waited);
+        assertTrue(locks.getTotalWaitNanos() >= waited);
+        assertEquals(2, registry.get("battle.lock.wait").timer().count());
+    }
+
+    @Test
+    void disjointParticipantsDoNotWait() throws Exception {
+        BattleLockManager locks = manager(1024);
+        // 1024개 스트라이프에서 1~4번은 모두 다른 스트라이프에 들어간다
+        try (BattleLockManager.Lease ignored = locks.lock(1L, 2L)) {
+            executor.submit(() -> {
+                locks.lock(3L, 4L).close();
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void duplicateAndNullIdsAreLockedOnce() throws Exception {
+        // 스트라이프 2개: 여러 ID가 같은 스트라이프를 공유한다
+        BattleLockManager locks = manager(1);
+        assertEquals(2, locks.getStripeCount());
+
+        try (BattleLockManager.Lease ignored = locks.lock(1L, 1L, 2L, 3L, 4L, null)) {
+            assertNotNull(ignored);
+        }
+        // 모두 풀렸으면 다른 스레드가 바로 잡을 수 있다
+        executor.submit(() -> {
+            locks.lock(1L, 2L, 3L, 4L, null).close();
+            return null;
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void closeIsIdempotent() throws Exception {
+        BattleLockManager locks = manager(16);
+        BattleLockManager.Lease lease = locks.lock(5L, 6L);
+        lease.close();
+        lease.close(); // 두 번째 close가 다시 unlock하면 IllegalMonitorStateException
+
+        // 다른 스레드가 잡은 상태에서 이전 핸들을 닫아도 남의 락을 풀지 않는다
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> {
+            try (BattleLockManager.Lease ignored = locks.lock(5L, 6L)) {
+                acquired.countDown();
+                release.await();
+            }
+            return null;
+        });
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        lease.close();
+        Future<?> waiter = executor.submit(() -> {
+            locks.lock(6L).close();
+            return null;
+        });
+        assertThrows(TimeoutException.class, () -> waiter.get(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        waiter.get(5, TimeUnit.SECONDS);
+    }
+}
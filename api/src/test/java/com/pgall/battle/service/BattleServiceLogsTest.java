@@ -0,0 +1,182 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.dto.BattleLogPageResponse;
+import com.pgall.battle.dto.BattleLogSummaryResponse;
+import com.pgall.battle.repository.BattleLogRepository;
+import com.pgall.battle.repository.BattleLogSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전투 기록 키셋 페이지: 공격/방어 쿼리를 각각 size+1개씩 읽어 합쳐도
+ * 커서를 따라가면 전체 기록이 빠짐없이, 중복 없이 최신 순으로 나와야 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BattleServiceLogsTest {
+
+    private static final long ME = 7L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private record Row(Long id, Long attackerId, Long defenderId, Long winnerId, LocalDateTime createdAt)
+            implements BattleLogSummary {
+        @Override public Long getId() { return id; }
+        @Override public Long getAttackerId() { return attackerId; }
+        @Override public Long getDefenderId() { return defenderId; }
+        @Override public Long getWinnerId() { return winnerId; }
+        @Override public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+
+    /** 쿼리와 같은 순서: createdAt desc, id desc */
+    private static final Comparator<Row> NEWEST_FIRST =
+            Comparator.comparing(Row::createdAt).thenComparing(Row::id).reversed();
+
+    @Mock
+    private BattleLogRepository battleLogRepository;
+
+    @InjectMocks
+    private BattleService battleService;
+
+    private final List<Limit> limits = new ArrayList<>();
+
+    @Test
+    void cursorWalksMergedHistoryWithoutGapsOrDuplicates() {
+        List<Row> rows = history(120, 20);
+        List<Long> expected = mine(rows);
+
+        for (int size = 1; size <= 9; size++) {
+            assertEquals(expected, walk(size), "size " + size);
+        }
+        // 페이지마다 각 쿼리는 size+1개까지만 읽는다
+        assertTrue(limits.stream().allMatch(l -> l.max() >= 2 && l.max() <= 10));
+    }
+
+    @Test
+    void sameTimestampIsOrderedByIdAcrossPages() {
+        // 모든 기록이 같은 시각: 커서의 id가 순서를 이어 준다
+        List<Row> rows = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            rows.add(id % 2 == 0 ? new Row(id, ME, 99L, ME, BASE) : new Row(id, 99L, ME, 99L, BASE));
+        }
+        stub(rows);
+
+        BattleLogPageResponse first = battleService.getLogs(ME, null, 4);
+        assertEquals(List.of(10L, 9L, 8L, 7L), ids(first));
+        assertEquals(BASE + ",7", first.getNextCursor());
+
+        BattleLogPageResponse second = battleService.getLogs(ME, first.getNextCursor(), 4);
+        assertEquals(List.of(6L, 5L, 4L, 3L), ids(second));
+
+        BattleLogPageResponse last = battleService.getLogs(ME, second.getNextCursor(), 4);
+        assertEquals(List.of(2L, 1L), ids(last));
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void lastPageExactlyFullHasNoCursor() {
+        List<Row> rows = new ArrayList<>();
+        rows.add(new Row(1L, ME, 2L, ME, BASE));
+        rows.add(new Row(2L, 3L, ME, ME, BASE.plusSeconds(1)));
+        stub(rows);
+
+        BattleLogPageResponse page = battleService.getLogs(ME, null, 2);
+
+        assertEquals(List.of(2L, 1L), ids(page));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void onlyOneSideHasHistory() {
+        List<Row> rows = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) rows.add(new Row(id, 99L, ME, 99L, BASE.plusMinutes(id)));
+        stub(rows);
+
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), walk(2));
+    }
+
+    @Test
+    void rejectsBadCursorAndSize() {
+        assertThrows(IllegalArgumentException.class, () -> battleService.getLogs(ME, "abc", 10));
+        assertThrows(IllegalArgumentException.class, () -> battleService.getLogs(ME, "2026-01-01T12:00", 10));
+        assertThrows(IllegalArgumentException.class, () -> battleService.getLogs(ME, "2026-01-01T12:00,x", 10));
+        assertThrows(IllegalArgumentException.class, () -> battleService.getLogs(ME, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> battleService.getLogs(ME, null, 101));
+    }
+
+    /** 랜덤 기록 (시각이 겹치는 행 포함, 나와 무관한 기록도 섞는다) */
+    private List<Row> history(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Row> rows = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            LocalDateTime at = BASE.plusSeconds(random.nextInt(count / 3));
+            long other = 100 + random.nextInt(5);
+            rows.add(switch (random.nextInt(3)) {
+                case 0 -> new Row(id, ME, other, ME, at);
+                case 1 -> new Row(id, other, ME, other, at);
+                default -> new Row(id, other, other + 10, other, at);
+            });
+        }
+        stub(rows);
+        return rows;
+    }
+
+    /** 리포지토리 쿼리 흉내: 한쪽 조건 + (createdAt, id) < 커서, 최신 순 limit개 */
+    private void stub(List<Row> rows) {
+        when(battleLogRepository.findAttacksBefore(anyLong(), any(), anyLong(), any()))
+                .thenAnswer(inv -> query(rows, Row::attackerId, inv.getArgument(0), inv.getArgument(1), inv.getArgument(2), inv.getArgument(3)));
+        when(battleLogRepository.findDefencesBefore(anyLong(), any(), anyLong(), any()))
+                .thenAnswer(inv -> query(rows, Row::defenderId, inv.getArgument(0), inv.getArgument(1), inv.getArgument(2), inv.getArgument(3)));
+    }
+
+    private List<BattleLogSummary> query(List<Row> rows, Function<Row, Long> side,
+                                         Long characterId, LocalDateTime beforeAt, Long beforeId, Limit limit) {
+        limits.add(limit);
+        return rows.stream()
+                .filter(r -> side.apply(r).equals(characterId))
+                .filter(r -> r.createdAt().isBefore(beforeAt) || (r.createdAt().equals(beforeAt) && r.id() < beforeId))
+                .sorted(NEWEST_FIRST)
+                .limit(limit.max())
+                .map(r -> (BattleLogSummary) r)
+                .toList();
+    }
+
+    private List<Long> walk(int size) {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            BattleLogPageResponse page = battleService.getLogs(ME, cursor, size);
+            assertTrue(page.getItems().size() <= size);
+            if (page.getNextCursor() != null) assertEquals(size, page.getItems().size());
+            seen.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+
+    private static List<Long> mine(List<Row> rows) {
+        return rows.stream()
+                .filter(r -> r.attackerId() == ME || r.defenderId() == ME)
+                .sorted(NEWEST_FIRST)
+                .map(Row::id)
+                .toList();
+    }
+
+    private static List<Long> ids(BattleLogPageResponse page) {
+        return page.getItems().stream().map(BattleLogSummaryResponse::getId).toList();
+    }
+}
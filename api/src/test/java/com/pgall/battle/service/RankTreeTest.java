@@ -0,0 +1,115 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.enums.CharacterClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankTreeTest {
+
+    /** 랭킹 순서: ELO 높은 순, 같은 ELO는 id 작은 순 (RatingIndex와 같다) */
+    private static final Comparator<RatingIndex.Rated> RANKING =
+            Comparator.comparingInt(RatingIndex.Rated::eloRate).reversed().thenComparing(RatingIndex.Rated::id);
+
+    private final RankTree tree = new RankTree(RANKING);
+
+    @Test
+    void emptyTree() {
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.rank(1L));
+        assertNull(tree.get(1L));
+        assertNull(tree.select(1));
+    }
+
+    @Test
+    void sameEloIsOrderedById() {
+        tree.put(rated(3, 1000));
+        tree.put(rated(1, 1000));
+        tree.put(rated(2, 1000));
+        tree.put(rated(4, 1100));
+
+        assertEquals(1, tree.rank(4L));
+        assertEquals(2, tree.rank(1L));
+        assertEquals(3, tree.rank(2L));
+        assertEquals(4, tree.rank(3L));
+        assertEquals(4L, tree.select(1).id());
+        assertEquals(3L, tree.select(4).id());
+        assertNull(tree.select(0));
+        assertNull(tree.select(5));
+    }
+
+    @Test
+    void putReplacesPreviousEntry() {
+        tree.put(rated(1, 1000));
+        tree.put(rated(2, 1050));
+        assertEquals(2, tree.rank(1L));
+
+        tree.put(rated(1, 1100));
+
+        assertEquals(2, tree.size());
+        assertEquals(1, tree.rank(1L));
+        assertEquals(1100, tree.get(1L).eloRate());
+        assertEquals(2, tree.rank(2L));
+    }
+
+    @Test
+    void removeDropsEntryAndIgnoresUnknownId() {
+        tree.put(rated(1, 1000));
+        tree.put(rated(2, 900));
+
+        tree.remove(1L);
+        tree.remove(99L);
+
+        assertEquals(1, tree.size());
+        assertEquals(0, tree.rank(1L));
+        assertEquals(1, tree.rank(2L));
+        assertEquals(2L, tree.select(1).id());
+    }
+
+    @Test
+    void randomOperationsMatchSortedList() {
+        SplittableRandom random = new SplittableRandom(20);
+        Map<Long, RatingIndex.Rated> oracle = new HashMap<>();
+        for (int op = 0; op < 5_000; op++) {
+            long id = 1 + random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                tree.remove(id);
+                oracle.remove(id);
+            } else {
+                // 범위를 좁게 잡아서 같은 ELO가 많이 생기게 한다
+                RatingIndex.Rated r = rated(id, 990 + random.nextInt(20));
+                tree.put(r);
+                oracle.put(id, r);
+            }
+            if (op % 250 == 0) assertMatches(oracle);
+        }
+        assertMatches(oracle);
+    }
+
+    private void assertMatches(Map<Long, RatingIndex.Rated> oracle) {
+        List<RatingIndex.Rated> sorted = new ArrayList<>(oracle.values());
+        sorted.sort(RANKING);
+
+        assertEquals(sorted.size(), tree.size());
+        for (int k = 1; k <= sorted.size(); k++) {
+            RatingIndex.Rated expected = sorted.get(k - 1);
+            assertEquals(expected, tree.select(k));
+            assertEquals(k, tree.rank(expected.id()));
+        }
+        assertNull(tree.select(sorted.size() + 1));
+        for (long id = 1; id <= 300; id++) {
+            if (!oracle.containsKey(id)) assertEquals(0, tree.rank(id));
+        }
+    }
+
+    private static RatingIndex.Rated rated(long id, int elo) {
+        return new RatingIndex.Rated(id, elo, "캐릭터" + id, null, CharacterClass.WARRIOR);
+    }
+}
@@ -0,0 +1,165 @@
+package com.pgall.battle.service;
+
+import com.pgall.battle.dto.RankResponse;
+import com.pgall.battle.entity.GameCharacter;
+import com.pgall.battle.enums.CharacterClass;
+import com.pgall.battle.repository.GameCharacterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RatingIndexTest {
+
+    private final RatingIndex index = new RatingIndex(mock(GameCharacterRepository.class));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rankIsHigherEloFirstThenLowerId() {
+        index.update(character(1, 1000), character(2, 1200), character(3, 1000), character(4, 900));
+
+        assertRank(2, 1, 4);
+        assertRank(1, 2, 4);
+        assertRank(3, 3, 4);
+        assertRank(4, 4, 4);
+        assertEquals(1200, index.rank(2L).getEloRate());
+    }
+
+    @Test
+    void rankFollowsEloChanges() {
+        index.update(character(1, 1000), character(2, 1100), character(3, 1200));
+        assertRank(1, 3, 3);
+
+        index.update(character(1, 1150));
+
+        assertRank(3, 1, 3);
+        assertRank(1, 2, 3);
+        assertRank(2, 3, 3);
+    }
+
+    @Test
+    void aroundReturnsNeighboursInRankingOrder() {
+        for (long id = 1; id <= 10; id++) index.update(character(id, 1000 + 10 * (int) id)); // 10번이 1등
+
+        RankResponse middle = index.around(6L, 2);
+
+        assertEquals(5, middle.getRank());
+        assertEquals(10, middle.getTotal());
+        assertEquals(List.of(3, 4, 5, 6, 7), ranks(middle));
+        assertEquals(List.of(8L, 7L, 6L, 5L, 4L), ids(middle));
+        assertEquals("캐릭터6", middle.getAround().get(2).getName());
+        assertEquals("WARRIOR", middle.getAround().get(2).getCharacterClass());
+    }
+
+    @Test
+    void aroundIsClippedAtBothEnds() {
+        for (long id = 1; id <= 5; id++) index.update(character(id, 1000 + (int) id));
+
+        assertEquals(List.of(5L, 4L, 3L), ids(index.around(5L, 2)));
+        assertEquals(List.of(3L, 2L, 1L), ids(index.around(1L, 2)));
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), ids(index.around(3L, 50)));
+    }
+
+    @Test
+    void rankWithoutAroundHasNoList() {
+        index.update(character(1, 1000));
+
+        assertNull(index.rank(1L).getAround());
+    }
+
+    @Test
+    void rejectsUnknownCharacterAndBadWindow() {
+        index.update(character(1, 1000));
+
+        assertThrows(NoSuchElementException.class, () -> index.rank(2L));
+        assertThrows(NoSuchElementException.class, () -> index.around(2L, 3));
+        assertThrows(IllegalArgumentException.class, () -> index.around(1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> index.around(1L, 51));
+    }
+
+    @Test
+    void removedCharacterLeavesRanking() {
+        index.update(character(1, 1000), character(2, 1100), character(3, 1200));
+
+        index.remove(2L);
+
+        assertRank(1, 2, 2);
+        assertThrows(NoSuchElementException.class, () -> index.rank(2L));
+    }
+
+    @Test
+    void lateCallbackDoesNotOverwriteNewerValue() {
+        index.update(character(1, 1000), character(2, 1100));
+
+        // 커밋 후 콜백이 호출 순서와 반대로 실행돼도 마지막 호출 값이 남는다
+        List<TransactionSynchronization> callbacks = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+        index.update(character(1, 1200));
+        callbacks.addAll(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        index.update(character(1, 1050));
+        callbacks.addAll(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+
+        callbacks.get(1).afterCommit();
+        callbacks.get(0).afterCommit();
+
+        assertEquals(1050, index.rank(1L).getEloRate());
+        assertRank(2, 1, 2);
+    }
+
+    @Test
+    void lateUpdateDoesNotReviveRemovedCharacter() {
+        index.update(character(1, 1000), character(2, 1100));
+
+        List<TransactionSynchronization> callbacks = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+        index.update(character(1, 1200));
+        callbacks.addAll(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        index.remove(1L);
+
+        callbacks.get(0).afterCommit();
+
+        assertThrows(NoSuchElementException.class, () -> index.rank(1L));
+        assertRank(2, 1, 1);
+    }
+
+    private void assertRank(long id, int rank, int total) {
+        RankResponse response = index.rank(id);
+        assertEquals(id, response.getCharacterId());
+        assertEquals(rank, response.getRank());
+        assertEquals(total, response.getTotal());
+    }
+
+    private static List<Integer> ranks(RankResponse response) {
+        return response.getAround().stream().map(RankResponse.Entry::getRank).toList();
+    }
+
+    private static List<Long> ids(RankResponse response) {
+        return response.getAround().stream().map(RankResponse.Entry::getId).toList();
+    }
+
+    private static GameCharacter character(long id, int elo) {
+        return GameCharacter.builder()
+                .id(id)
+                .name("캐릭터" + id)
+                .characterClass(CharacterClass.WARRIOR)
+                .eloRate(elo)
+                .build();
+    }
+}
@@ -13,6 +13,38 @@ async function request<T>(path: string, options?: RequestInit): Promise<T> {
   return res.json();
 }
 
+// text/event-stream 응답을 읽어서 (event, data) 단위로 넘겨준다 (POST라 EventSource 대신 fetch 사용)
+async function streamEvents(path: string, body: unknown, onEvent: (name: string, data: unknown) => void): Promise<void> {
+  const res = await fetch(`${BASE}${path}`, {
+    method: 'POST',
+    headers: { 'Content-Type': 'application/json', Accept: 'text/event-stream' },
+    body: JSON.stringify(body),
+  });
+  if (!res.ok || !res.body) {
+    const err = await res.json().catch(() => ({ error: res.statusText }));
+    throw new Error(err.error || res.statusText);
+  }
+  const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) break;
+    buffer += value.replace(/\r\n/g, '\n');
+    let sep;
+    while ((sep = buffer.indexOf('\n\n')) >= 0) {
+      const block = buffer.slice(0, sep);
+      buffer = buffer.slice(sep + 2);
+      let name = 'message';
+      const data: string[] = [];
+      for (const line of block.split('\n')) {
+        if (line.startsWith('event:')) name = line.slice(6).trim();
+        else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''));
+      }
+      if (data.length) onEvent(name, JSON.parse(data.join('\n')));
+    }
+  }
+}
+
 export interface Stats {
   strength: number;
   dexterity: number;
@@ -112,6 +144,39 @@ export interface Character {
   potions: InventoryItem[];
 }
 
+export interface CharacterSummary {
+  id: number;
+  name: string;
+  avatar: string | null;
+  characterClass: string | null;
+  classKoreanName: string | null;
+  level: number;
+  eloRate: number;
+  gold: number;
+}
+
+export interface CharacterPage {
+  items: CharacterSummary[];
+  nextCursor: string | null;
+}
+
+export interface RankEntry {
+  rank: number;
+  id: number;
+  name: string;
+  avatar: string | null;
+  characterClass: string | null;
+  eloRate: number;
+}
+
+export interface Rank {
+  characterId: number;
+  eloRate: number;
+  rank: number;
+  total: number;
+  around: RankEntry[] | null;
+}
+
 export interface ShopPotionItem {
   index: number;
   name: string;
@@ -134,13 +199,92 @@ export interface PotionInfo {
   quantity: number;
 }
 
+// 전투 이벤트 (battleLog[i]와 events[i]는 같은 줄)
+export type BattleSide = -1 | 0 | 1; // -1 없음, 0 공격자, 1 방어자
+
+export interface BattleEvent {
+  type: string;
+  actor: BattleSide;
+  target: BattleSide;
+  amount: number;
+  hp: number; // HP가 바뀐 쪽(target, 없으면 actor)의 남은 HP, 해당 없으면 -1
+  value: number;
+  versus: number;
+  ref: number; // 물약 슬롯 (attackerPotions/defenderPotions 인덱스)
+  effect: string | null;
+}
+
+export interface MatchOpponent {
+  id: number;
+  name: string;
+  avatar: string;
+  characterClass: string | null;
+  eloRate: number;
+  eloDiff: number;
+  expectedWinRate: number;
+}
+
+export interface MatchResult {
+  characterId: number;
+  eloRate: number;
+  window: number;
+  opponents: MatchOpponent[];
+}
+
+export interface LoadoutOptimizeResult {
+  characterId: number;
+  applied: boolean;
+  changed: boolean;
+  winRateBefore: number | null; // 참조 상대 평균 승률 (상대가 없으면 null)
+  winRateAfter: number | null;
+  opponentIds: number[];
+  evaluations: number;
+  equipment: Equipment[];
+}
+
+export interface BattlePreview {
+  attackerId: number;
+  defenderId: number;
+  iterations: number;
+  attackerWinRate: number;
+  winRateLow: number; // 95% 신뢰구간
+  winRateHigh: number;
+  averageRounds: number;
+  timeoutRate: number;
+  cached: boolean;
+}
+
+export interface BattleLogSummary {
+  id: number;
+  attackerId: number;
+  defenderId: number;
+  winnerId: number | null;
+  createdAt: string;
+}
+
+export interface BattleLogPage {
+  items: BattleLogSummary[]; // 최신 순
+  nextCursor: string | null;
+}
+
+export interface BattleLogEntry extends BattleLogSummary {
+  log: string;
+}
+
+/** 전투 로그 기록 수준 (NONE: 로그 없음, SUMMARY: 시작/종료/보상/ELO만, FULL: 전체) */
+export type LogVerbosity = 'NONE' | 'SUMMARY' | 'FULL';
+
 export interface BattleResult {
   winnerId: number;
   winnerName: string;
   loserId: number;
   loserName: string;
   battleLog: string[];
+  events: BattleEvent[];
   goldReward: number;
+  loserGoldReward: number;
+  winnerEloChange: number;
+  loserEloChange: number;
   attackerName: string;
   defenderName: string;
   attackerAvatar: string | null;
@@ -155,12 +299,29 @@ export interface BattleResult {
   defenderPotions: PotionInfo[];
 }
 
+// 스트리밍 전투의 라운드 묶음 (round 0 = 전투 준비, lines[i]와 events[i]는 같은 줄)
+export interface BattleRound {
+  round: number;
+  events: BattleEvent[];
+  lines: string[];
+}
+
+export interface BattleStreamHandlers {
+  onStart: (header: BattleResult) => void; // 참가자 정보만 채워짐
+  onRound: (round: BattleRound) => void;
+  onSummary: (summary: BattleResult) => void; // battleLog/events 없음
+}
+
 export const api = {
   randomStats: () => request<Stats>('/characters/random-stats'),
   createCharacter: (data: Stats & { name: string; avatar?: string; characterClass?: string }) =>
     request<Character>('/characters', { method: 'POST', body: JSON.stringify(data) }),
-  getCharacters: () => request<Character[]>('/characters'),
-  getRanking: () => request<Character[]>('/characters/ranking'),
+  getCharacters: (cursor?: string | null, size = 20) =>
+    request<CharacterPage>(`/characters?size=${size}${cursor ? `&cursor=${encodeURIComponent(cursor)}` : ''}`),
+  getRanking: (cursor?: string | null, size = 20) =>
+    request<CharacterPage>(`/characters/ranking?size=${size}${cursor ? `&cursor=${encodeURIComponent(cursor)}` : ''}`),
+  getRank: (id: number) => request<Rank>(`/characters/${id}/rank`),
+  getRankAround: (id: number, n = 5) => request<Rank>(`/characters/${id}/rank/around?n=${n}`),
   getCharacter: (id: number) => request<Character>(`/characters/${id}`),
   getMyCharacter: () => request<Character>('/characters/mine'),
   dailyCheck: (characterId: number) =>
@@ -173,10 +334,24 @@ export const api = {
     request<ShopResponse>(`/shop/${characterId}/refresh`, { method: 'POST' }),
   buyPotion: (characterId: number, index: number) =>
     request<ShopResponse>(`/shop/${characterId}/buy/${index}`, { method: 'POST' }),
-  battle: (attackerId: number, defenderId: number) =>
+  battle: (attackerId: number, defenderId: number, verbosity?: LogVerbosity) =>
     request<BattleResult>('/battle', {
       method: 'POST',
-      body: JSON.stringify({ attackerId, defenderId }),
+      body: JSON.stringify({ attackerId, defenderId, verbosity }),
+    }),
+  findMatches: (characterId: number, limit = 5) =>
+    request<MatchResult>(`/battle/match/${characterId}?limit=${limit}`),
+  previewBattle: (attackerId: number, defenderId: number) =>
+    request<BattlePreview>(`/battle/preview?attackerId=${attackerId}&defenderId=${defenderId}`),
+  getBattleLogs: (characterId: number, cursor?: string | null, size = 20) =>
+    request<BattleLogPage>(`/battle/logs/${characterId}?size=${size}${cursor ? `&cursor=${encodeURIComponent(cursor)}` : ''}`),
+  getBattleLog: (logId: number) => request<BattleLogEntry>(`/battle/log/${logId}`),
+  battleStream: (attackerId: number, defenderId: number, handlers: BattleStreamHandlers) =>
+    streamEvents('/battle/stream', { attackerId, defenderId }, (name, data) => {
+      if (name === 'start') handlers.onStart(data as BattleResult);
+      else if (name === 'round') handlers.onRound(data as BattleRound);
+      else if (name === 'summary') handlers.onSummary(data as BattleResult);
+      else if (name === 'error') throw new Error((data as { error: string }).error);
     }),
   deleteCharacter: (id: number) =>
     request<void>(`/characters/${id}`, { method: 'DELETE' }),
@@ -187,6 +362,8 @@ export const api = {
   unequipItem: (characterId: number, equipmentId: number) =>
     request<Equipment>(`/characters/${characterId}/equipment/${equipmentId}/unequip`, { method: 'PUT' }),
   // 물약
+  optimizeLoadout: (characterId: number, apply = false) =>
+    request<LoadoutOptimizeResult>(`/characters/${characterId}/equipment/optimize?apply=${apply}`, { method: 'POST' }),
   equipPotion: (characterId: number, inventoryId: number) =>
     request<{ success: boolean }>(`/characters/${characterId}/potion/${inventoryId}/equip`, { method: 'PUT' }),
   unequipPotion: (characterId: number, inventoryId: number) =>
@@ -1,9 +1,12 @@
 import { useEffect, useState } from 'react';
 import { CLASS_COLOR } from '../data/classes';
-import type { PotionInfo } from '../api/client';
+import type { BattleEvent, PotionInfo } from '../api/client';
 import SpriteAvatar from './SpriteAvatar';
 import type { AnimationType } from './SpriteAvatar';
 
+const ATTACK_EVENTS = ['HIT', 'CRITICAL', 'EXECUTE', 'VORPAL', 'CHAOS_STRIKE', 'COUNTER_ATTACK'];
+const MISS_EVENTS = ['MISS', 'BLOCK', 'EVADE', 'SHIELD_BLOCK', 'MANA_SHIELD'];
+
 interface BattleArenaProps {
   attackerAvatar: string | null;
   defenderAvatar: string | null;
@@ -15,7 +18,7 @@ interface BattleArenaProps {
   defenderMaxHp: number;
   attackerFinalHp?: number;
   defenderFinalHp?: number;
-  currentLog: string | null;
+  currentEvent: BattleEvent | null;
   logIndex: number;
   battleFinished: boolean;
   winnerId: number | null;
@@ -29,7 +32,7 @@ export default function BattleArena({
   attackerAvatar, defenderAvatar, attackerClass, defenderClass,
   attackerName, defenderName, attackerMaxHp, defenderMaxHp,
   attackerFinalHp, defenderFinalHp,
-  currentLog, logIndex, battleFinished, winnerId, attackerId, defenderId,
+  currentEvent, logIndex, battleFinished, winnerId, attackerId, defenderId,
   attackerPotions, defenderPotions,
 }: BattleArenaProps) {
   const [attackerHp, setAttackerHp] = useState(attackerMaxHp);
@@ -69,57 +72,26 @@ export default function BattleArena({
     }
   }, [battleFinished, winnerId, attackerId, defenderId]);
 
-  // Handle log-based animations (only when battle is ongoing)
+  // Handle event-based animations (only when battle is ongoing)
   useEffect(() => {
-    if (!currentLog || battleFinished) return;
-
-    // Parse HP from attack log: "X -> Y (...남은HP:N)"
-    const attackHpMatch = currentLog.match(/(.+?)\s*->\s*(.+?)\s*\(.*남은\s*HP[:\s]*(-?\d+)/);
-    if (attackHpMatch) {
-      const targetPart = attackHpMatch[2].trim();
-      const hp = Math.max(0, Number(attackHpMatch[3]));
-      if (targetPart.includes(defenderName)) setDefenderHp(hp);
-      else if (targetPart.includes(attackerName)) setAttackerHp(hp);
-    }
-
-    // Parse revival: "X의 재기! HP N로 부활!"
-    const reviveMatch = currentLog.match(/(.+?)의\s*(?:재기|죽음의 보호).*HP\s*(\d+)/);
-    if (reviveMatch) {
-      const hp = Number(reviveMatch[2]);
-      if (currentLog.includes(defenderName)) setDefenderHp(hp);
-      else if (currentLog.includes(attackerName)) setAttackerHp(hp);
-    }
+    if (!currentEvent || battleFinished) return;
 
-    // Parse non-attack HP changes: bleed/poison/regen/heal
-    if (!attackHpMatch && !reviveMatch) {
-      const hpMatch = currentLog.match(/[（(](?:남은)?HP[:\s]*(-?\d+)[）)]/);
-      if (hpMatch) {
-        const hp = Math.max(0, Number(hpMatch[1]));
-        const defIdx = currentLog.indexOf(defenderName);
-        const atkIdx = currentLog.indexOf(attackerName);
-        if (defIdx >= 0 && (atkIdx < 0 || defIdx < atkIdx)) setDefenderHp(hp);
-        else if (atkIdx >= 0) setAttackerHp(hp);
-      }
-    }
-
-    if (currentLog.includes('패배') || currentLog.includes('쓰러')) {
-      if (currentLog.includes(attackerName)) setAttackerHp(0);
-      if (currentLog.includes(defenderName)) setDefenderHp(0);
+    // HP 변화: target이 있으면 target, 없으면 actor의 남은 HP
+    if (currentEvent.hp >= 0) {
+      const side = currentEvent.target >= 0 ? currentEvent.target : currentEvent.actor;
+      if (side === 0) setAttackerHp(currentEvent.hp);
+      else if (side === 1) setDefenderHp(currentEvent.hp);
     }
 
-    // Track potion usage
-    if (currentLog.includes('사용!')) {
-      const potionMatch = currentLog.match(/의\s+(.+?)\s+사용/);
-      if (potionMatch) {
-        setUsedPotions(prev => new Set(prev).add(potionMatch[1]));
-      }
+    // Track potion usage (side:slot)
+    if (currentEvent.type === 'POTION_HEAL' || currentEvent.type === 'POTION_BUFF') {
+      const key = `${currentEvent.actor}:${currentEvent.ref}`;
+      setUsedPotions(prev => new Set(prev).add(key));
     }
 
-    // Determine who is acting in this log line
-    const attackerActing = currentLog.includes(`${attackerName}`) &&
-      (currentLog.includes(`${attackerName} ->`) || currentLog.includes(`${attackerName}의`));
-    const defenderActing = currentLog.includes(`${defenderName}`) &&
-      (currentLog.includes(`${defenderName} ->`) || currentLog.includes(`${defenderName}의`));
+    // Determine who is acting in this event
+    const attackerActing = currentEvent.actor === 0;
+    const defenderActing = currentEvent.actor === 1;
 
     // Reset paused state for active animations
     setLeftPaused(true);
@@ -127,9 +99,8 @@ export default function BattleArena({
     setLeftFrozenFrame(0);
     setRightFrozenFrame(0);
 
-    const isAttackLog = currentLog.includes('명중') || currentLog.includes('크리티컬') ||
-      currentLog.includes('데미지를 입') || currentLog.includes('공격');
-    const isMissLog = currentLog.includes('빗나감') || currentLog.includes('차단') || currentLog.includes('회피');
+    const isAttackLog = ATTACK_EVENTS.includes(currentEvent.type);
+    const isMissLog = MISS_EVENTS.includes(currentEvent.type);
 
     const MAGIC_CLASSES = ['MAGE', 'CLERIC'];
     const leftAttackAnim: AnimationType = MAGIC_CLASSES.includes(attackerClass || '') ? 'magicAttack' : 'attack';
@@ -171,14 +142,14 @@ export default function BattleArena({
       }
     }, 500);
     return () => clearTimeout(timer);
-  }, [currentLog, logIndex]);
+  }, [currentEvent, logIndex]);
 
-  const renderPotions = (potions?: PotionInfo[]) => {
+  const renderPotions = (side: number, potions?: PotionInfo[]) => {
     if (!potions || potions.length === 0) return null;
     return (
       <div style={{ display: 'flex', gap: 3, marginTop: 4, flexWrap: 'wrap', justifyContent: 'center' }}>
         {potions.map((p, i) => {
-          const used = usedPotions.has(p.name);
+          const used = usedPotions.has(`${side}:${i}`);
           return (
             <div key={i} style={{
               fontSize: '0.55rem', padding: '2px 5px', borderRadius: 4,
@@ -224,7 +195,7 @@ export default function BattleArena({
           <div className="hp-fill" style={{ width: `${hpPct}%`, background: hpColor }} />
         </div>
         <div className="hp-text">{hp}/{maxHp}</div>
-        {renderPotions(potions)}
+        {renderPotions(flip ? 1 : 0, potions)}
       </div>
     );
   };
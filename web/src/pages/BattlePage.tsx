@@ -1,14 +1,37 @@
 import { useEffect, useRef, useState } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
-import { api, type BattleResult } from '../api/client';
+import { api, type BattleEvent, type BattleResult } from '../api/client';
+
+interface LogLine {
+  text: string;
+  event: BattleEvent;
+}
 import BattleArena from '../components/BattleArena';
 
+// 이벤트 종류별 로그 색상
+const LOG_COLOR: Record<string, string> = {
+  CRITICAL: '#e74c3c',
+  REWARD: '#ffd700',
+  MISS: '#666', EVADE: '#666',
+  START: '#6c5ce7', BATTLE_END: '#6c5ce7',
+  ROUND: '#555',
+  SHIELD_BLOCK: '#f39c12', STUN: '#f39c12', DEF_DOWN: '#f39c12', ATK_DOWN: '#f39c12',
+  STUNNED: '#9b59b6', STUN_RESIST: '#9b59b6', SILENCE_APPLY: '#9b59b6', DISARM_APPLY: '#9b59b6',
+  BLOCK: '#3498db', ABSORB_SHIELD: '#3498db', MANA_SHIELD: '#3498db', ABSORB: '#3498db',
+  POISON_DAMAGE: '#27ae60', BLEED_DAMAGE: '#27ae60', BLEED_APPLY: '#27ae60',
+  LIFE_STEAL: '#e74c3c', VAMPIRIC_AURA: '#e74c3c', MANA_DRAIN: '#e74c3c',
+  CLASS_HEAL: '#2ecc71', HP_REGEN: '#2ecc71',
+  ELEMENT: '#e67e22', RESIST: '#e67e22',
+  POTION_HEAL: '#1abc9c', POTION_BUFF: '#1abc9c',
+};
+const BOLD_EVENTS = ['START', 'BATTLE_END', 'REWARD'];
+
 export default function BattlePage() {
   const { attackerId, defenderId } = useParams();
   const navigate = useNavigate();
 
   const [result, setResult] = useState<BattleResult | null>(null);
-  const [displayedLogs, setDisplayedLogs] = useState<string[]>([]);
+  const [displayedLogs, setDisplayedLogs] = useState<LogLine[]>([]);
   const [currentLogIndex, setCurrentLogIndex] = useState(-1);
   const [battling, setBattling] = useState(true);
   const [battleFinished, setBattleFinished] = useState(false);
@@ -26,29 +49,52 @@ export default function BattlePage() {
     logEndRef.current?.scrollIntoView({ behavior: 'smooth' });
   }, [displayedLogs]);
 
-  const getLogDelay = (log: string): number => {
+  const getLogDelay = (event: BattleEvent): number => {
     // Attack/damage logs get longer delay for animation sync
-    if (log.includes('명중') || log.includes('크리티컬') || log.includes('데미지를 입') ||
-        log.includes('빗나감') || log.includes('차단')) {
-      return 800;
-    }
+    if (['HIT', 'MISS', 'CRITICAL', 'BLOCK', 'SHIELD_BLOCK'].includes(event.type)) return 800;
     // Round markers
-    if (log.includes('===')) return 600;
+    if (event.type === 'START' || event.type === 'BATTLE_END') return 600;
     // Victory/defeat
-    if (log.includes('승리') || log.includes('패배')) return 1000;
+    if (event.type === 'REWARD' || event.type === 'CONSOLATION') return 1000;
     // Everything else (buffs, potions, status effects)
     return 400;
   };
 
   const startBattle = async () => {
+    // 서버가 라운드를 보내는 대로 쌓고, 재생은 쌓인 만큼 연출 속도에 맞춰 진행
+    const pending: LogLine[] = [];
+    let summary: BattleResult | null = null;
+    let streamDone = false;
+    let wake: (() => void) | null = null;
+    const notify = () => { wake?.(); wake = null; };
+
+    const stream = api.battleStream(Number(attackerId), Number(defenderId), {
+      onStart: (header) => setResult({ ...header, battleLog: [], events: [] }),
+      onRound: (round) => {
+        round.lines.forEach((text, i) => pending.push({ text, event: round.events[i] }));
+        notify();
+      },
+      onSummary: (s) => { summary = s; },
+    }).then(() => null, (e: unknown) => e).finally(() => { streamDone = true; notify(); });
+
     try {
-      const res = await api.battle(Number(attackerId), Number(defenderId));
-      setResult(res);
-      for (let i = 0; i < res.battleLog.length; i++) {
-        await delay(getLogDelay(res.battleLog[i]));
-        setDisplayedLogs((prev) => [...prev, res.battleLog[i]]);
-        setCurrentLogIndex(i);
+      for (let i = 0; ; ) {
+        if (i < pending.length) {
+          const line = pending[i];
+          await delay(getLogDelay(line.event));
+          setDisplayedLogs((prev) => [...prev, line]);
+          setCurrentLogIndex(i);
+          i++;
+        } else if (streamDone) {
+          break;
+        } else {
+          await new Promise<void>((resolve) => { wake = resolve; });
+        }
       }
+      const err = await stream;
+      if (err) throw err;
+      const final = summary as BattleResult | null;
+      if (final) setResult((prev) => prev && { ...prev, ...final, battleLog: prev.battleLog, events: prev.events });
       setBattleFinished(true);
     } catch (e: unknown) {
       setError(e instanceof Error ? e.message : '전투 실패');
@@ -59,7 +105,7 @@ export default function BattlePage() {
 
   const delay = (ms: number) => new Promise((resolve) => setTimeout(resolve, ms));
 
-  const currentLog = result && currentLogIndex >= 0 ? result.battleLog[currentLogIndex] : null;
+  const currentEvent = currentLogIndex >= 0 ? displayedLogs[currentLogIndex]?.event ?? null : null;
 
   return (
     <div>
@@ -78,7 +124,7 @@ export default function BattlePage() {
           defenderMaxHp={result.defenderMaxHp}
           attackerFinalHp={result.attackerFinalHp}
           defenderFinalHp={result.defenderFinalHp}
-          currentLog={currentLog}
+          currentEvent={currentEvent}
           logIndex={currentLogIndex}
           battleFinished={battleFinished}
           winnerId={result.winnerId}
@@ -96,24 +142,11 @@ export default function BattlePage() {
       }}>
         {displayedLogs.map((log, i) => (
           <div key={i} style={{
-            color: log.includes('크리티컬') ? '#e74c3c' :
-                   log.includes('승리') ? '#ffd700' :
-                   log.includes('빗나감') || log.includes('회피') ? '#666' :
-                   log.includes('===') ? '#6c5ce7' :
-                   log.includes('---') ? '#555' :
-                   log.includes('발동') || log.includes('효과') ? '#f39c12' :
-                   log.includes('기절') || log.includes('침묵') || log.includes('무장 해제') ? '#9b59b6' :
-                   log.includes('차단') || log.includes('보호막') ? '#3498db' :
-                   log.includes('독') || log.includes('출혈') ? '#27ae60' :
-                   log.includes('흡수') || log.includes('흡혈') ? '#e74c3c' :
-                   log.includes('회복') || log.includes('재생') ? '#2ecc71' :
-                   log.includes('화염') || log.includes('빙결') || log.includes('번개') ? '#e67e22' :
-                   log.includes('물약') ? '#1abc9c' :
-                   '#ccc',
-            fontWeight: log.includes('===') || log.includes('승리') ? 'bold' : 'normal',
+            color: LOG_COLOR[log.event.type] ?? '#ccc',
+            fontWeight: BOLD_EVENTS.includes(log.event.type) ? 'bold' : 'normal',
             padding: '1px 0',
           }}>
-            {log}
+            {log.text}
           </div>
         ))}
         {battling && <div style={{ color: '#999' }}>전투 진행 중...</div>}
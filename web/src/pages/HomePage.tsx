@@ -1,18 +1,35 @@
 import { useEffect, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { api, type Character } from '../api/client';
+import { api, type CharacterSummary } from '../api/client';
 import { CLASS_EMOJI, CLASS_COLOR } from '../data/classes';
 import SpriteAvatar from '../components/SpriteAvatar';
 
 export default function HomePage() {
   const navigate = useNavigate();
-  const [characters, setCharacters] = useState<Character[]>([]);
+  const [characters, setCharacters] = useState<CharacterSummary[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState('');
   const [myId, setMyId] = useState(0);
 
+  const loadMore = () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    api.getRanking(nextCursor)
+      .then(page => {
+        setCharacters(prev => [...prev, ...page.items]);
+        setNextCursor(page.nextCursor);
+      })
+      .catch(e => setError(e instanceof Error ? e.message : '로딩 실패'))
+      .finally(() => setLoadingMore(false));
+  };
+
   useEffect(() => {
     api.getRanking()
-      .then(setCharacters)
+      .then(page => {
+        setCharacters(page.items);
+        setNextCursor(page.nextCursor);
+      })
       .catch(e => setError(e instanceof Error ? e.message : '로딩 실패'));
 
     // IP 기반으로 내 캐릭터 조회
@@ -90,6 +107,12 @@ export default function HomePage() {
         </div>
       ))}
 
+      {nextCursor && (
+        <button className="btn-blue mt-12" onClick={loadMore} disabled={loadingMore}>
+          {loadingMore ? '불러오는 중...' : '더 보기'}
+        </button>
+      )}
+
       {error && <p className="error mt-12">{error}</p>}
     </div>
   );